@@ -0,0 +1,166 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs;
+
+import java.io.File;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@code ConcurrentRestDocumentation} is used to manually manage the
+ * {@link RestDocumentationContext} when tests run concurrently. Unlike
+ * {@link ManualRestDocumentation}, a single instance can be shared by tests that are
+ * running at the same time, for example by JUnit's parallel execution of the methods of
+ * a test instance. Each test's context is bound to the thread that called
+ * {@link #beforeTest(Class, String)} and to any thread that it subsequently creates,
+ * including the virtual threads of a thread-per-task executor, until
+ * {@link #afterTest()} is called. A thread that inherits a binding can begin a test of
+ * its own, replacing the inherited binding.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ * @see RestDocumentationExtension
+ */
+public final class ConcurrentRestDocumentation implements RestDocumentationContextProvider {
+
+	private final InheritableThreadLocal<@Nullable Test> currentTest = new InheritableThreadLocal<>();
+
+	private final File outputDirectory;
+
+	/**
+	 * Creates a new {@code ConcurrentRestDocumentation} instance that will generate
+	 * snippets to &lt;gradle/maven build path&gt;/generated-snippets.
+	 */
+	public ConcurrentRestDocumentation() {
+		this(ManualRestDocumentation.getDefaultOutputDirectory());
+	}
+
+	/**
+	 * Creates a new {@code ConcurrentRestDocumentation} instance that will generate
+	 * snippets to the given {@code outputDirectory}.
+	 * @param outputDirectory the output directory
+	 */
+	public ConcurrentRestDocumentation(String outputDirectory) {
+		this(new File(outputDirectory));
+	}
+
+	private ConcurrentRestDocumentation(File outputDirectory) {
+		this.outputDirectory = outputDirectory;
+	}
+
+	/**
+	 * Notification that a test is about to begin on the current thread. Creates a
+	 * {@link RestDocumentationContext} for the test on the given {@code testClass} with
+	 * the given {@code testMethodName} and binds it to the current thread. Must be
+	 * followed by a call to {@link #afterTest()} on the same thread once the test has
+	 * completed.
+	 * <p>
+	 * The returned provider is bound to the new test rather than to a thread. It can be
+	 * used to document the test's operations on threads that did not inherit the
+	 * binding, such as those of a pre-existing thread pool.
+	 * @param testClass the test class
+	 * @param testMethodName the name of the test method
+	 * @return a provider for the test's context
+	 * @throws IllegalStateException if a test that was begun on the current thread is
+	 * still active
+	 */
+	public RestDocumentationContextProvider beforeTest(Class<?> testClass, String testMethodName) {
+		Test active = getActiveTest();
+		Assert.state(active == null || active.thread != Thread.currentThread(),
+				() -> "A test is already active on this thread. Did you forget to call afterTest()?");
+		Test test = new Test(new StandardRestDocumentationContext(testClass, testMethodName, this.outputDirectory),
+				Thread.currentThread());
+		this.currentTest.set(test);
+		return test;
+	}
+
+	/**
+	 * Notification that the test that is active on the current thread has completed.
+	 * Clears the {@link RestDocumentationContext} that was previously established by a
+	 * call to {@link #beforeTest(Class, String)}, including for any threads that
+	 * inherited it.
+	 */
+	public void afterTest() {
+		Test test = this.currentTest.get();
+		if (test != null && test.thread == Thread.currentThread()) {
+			test.active = false;
+		}
+		this.currentTest.remove();
+	}
+
+	/**
+	 * Notification that the given {@code test}, previously returned from
+	 * {@link #beforeTest(Class, String)}, has completed. Unlike {@link #afterTest()},
+	 * the test is completed even if this method is called on a thread other than the one
+	 * that began it.
+	 * @param test the test that has completed
+	 */
+	void afterTest(RestDocumentationContextProvider test) {
+		Assert.isInstanceOf(Test.class, test);
+		((Test) test).active = false;
+		if (this.currentTest.get() == test) {
+			this.currentTest.remove();
+		}
+	}
+
+	/**
+	 * Returns whether a test is active on the current thread.
+	 * @return {@code true} if a test is active, otherwise {@code false}
+	 */
+	public boolean isTestActive() {
+		return getActiveTest() != null;
+	}
+
+	@Override
+	public RestDocumentationContext beforeOperation() {
+		Test test = getActiveTest();
+		Assert.state(test != null,
+				() -> "No test is active on this thread. Did you forget to call beforeTest(Class, String)?");
+		return test.beforeOperation();
+	}
+
+	private @Nullable Test getActiveTest() {
+		Test test = this.currentTest.get();
+		return (test != null && test.active) ? test : null;
+	}
+
+	private static final class Test implements RestDocumentationContextProvider {
+
+		private final StandardRestDocumentationContext context;
+
+		private final Thread thread;
+
+		private volatile boolean active = true;
+
+		private Test(StandardRestDocumentationContext context, Thread thread) {
+			this.context = context;
+			this.thread = thread;
+		}
+
+		@Override
+		public RestDocumentationContext beforeOperation() {
+			Assert.state(this.active, () -> "Test " + this.context.getTestClass().getName() + "."
+					+ this.context.getTestMethodName() + " has completed");
+			this.context.getAndIncrementStepCount();
+			return this.context;
+		}
+
+	}
+
+}
@@ -26,7 +26,9 @@ import org.springframework.util.Assert;
 /**
  * {@code ManualRestDocumentation} is used to manually manage the
  * {@link RestDocumentationContext}. Primarly intended for use with TestNG, but suitable
- * for use in any environment where manual management of the context is required.
+ * for use in any environment where manual management of the context is required. An
+ * instance supports one test at a time. {@link ConcurrentRestDocumentation} should be
+ * used when tests run concurrently.
  * <p>
  * Users of JUnit should use {@link RestDocumentationExtension} and take advantage of its
  * {@link Extension}-based support for automatic management of the context.
@@ -90,7 +92,7 @@ public final class ManualRestDocumentation implements RestDocumentationContextPr
 		return this.context;
 	}
 
-	private static File getDefaultOutputDirectory() {
+	static File getDefaultOutputDirectory() {
 		if (new File("pom.xml").exists()) {
 			return new File("target/generated-snippets");
 		}
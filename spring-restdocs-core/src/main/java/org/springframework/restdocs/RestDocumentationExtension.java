@@ -17,23 +17,28 @@
 package org.springframework.restdocs;
 
 import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.Extension;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolver;
 
+import org.springframework.util.Assert;
+
 /**
  * A JUnit Jupiter {@link Extension} used to automatically manage the
- * {@link RestDocumentationContext}.
+ * {@link RestDocumentationContext}. Tests may be run concurrently, including when they
+ * share a test instance.
  *
  * @author Andy Wilkinson
  */
 public class RestDocumentationExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
 
-	private final @Nullable String outputDirectory;
+	private final ConcurrentRestDocumentation documentation;
 
 	/**
 	 * Creates a new {@code RestDocumentationExtension} that will use the default output
@@ -50,50 +55,69 @@ public class RestDocumentationExtension implements BeforeEachCallback, AfterEach
 	 * @since 2.0.4
 	 */
 	public RestDocumentationExtension(@Nullable String outputDirectory) {
-		this.outputDirectory = outputDirectory;
+		this.documentation = (outputDirectory != null) ? new ConcurrentRestDocumentation(outputDirectory)
+				: new ConcurrentRestDocumentation();
 	}
 
 	@Override
 	public void beforeEach(ExtensionContext context) throws Exception {
-		this.getDelegate(context).beforeTest(context.getRequiredTestClass(), context.getRequiredTestMethod().getName());
+		RestDocumentationContextProvider test = this.documentation.beforeTest(context.getRequiredTestClass(),
+				context.getRequiredTestMethod().getName());
+		getStore(context).put(RestDocumentationContextProvider.class, test);
 	}
 
 	@Override
 	public void afterEach(ExtensionContext context) throws Exception {
-		this.getDelegate(context).afterTest();
+		this.documentation.afterTest(getTest(context));
 	}
 
 	@Override
 	public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
-		if (isTestMethodContext(extensionContext)) {
+		if (isTestMethodContext(extensionContext) || isPerClassContext(extensionContext)) {
 			return RestDocumentationContextProvider.class.isAssignableFrom(parameterContext.getParameter().getType());
 		}
 		return false;
 	}
 
+	/**
+	 * Resolves a {@link RestDocumentationContextProvider}. When resolved for a test
+	 * method, or a method that runs before or after it, the provider uses the context of
+	 * that test, irrespective of the thread on which it is used. When resolved for a
+	 * test class with a {@link Lifecycle#PER_CLASS per-class} lifecycle, for example as
+	 * a parameter of its constructor or of a {@code @BeforeAll} method, the provider uses
+	 * the context of the test that is active on the current thread. This allows such a
+	 * provider to be stored in a field of a test instance that is shared by tests that
+	 * run concurrently.
+	 * @param parameterContext the parameter context
+	 * @param context the extension context
+	 * @return the provider
+	 */
 	@Override
 	public Object resolveParameter(ParameterContext parameterContext, ExtensionContext context) {
-		return (RestDocumentationContextProvider) () -> getDelegate(context).beforeOperation();
+		if (isTestMethodContext(context)) {
+			return (RestDocumentationContextProvider) () -> getTest(context).beforeOperation();
+		}
+		return (RestDocumentationContextProvider) this.documentation::beforeOperation;
 	}
 
 	private boolean isTestMethodContext(ExtensionContext context) {
 		return context.getTestClass().isPresent() && context.getTestMethod().isPresent();
 	}
 
-	private ManualRestDocumentation getDelegate(ExtensionContext context) {
-		Namespace namespace = Namespace.create(getClass(), context.getUniqueId());
-		return context.getStore(namespace)
-			.computeIfAbsent(ManualRestDocumentation.class, this::createManualRestDocumentation,
-					ManualRestDocumentation.class);
+	private boolean isPerClassContext(ExtensionContext context) {
+		return context.getTestClass().isPresent()
+				&& context.getTestInstanceLifecycle().filter(Lifecycle.PER_CLASS::equals).isPresent();
 	}
 
-	private ManualRestDocumentation createManualRestDocumentation(Class<ManualRestDocumentation> key) {
-		if (this.outputDirectory != null) {
-			return new ManualRestDocumentation(this.outputDirectory);
-		}
-		else {
-			return new ManualRestDocumentation();
-		}
+	private RestDocumentationContextProvider getTest(ExtensionContext context) {
+		RestDocumentationContextProvider test = getStore(context).get(RestDocumentationContextProvider.class,
+				RestDocumentationContextProvider.class);
+		Assert.state(test != null, () -> "No test is active for " + context.getUniqueId());
+		return test;
+	}
+
+	private Store getStore(ExtensionContext context) {
+		return context.getStore(Namespace.create(getClass(), context.getUniqueId()));
 	}
 
 }
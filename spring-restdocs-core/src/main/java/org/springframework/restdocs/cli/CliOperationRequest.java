@@ -17,23 +17,26 @@
 package org.springframework.restdocs.cli;
 
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.lang.Contract;
+import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.operation.OperationRequest;
 import org.springframework.restdocs.operation.OperationRequestPart;
 import org.springframework.restdocs.operation.RequestCookie;
+import org.springframework.restdocs.operation.SerializedOperationRequest;
+import org.springframework.util.MultiValueMap;
 
 /**
  * An {@link OperationRequest} wrapper with methods that are useful when producing a
@@ -44,14 +47,37 @@ import org.springframework.restdocs.operation.RequestCookie;
  */
 final class CliOperationRequest implements OperationRequest {
 
-	private final Set<HeaderFilter> headerFilters;
+	private static final String ATTRIBUTE_NAME = CliOperationRequest.class.getName();
 
-	private final OperationRequest delegate;
+	private final SerializedOperationRequest delegate;
 
-	CliOperationRequest(OperationRequest delegate) {
+	private final HttpHeaders headers;
+
+	private final @Nullable MediaType contentType;
+
+	private CliOperationRequest(SerializedOperationRequest delegate) {
 		this.delegate = delegate;
-		this.headerFilters = new HashSet<>(Arrays.asList(new NamedHeaderFilter(HttpHeaders.CONTENT_LENGTH),
-				new BasicAuthHeaderFilter(), new HostHeaderFilter(delegate.getUri())));
+		this.headers = filterHeaders(delegate);
+		this.contentType = this.headers.getContentType();
+	}
+
+	/**
+	 * Returns the {@code CliOperationRequest} for the request of the given
+	 * {@code operation}. The request is created when it is first needed and is then
+	 * stored in the operation's attributes so that it can be shared by all of the
+	 * operation's CLI snippets.
+	 * @param operation the operation
+	 * @return the CLI request
+	 */
+	static CliOperationRequest of(Operation operation) {
+		SerializedOperationRequest serialized = SerializedOperationRequest.of(operation);
+		Object existing = operation.getAttributes().get(ATTRIBUTE_NAME);
+		if (existing instanceof CliOperationRequest && ((CliOperationRequest) existing).delegate == serialized) {
+			return (CliOperationRequest) existing;
+		}
+		CliOperationRequest request = new CliOperationRequest(serialized);
+		operation.getAttributes().put(ATTRIBUTE_NAME, request);
+		return request;
 	}
 
 	boolean isPutOrPost() {
@@ -71,31 +97,55 @@ final class CliOperationRequest implements OperationRequest {
 		return this.delegate.getContent();
 	}
 
+	@Override
+	public ByteBuffer getContentAsByteBuffer() {
+		return this.delegate.getContentAsByteBuffer();
+	}
+
 	@Override
 	public String getContentAsString() {
 		return this.delegate.getContentAsString();
 	}
 
+	boolean hasContent() {
+		return this.delegate.hasContent();
+	}
+
+	@Nullable MediaType getContentType() {
+		return this.contentType;
+	}
+
+	MultiValueMap<String, String> getFormParameters() {
+		return this.delegate.getFormParameters();
+	}
+
 	@Override
 	public HttpHeaders getHeaders() {
+		return this.headers;
+	}
+
+	private static HttpHeaders filterHeaders(OperationRequest request) {
+		List<HeaderFilter> headerFilters = Arrays.asList(new NamedHeaderFilter(HttpHeaders.CONTENT_LENGTH),
+				new BasicAuthHeaderFilter(), new HostHeaderFilter(request.getUri()));
 		HttpHeaders filteredHeaders = new HttpHeaders();
-		for (Entry<String, List<String>> header : this.delegate.getHeaders().headerSet()) {
-			if (allowedHeader(header)) {
+		for (Entry<String, List<String>> header : request.getHeaders().headerSet()) {
+			if (allowedHeader(header, headerFilters, request.getUri())) {
 				filteredHeaders.put(header.getKey(), header.getValue());
 			}
 		}
 		return HttpHeaders.readOnlyHttpHeaders(filteredHeaders);
 	}
 
-	private boolean allowedHeader(Map.Entry<String, List<String>> header) {
-		for (HeaderFilter headerFilter : this.headerFilters) {
+	private static boolean allowedHeader(Map.Entry<String, List<String>> header, List<HeaderFilter> headerFilters,
+			URI uri) {
+		for (HeaderFilter headerFilter : headerFilters) {
 			if (!headerFilter.allow(header.getKey(), header.getValue())) {
 				return false;
 			}
 		}
 		if (HttpHeaders.HOST.equalsIgnoreCase(header.getKey()) && (!header.getValue().isEmpty())) {
 			String value = header.getValue().get(0);
-			if (value.equals(this.delegate.getUri().getHost() + ":" + this.delegate.getUri().getPort())) {
+			if (value.equals(uri.getHost() + ":" + uri.getPort())) {
 				return false;
 			}
 		}
@@ -81,6 +81,11 @@ public class CurlRequestSnippet extends TemplatedSnippet {
 		return model;
 	}
 
+	@Override
+	protected boolean performsValidation() {
+		return false;
+	}
+
 	private String getUrl(Operation operation) {
 		OperationRequest request = operation.getRequest();
 		return String.format("'%s'", request.getUri());
@@ -90,7 +95,7 @@ public class CurlRequestSnippet extends TemplatedSnippet {
 		StringBuilder builder = new StringBuilder();
 		writeIncludeHeadersInOutputOption(builder);
 
-		CliOperationRequest request = new CliOperationRequest(operation.getRequest());
+		CliOperationRequest request = CliOperationRequest.of(operation);
 		writeUserOptionIfNecessary(request, builder);
 		writeHttpMethod(request, builder);
 
@@ -136,8 +141,8 @@ public class CurlRequestSnippet extends TemplatedSnippet {
 	private void writeHeaders(CliOperationRequest request, List<String> lines) {
 		for (Entry<String, List<String>> entry : request.getHeaders().headerSet()) {
 			for (String header : entry.getValue()) {
-				if (StringUtils.hasText(request.getContentAsString()) && HttpHeaders.CONTENT_TYPE.equals(entry.getKey())
-						&& MediaType.APPLICATION_FORM_URLENCODED.equals(request.getHeaders().getContentType())) {
+				if (request.hasContent() && HttpHeaders.CONTENT_TYPE.equals(entry.getKey())
+						&& MediaType.APPLICATION_FORM_URLENCODED.equals(request.getContentType())) {
 					continue;
 				}
 				lines.add(String.format("-H '%s: %s'", entry.getKey(), header));
@@ -165,9 +170,8 @@ public class CurlRequestSnippet extends TemplatedSnippet {
 	}
 
 	private void writeContent(CliOperationRequest request, List<String> lines) {
-		String content = request.getContentAsString();
-		if (StringUtils.hasText(content)) {
-			lines.add(String.format("-d '%s'", content));
+		if (request.hasContent()) {
+			lines.add(String.format("-d '%s'", request.getContentAsString()));
 		}
 	}
 
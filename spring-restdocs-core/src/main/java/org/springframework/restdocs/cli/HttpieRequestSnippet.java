@@ -28,7 +28,6 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.restdocs.operation.FormParameters;
 import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.operation.OperationRequest;
 import org.springframework.restdocs.operation.OperationRequestPart;
@@ -77,7 +76,7 @@ public class HttpieRequestSnippet extends TemplatedSnippet {
 	@Override
 	protected Map<String, Object> createModel(Operation operation) {
 		Map<String, Object> model = new HashMap<>();
-		CliOperationRequest request = new CliOperationRequest(operation.getRequest());
+		CliOperationRequest request = CliOperationRequest.of(operation);
 		model.put("echoContent", getContentStandardIn(request));
 		model.put("options", getOptions(request));
 		model.put("url", getUrl(request));
@@ -85,13 +84,17 @@ public class HttpieRequestSnippet extends TemplatedSnippet {
 		return model;
 	}
 
+	@Override
+	protected boolean performsValidation() {
+		return false;
+	}
+
 	private Object getContentStandardIn(CliOperationRequest request) {
-		if (MediaType.APPLICATION_FORM_URLENCODED.isCompatibleWith(request.getHeaders().getContentType())) {
+		if (MediaType.APPLICATION_FORM_URLENCODED.isCompatibleWith(request.getContentType())) {
 			return "";
 		}
-		String content = request.getContentAsString();
-		if (StringUtils.hasText(content)) {
-			return String.format("echo '%s' | ", content);
+		if (request.hasContent()) {
+			return String.format("echo '%s' | ", request.getContentAsString());
 		}
 		return "";
 	}
@@ -119,11 +122,11 @@ public class HttpieRequestSnippet extends TemplatedSnippet {
 		return this.commandFormatter.format(lines);
 	}
 
-	private void writeOptions(OperationRequest request, PrintWriter writer) {
+	private void writeOptions(CliOperationRequest request, PrintWriter writer) {
 		if (!request.getParts().isEmpty()) {
 			writer.print("--multipart ");
 		}
-		else if (MediaType.APPLICATION_FORM_URLENCODED.isCompatibleWith(request.getHeaders().getContentType())) {
+		else if (MediaType.APPLICATION_FORM_URLENCODED.isCompatibleWith(request.getContentType())) {
 			writer.print("--form ");
 		}
 	}
@@ -139,9 +142,9 @@ public class HttpieRequestSnippet extends TemplatedSnippet {
 		writer.print(String.format("%s", request.getMethod().name()));
 	}
 
-	private void writeFormDataIfNecessary(OperationRequest request, List<String> lines) {
-		if (MediaType.APPLICATION_FORM_URLENCODED.isCompatibleWith(request.getHeaders().getContentType())) {
-			FormParameters.from(request)
+	private void writeFormDataIfNecessary(CliOperationRequest request, List<String> lines) {
+		if (MediaType.APPLICATION_FORM_URLENCODED.isCompatibleWith(request.getContentType())) {
+			request.getFormParameters()
 				.forEach((key, values) -> values.forEach((value) -> lines.add(String.format("'%s=%s'", key, value))));
 		}
 		else {
@@ -160,11 +163,11 @@ public class HttpieRequestSnippet extends TemplatedSnippet {
 		}
 	}
 
-	private void writeHeaders(OperationRequest request, List<String> lines) {
+	private void writeHeaders(CliOperationRequest request, List<String> lines) {
 		HttpHeaders headers = request.getHeaders();
 		for (Entry<String, List<String>> entry : headers.headerSet()) {
 			if (entry.getKey().equals(HttpHeaders.CONTENT_TYPE)) {
-				MediaType contentType = headers.getContentType();
+				MediaType contentType = request.getContentType();
 				if (contentType != null && contentType.isCompatibleWith(MediaType.APPLICATION_FORM_URLENCODED)) {
 					continue;
 				}
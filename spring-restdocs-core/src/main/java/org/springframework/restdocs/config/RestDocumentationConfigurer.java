@@ -26,6 +26,8 @@ import com.samskivert.mustache.Mustache;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.json.JsonCodec;
+import org.springframework.restdocs.operation.ContentStorage;
 import org.springframework.restdocs.snippet.RestDocumentationContextPlaceholderResolverFactory;
 import org.springframework.restdocs.snippet.StandardWriterResolver;
 import org.springframework.restdocs.snippet.WriterResolver;
@@ -53,6 +55,10 @@ public abstract class RestDocumentationConfigurer<S extends AbstractConfigurer,
 
 	private final TemplateEngineConfigurer templateEngineConfigurer = new TemplateEngineConfigurer();
 
+	private final JsonCodecConfigurer jsonCodecConfigurer = new JsonCodecConfigurer();
+
+	private final ContentStorageConfigurer contentStorageConfigurer = new ContentStorageConfigurer();
+
 	/**
 	 * Returns a {@link SnippetConfigurer} that can be used to configure the snippets that
 	 * will be generated.
@@ -90,6 +96,37 @@ public abstract class RestDocumentationConfigurer<S extends AbstractConfigurer,
 		return (T) this;
 	}
 
+	/**
+	 * Configures the {@link JsonCodec} that will be used to read and write JSON while
+	 * documenting an operation. By default, {@link JsonCodec#jackson()} is used. The
+	 * codec is made available to snippets as an operation attribute. Preprocessors do not
+	 * have access to the operation's attributes so a codec for pretty printing should be
+	 * configured using
+	 * {@link org.springframework.restdocs.operation.preprocess.Preprocessors#prettyPrint(JsonCodec)}.
+	 * @param jsonCodec the JSON codec to use
+	 * @return {@code this}
+	 * @since 4.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public final T jsonCodec(JsonCodec jsonCodec) {
+		this.jsonCodecConfigurer.setJsonCodec(jsonCodec);
+		return (T) this;
+	}
+
+	/**
+	 * Configures the {@link ContentStorage} that will be used to store the content of
+	 * each operation's request and response while it is documented. By default, all
+	 * content is held on the heap.
+	 * @param contentStorage the content storage to use
+	 * @return {@code this}
+	 * @since 4.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public final T contentStorage(ContentStorage contentStorage) {
+		this.contentStorageConfigurer.setContentStorage(contentStorage);
+		return (T) this;
+	}
+
 	/**
 	 * Applies this configurer to the given {@code configuration} within the given
 	 * {@code context}.
@@ -98,7 +135,8 @@ public abstract class RestDocumentationConfigurer<S extends AbstractConfigurer,
 	 */
 	protected final void apply(Map<String, Object> configuration, RestDocumentationContext context) {
 		List<AbstractConfigurer> configurers = Arrays.asList(snippets(), operationPreprocessors(),
-				this.templateEngineConfigurer, this.writerResolverConfigurer);
+				this.templateEngineConfigurer, this.writerResolverConfigurer, this.jsonCodecConfigurer,
+				this.contentStorageConfigurer);
 		for (AbstractConfigurer configurer : configurers) {
 			configurer.apply(configuration, context);
 		}
@@ -156,4 +194,36 @@ public abstract class RestDocumentationConfigurer<S extends AbstractConfigurer,
 
 	}
 
+	private static final class JsonCodecConfigurer extends AbstractConfigurer {
+
+		private JsonCodec jsonCodec = JsonCodec.jackson();
+
+		@Override
+		public void apply(Map<String, Object> configuration, RestDocumentationContext context) {
+			configuration.put(JsonCodec.class.getName(), this.jsonCodec);
+		}
+
+		private void setJsonCodec(JsonCodec jsonCodec) {
+			this.jsonCodec = jsonCodec;
+		}
+
+	}
+
+	private static final class ContentStorageConfigurer extends AbstractConfigurer {
+
+		private @Nullable ContentStorage contentStorage;
+
+		@Override
+		public void apply(Map<String, Object> configuration, RestDocumentationContext context) {
+			if (this.contentStorage != null) {
+				configuration.put(ContentStorage.ATTRIBUTE_NAME, this.contentStorage);
+			}
+		}
+
+		private void setContentStorage(ContentStorage contentStorage) {
+			this.contentStorage = contentStorage;
+		}
+
+	}
+
 }
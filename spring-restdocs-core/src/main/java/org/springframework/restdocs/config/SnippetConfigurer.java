@@ -21,11 +21,16 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.restdocs.RestDocumentationContext;
 import org.springframework.restdocs.cli.CliDocumentation;
 import org.springframework.restdocs.generate.RestDocumentationGenerator;
 import org.springframework.restdocs.http.HttpDocumentation;
+import org.springframework.restdocs.payload.ArraySampling;
+import org.springframework.restdocs.payload.ParallelArrayProcessing;
 import org.springframework.restdocs.payload.PayloadDocumentation;
+import org.springframework.restdocs.snippet.BinaryContentPolicy;
 import org.springframework.restdocs.snippet.Snippet;
 import org.springframework.restdocs.templates.TemplateFormat;
 import org.springframework.restdocs.templates.TemplateFormats;
@@ -62,6 +67,14 @@ public abstract class SnippetConfigurer<PARENT, TYPE> extends AbstractNestedConf
 
 	private TemplateFormat templateFormat = DEFAULT_TEMPLATE_FORMAT;
 
+	private boolean validationOnly;
+
+	private @Nullable ArraySampling arraySampling;
+
+	private @Nullable ParallelArrayProcessing parallelArrayProcessing;
+
+	private @Nullable BinaryContentPolicy binaryContentPolicy;
+
 	/**
 	 * Creates a new {@code SnippetConfigurer} with the given {@code parent}.
 	 * @param parent the parent
@@ -75,6 +88,18 @@ public abstract class SnippetConfigurer<PARENT, TYPE> extends AbstractNestedConf
 		configuration.put(SnippetConfiguration.class.getName(),
 				new SnippetConfiguration(this.snippetEncoding, this.templateFormat));
 		configuration.put(RestDocumentationGenerator.ATTRIBUTE_NAME_DEFAULT_SNIPPETS, this.defaultSnippets);
+		if (this.validationOnly) {
+			configuration.put(RestDocumentationGenerator.ATTRIBUTE_NAME_VALIDATION_ONLY, Boolean.TRUE);
+		}
+		if (this.arraySampling != null) {
+			configuration.put(ArraySampling.ATTRIBUTE_NAME, this.arraySampling);
+		}
+		if (this.parallelArrayProcessing != null) {
+			configuration.put(ParallelArrayProcessing.ATTRIBUTE_NAME, this.parallelArrayProcessing);
+		}
+		if (this.binaryContentPolicy != null) {
+			configuration.put(BinaryContentPolicy.ATTRIBUTE_NAME, this.binaryContentPolicy);
+		}
 	}
 
 	/**
@@ -124,4 +149,66 @@ public abstract class SnippetConfigurer<PARENT, TYPE> extends AbstractNestedConf
 		return (TYPE) this;
 	}
 
+	/**
+	 * Configures whether snippets should only validate the documented operations. When
+	 * {@code true}, snippets that verify an operation, such as those for fields,
+	 * parameters, headers, and links, will fail if the operation does not match its
+	 * documentation but no snippets will be rendered or written. Snippets that do not
+	 * perform any verification, such as those for curl and HTTP requests, are skipped.
+	 * The default is {@code false}.
+	 * @param validationOnly whether snippets should only validate
+	 * @return {@code this}
+	 * @since 4.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public TYPE withValidationOnly(boolean validationOnly) {
+		this.validationOnly = validationOnly;
+		return (TYPE) this;
+	}
+
+	/**
+	 * Configures the sampling of large arrays when documenting the fields of JSON
+	 * payloads. Sampling configured on an individual snippet takes precedence. By
+	 * default, every element of every array is inspected.
+	 * @param arraySampling the array sampling
+	 * @return {@code this}
+	 * @since 4.1.0
+	 * @see ArraySampling#asAttribute()
+	 */
+	@SuppressWarnings("unchecked")
+	public TYPE withArraySampling(ArraySampling arraySampling) {
+		this.arraySampling = arraySampling;
+		return (TYPE) this;
+	}
+
+	/**
+	 * Configures the parallel processing of large arrays when documenting the fields of
+	 * JSON payloads. Parallel processing configured on an individual snippet takes
+	 * precedence. By default, arrays are processed sequentially.
+	 * @param parallelArrayProcessing the parallel array processing
+	 * @return {@code this}
+	 * @since 4.1.0
+	 * @see ParallelArrayProcessing#asAttribute()
+	 */
+	@SuppressWarnings("unchecked")
+	public TYPE withParallelArrayProcessing(ParallelArrayProcessing parallelArrayProcessing) {
+		this.parallelArrayProcessing = parallelArrayProcessing;
+		return (TYPE) this;
+	}
+
+	/**
+	 * Configures the policy used to identify and summarize binary request and response
+	 * bodies. A policy configured on an individual snippet takes precedence. By default,
+	 * {@link BinaryContentPolicy#defaultPolicy()} is used.
+	 * @param binaryContentPolicy the binary content policy
+	 * @return {@code this}
+	 * @since 4.1.0
+	 * @see BinaryContentPolicy#asAttribute()
+	 */
+	@SuppressWarnings("unchecked")
+	public TYPE withBinaryContentPolicy(BinaryContentPolicy binaryContentPolicy) {
+		this.binaryContentPolicy = binaryContentPolicy;
+		return (TYPE) this;
+	}
+
 }
@@ -17,8 +17,15 @@
 package org.springframework.restdocs.constraints;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Provides access to descriptions of a class's constraints.
@@ -27,21 +34,28 @@ import java.util.List;
  */
 public class ConstraintDescriptions {
 
+	private static final Map<DescriptionsKey, List<String>> cache = new ConcurrentReferenceHashMap<>();
+
 	private final Class<?> clazz;
 
 	private final ConstraintResolver constraintResolver;
 
 	private final ConstraintDescriptionResolver descriptionResolver;
 
+	private final Object constraintResolverKey;
+
+	private final Object descriptionResolverKey;
+
 	/**
 	 * Create a new {@code ConstraintDescriptions} for the given {@code clazz}.
-	 * Constraints will be resolved using a {@link ValidatorConstraintResolver} and
-	 * descriptions will be resolved using a
-	 * {@link ResourceBundleConstraintDescriptionResolver}.
+	 * Constraints will be resolved using a {@link MetadataConstraintResolver} if
+	 * {@link GenerateConstraintMetadata constraint metadata} has been generated for the
+	 * class, otherwise a {@link ValidatorConstraintResolver} will be used. Descriptions
+	 * will be resolved using a {@link ResourceBundleConstraintDescriptionResolver}.
 	 * @param clazz the class
 	 */
 	public ConstraintDescriptions(Class<?> clazz) {
-		this(clazz, new ValidatorConstraintResolver(), new ResourceBundleConstraintDescriptionResolver());
+		this(clazz, defaultConstraintResolver(clazz), true, new ResourceBundleConstraintDescriptionResolver(), true);
 	}
 
 	/**
@@ -53,18 +67,20 @@ public class ConstraintDescriptions {
 	 * @param constraintResolver the constraint resolver
 	 */
 	public ConstraintDescriptions(Class<?> clazz, ConstraintResolver constraintResolver) {
-		this(clazz, constraintResolver, new ResourceBundleConstraintDescriptionResolver());
+		this(clazz, constraintResolver, false, new ResourceBundleConstraintDescriptionResolver(), true);
 	}
 
 	/**
 	 * Create a new {@code ConstraintDescriptions} for the given {@code clazz}.
-	 * Constraints will be resolved using a {@link ValidatorConstraintResolver} and
-	 * descriptions will be resolved using the given {@code descriptionResolver}.
+	 * Constraints will be resolved using a {@link MetadataConstraintResolver} if
+	 * {@link GenerateConstraintMetadata constraint metadata} has been generated for the
+	 * class, otherwise a {@link ValidatorConstraintResolver} will be used. Descriptions
+	 * will be resolved using the given {@code descriptionResolver}.
 	 * @param clazz the class
 	 * @param descriptionResolver the description resolver
 	 */
 	public ConstraintDescriptions(Class<?> clazz, ConstraintDescriptionResolver descriptionResolver) {
-		this(clazz, new ValidatorConstraintResolver(), descriptionResolver);
+		this(clazz, defaultConstraintResolver(clazz), true, descriptionResolver, false);
 	}
 
 	/**
@@ -77,24 +93,113 @@ public class ConstraintDescriptions {
 	 */
 	public ConstraintDescriptions(Class<?> clazz, ConstraintResolver constraintResolver,
 			ConstraintDescriptionResolver descriptionResolver) {
+		this(clazz, constraintResolver, false, descriptionResolver, false);
+	}
+
+	private ConstraintDescriptions(Class<?> clazz, ConstraintResolver constraintResolver,
+			boolean defaultConstraintResolver, ConstraintDescriptionResolver descriptionResolver,
+			boolean defaultDescriptionResolver) {
 		this.clazz = clazz;
 		this.constraintResolver = constraintResolver;
 		this.descriptionResolver = descriptionResolver;
+		this.constraintResolverKey = defaultConstraintResolver ? constraintResolver.getClass() : constraintResolver;
+		this.descriptionResolverKey = defaultDescriptionResolver
+				? Arrays.asList(descriptionResolver.getClass(), Locale.getDefault(),
+						Thread.currentThread().getContextClassLoader())
+				: descriptionResolver;
 	}
 
 	/**
-	 * Returns a list of the descriptions for the constraints on the given property.
+	 * Returns a list of the descriptions for the constraints on the given property. The
+	 * descriptions are resolved when they are first requested and are then reused by
+	 * every {@code ConstraintDescriptions} for the same class that uses the same
+	 * resolvers.
 	 * @param property the property
 	 * @return the list of constraint descriptions
 	 */
 	public List<String> descriptionsForProperty(String property) {
-		List<Constraint> constraints = this.constraintResolver.resolveForProperty(property, this.clazz);
-		List<String> descriptions = new ArrayList<>();
+		return new ArrayList<>(cache.computeIfAbsent(key(property),
+				(key) -> describe(this.constraintResolver.resolveForProperty(property, this.clazz))));
+	}
+
+	/**
+	 * Returns the descriptions for the constraints on all of the class's constrained
+	 * properties, keyed by property name. The constraints of every property are resolved
+	 * at once which is more efficient than calling
+	 * {@link #descriptionsForProperty(String)} for each property.
+	 * @return the constraint descriptions, keyed by property name
+	 * @since 4.1.0
+	 */
+	public Map<String, List<String>> descriptionsForAllProperties() {
+		Map<String, List<String>> allDescriptions = new TreeMap<>();
+		this.constraintResolver.resolveForAllProperties(this.clazz).forEach((property, constraints) -> {
+			List<String> propertyDescriptions = cache.computeIfAbsent(key(property), (key) -> describe(constraints));
+			allDescriptions.put(property, new ArrayList<>(propertyDescriptions));
+		});
+		return allDescriptions;
+	}
+
+	private DescriptionsKey key(String property) {
+		return new DescriptionsKey(this.constraintResolverKey, this.descriptionResolverKey, this.clazz, property);
+	}
+
+	private List<String> describe(List<Constraint> constraints) {
+		List<String> descriptions = new ArrayList<>(constraints.size());
 		for (Constraint constraint : constraints) {
 			descriptions.add(this.descriptionResolver.resolveDescription(constraint));
 		}
 		Collections.sort(descriptions);
-		return descriptions;
+		return Collections.unmodifiableList(descriptions);
+	}
+
+	private static ConstraintResolver defaultConstraintResolver(Class<?> clazz) {
+		if (MetadataConstraintResolver.hasMetadata(clazz)) {
+			return new MetadataConstraintResolver();
+		}
+		return new ValidatorConstraintResolver();
+	}
+
+	/**
+	 * Key for cached descriptions. The default resolvers are identified by their
+	 * configuration, and any other resolver by its identity.
+	 */
+	private static final class DescriptionsKey {
+
+		private final Object constraintResolver;
+
+		private final Object descriptionResolver;
+
+		private final Class<?> clazz;
+
+		private final String property;
+
+		private DescriptionsKey(Object constraintResolver, Object descriptionResolver, Class<?> clazz,
+				String property) {
+			this.constraintResolver = constraintResolver;
+			this.descriptionResolver = descriptionResolver;
+			this.clazz = clazz;
+			this.property = property;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			DescriptionsKey other = (DescriptionsKey) obj;
+			return this.constraintResolver.equals(other.constraintResolver)
+					&& this.descriptionResolver.equals(other.descriptionResolver) && this.clazz == other.clazz
+					&& this.property.equals(other.property);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.constraintResolver, this.descriptionResolver, this.clazz, this.property);
+		}
+
 	}
 
 }
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.constraints;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * Constraint metadata generated by the {@link ConstraintMetadataProcessor}. The metadata
+ * is stored in a properties file with an entry for each constraint, keyed by its
+ * property and index, and an entry for each of the constraint's attributes:
+ *
+ * <pre class="code">
+ * name[0]=jakarta.validation.constraints.Size
+ * name[0].min=int:1
+ * name[0].groups=Class[0]:
+ * </pre>
+ *
+ * Attribute values are prefixed with their type. Class values are stored as class names
+ * and enum values as the names of their constants, prefixed with the name of the enum.
+ * Both are loaded back into {@link Class} and {@link Enum} instances using the class
+ * loader of the constrained class.
+ *
+ * @author Andy Wilkinson
+ */
+final class ConstraintMetadata {
+
+	private static final String LOCATION_PREFIX = "META-INF/spring-restdocs/constraints/";
+
+	private static final Pattern CONSTRAINT_KEY = Pattern.compile("([^\\[]+)\\[(\\d+)\\]");
+
+	private static final Pattern ATTRIBUTE_KEY = Pattern.compile("([^\\[]+)\\[(\\d+)\\]\\.(.+)");
+
+	private static final Pattern ARRAY_TYPE = Pattern.compile("(.+)\\[(\\d+)\\]");
+
+	private final Map<String, List<Constraint>> constraints;
+
+	private ConstraintMetadata(Map<String, List<Constraint>> constraints) {
+		this.constraints = constraints;
+	}
+
+	List<Constraint> getConstraints(String property) {
+		return this.constraints.getOrDefault(property, Collections.emptyList());
+	}
+
+	Map<String, List<Constraint>> getAllConstraints() {
+		return new TreeMap<>(this.constraints);
+	}
+
+	static String location(String className) {
+		return LOCATION_PREFIX + className + ".properties";
+	}
+
+	static ConstraintMetadata load(InputStream input, ClassLoader classLoader) throws IOException {
+		Properties properties = new Properties();
+		properties.load(input);
+		Map<String, Map<Integer, String>> names = new HashMap<>();
+		Map<String, Map<Integer, Map<String, Object>>> configurations = new HashMap<>();
+		for (String key : properties.stringPropertyNames()) {
+			String value = properties.getProperty(key);
+			Matcher constraint = CONSTRAINT_KEY.matcher(key);
+			if (constraint.matches()) {
+				names.computeIfAbsent(constraint.group(1), (property) -> new TreeMap<>())
+					.put(Integer.valueOf(constraint.group(2)), value);
+				continue;
+			}
+			Matcher attribute = ATTRIBUTE_KEY.matcher(key);
+			if (attribute.matches()) {
+				configurations.computeIfAbsent(attribute.group(1), (property) -> new HashMap<>())
+					.computeIfAbsent(Integer.valueOf(attribute.group(2)), (index) -> new HashMap<>())
+					.put(attribute.group(3), decode(value, classLoader));
+			}
+		}
+		Map<String, List<Constraint>> constraints = new HashMap<>();
+		names.forEach((property, namesByIndex) -> {
+			List<Constraint> propertyConstraints = new ArrayList<>(namesByIndex.size());
+			namesByIndex.forEach((index, name) -> propertyConstraints.add(new Constraint(name,
+					configurations.getOrDefault(property, Collections.emptyMap())
+						.getOrDefault(index, Collections.emptyMap()))));
+			constraints.put(property, Collections.unmodifiableList(propertyConstraints));
+		});
+		return new ConstraintMetadata(constraints);
+	}
+
+	private static Object decode(String value, ClassLoader classLoader) {
+		int separator = value.indexOf(':');
+		if (separator < 0) {
+			throw new IllegalStateException("Invalid constraint attribute value '" + value + "'");
+		}
+		String type = value.substring(0, separator);
+		String encoded = value.substring(separator + 1);
+		Matcher arrayType = ARRAY_TYPE.matcher(type);
+		if (!arrayType.matches()) {
+			return parse(resolveType(type, classLoader), encoded, classLoader);
+		}
+		List<String> elements = splitArray(encoded, Integer.parseInt(arrayType.group(2)));
+		Class<?> elementType = resolveType(arrayType.group(1), classLoader);
+		Object array = Array.newInstance(elementType, elements.size());
+		for (int i = 0; i < elements.size(); i++) {
+			Array.set(array, i, parse(elementType, elements.get(i), classLoader));
+		}
+		return array;
+	}
+
+	private static Class<?> resolveType(String type, ClassLoader classLoader) {
+		if ("String".equals(type)) {
+			return String.class;
+		}
+		if ("Class".equals(type)) {
+			return Class.class;
+		}
+		Class<?> resolved = loadClass(type, classLoader);
+		if (!resolved.isPrimitive() && !resolved.isEnum()) {
+			throw new IllegalStateException("Unsupported constraint attribute type '" + type + "'");
+		}
+		return resolved;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object parse(Class<?> type, String value, ClassLoader classLoader) {
+		if (type == String.class) {
+			return value;
+		}
+		if (type == Class.class) {
+			return loadClass(value, classLoader);
+		}
+		if (type.isEnum()) {
+			return Enum.valueOf((Class<? extends Enum>) type, value);
+		}
+		if (type == char.class) {
+			return value.charAt(0);
+		}
+		if (type == boolean.class) {
+			return Boolean.valueOf(value);
+		}
+		if (type == byte.class) {
+			return Byte.valueOf(value);
+		}
+		if (type == short.class) {
+			return Short.valueOf(value);
+		}
+		if (type == int.class) {
+			return Integer.valueOf(value);
+		}
+		if (type == long.class) {
+			return Long.valueOf(value);
+		}
+		if (type == float.class) {
+			return Float.valueOf(value);
+		}
+		if (type == double.class) {
+			return Double.valueOf(value);
+		}
+		throw new IllegalStateException("Unsupported constraint attribute type '" + type.getName() + "'");
+	}
+
+	private static Class<?> loadClass(String name, ClassLoader classLoader) {
+		try {
+			return ClassUtils.forName(name, classLoader);
+		}
+		catch (ClassNotFoundException | LinkageError ex) {
+			throw new IllegalStateException("Failed to load constraint attribute type '" + name + "'", ex);
+		}
+	}
+
+	private static List<String> splitArray(String encoded, int length) {
+		List<String> elements = new ArrayList<>(length);
+		if (length == 0) {
+			return elements;
+		}
+		StringBuilder element = new StringBuilder();
+		for (int i = 0; i < encoded.length(); i++) {
+			char c = encoded.charAt(i);
+			if (c == '\\' && i + 1 < encoded.length()) {
+				element.append(encoded.charAt(++i));
+			}
+			else if (c == ',') {
+				elements.add(element.toString());
+				element.setLength(0);
+			}
+			else {
+				element.append(c);
+			}
+		}
+		elements.add(element.toString());
+		return elements;
+	}
+
+	/**
+	 * Builds the content of a constraint metadata properties file.
+	 */
+	static final class Builder {
+
+		private final StringBuilder content = new StringBuilder();
+
+		Builder constraint(String property, int index, String name) {
+			return entry(property + "[" + index + "]", name);
+		}
+
+		Builder attribute(String property, int index, String attribute, String type, String value) {
+			return entry(property + "[" + index + "]." + attribute, type + ":" + value);
+		}
+
+		Builder arrayAttribute(String property, int index, String attribute, String type, List<String> values) {
+			StringBuilder encoded = new StringBuilder();
+			for (int i = 0; i < values.size(); i++) {
+				if (i > 0) {
+					encoded.append(',');
+				}
+				encoded.append(values.get(i).replace("\\", "\\\\").replace(",", "\\,"));
+			}
+			return entry(property + "[" + index + "]." + attribute, type + "[" + values.size() + "]:" + encoded);
+		}
+
+		String build() {
+			return this.content.toString();
+		}
+
+		private Builder entry(String key, String value) {
+			this.content.append(escape(key, true)).append('=').append(escape(value, false)).append('\n');
+			return this;
+		}
+
+		private static String escape(String value, boolean key) {
+			StringBuilder escaped = new StringBuilder(value.length());
+			for (int i = 0; i < value.length(); i++) {
+				char c = value.charAt(i);
+				if (c == '\\' || (c == ' ' && (key || i == 0))
+						|| (key && (c == '=' || c == ':' || c == '#' || c == '!'))) {
+					escaped.append('\\').append(c);
+				}
+				else if (c == '\n') {
+					escaped.append("\\n");
+				}
+				else if (c == '\r') {
+					escaped.append("\\r");
+				}
+				else if (c == '\t') {
+					escaped.append("\\t");
+				}
+				else if (c < 0x20 || c > 0x7e) {
+					escaped.append(String.format("\\u%04x", (int) c));
+				}
+				else {
+					escaped.append(c);
+				}
+			}
+			return escaped.toString();
+		}
+
+	}
+
+}
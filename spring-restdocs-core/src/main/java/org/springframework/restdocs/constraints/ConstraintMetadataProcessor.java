@@ -0,0 +1,278 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.constraints;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An annotation processor that generates metadata describing the constraints of classes
+ * annotated with {@link GenerateConstraintMetadata @GenerateConstraintMetadata}. The
+ * metadata is consumed by {@link MetadataConstraintResolver}.
+ * <p>
+ * The processor is not registered in {@code META-INF/services}, so having
+ * {@code spring-restdocs-core} on the compile classpath does not enable annotation
+ * processing. It runs only when it is named explicitly, for example using javac's
+ * {@code -processor} option.
+ * <p>
+ * In line with Bean Validation, constraints are found on the fields and getters of the
+ * annotated class and of its superclasses and interfaces. Constraints declared in XML
+ * or through a programmatic API are not found. Attributes whose values are annotations
+ * are not included in the metadata.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ */
+public class ConstraintMetadataProcessor extends AbstractProcessor {
+
+	private static final String CONSTRAINT_ANNOTATION = "jakarta.validation.Constraint";
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton(GenerateConstraintMetadata.class.getName());
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getElementsAnnotatedWith(GenerateConstraintMetadata.class)) {
+			if (element instanceof TypeElement) {
+				writeMetadata((TypeElement) element);
+			}
+		}
+		return false;
+	}
+
+	private void writeMetadata(TypeElement type) {
+		Map<String, List<AnnotationMirror>> constraints = new TreeMap<>();
+		collectConstraints(type, constraints, new HashSet<>());
+		ConstraintMetadata.Builder metadata = new ConstraintMetadata.Builder();
+		constraints.forEach((property, propertyConstraints) -> {
+			for (int i = 0; i < propertyConstraints.size(); i++) {
+				addConstraint(metadata, property, i, propertyConstraints.get(i));
+			}
+		});
+		String className = this.processingEnv.getElementUtils().getBinaryName(type).toString();
+		try {
+			FileObject file = this.processingEnv.getFiler()
+				.createResource(StandardLocation.CLASS_OUTPUT, "", ConstraintMetadata.location(className), type);
+			try (Writer writer = file.openWriter()) {
+				writer.write(metadata.build());
+			}
+		}
+		catch (IOException ex) {
+			this.processingEnv.getMessager()
+				.printMessage(Kind.ERROR, "Failed to write constraint metadata: " + ex.getMessage(), type);
+		}
+	}
+
+	private void collectConstraints(TypeElement type, Map<String, List<AnnotationMirror>> constraints,
+			Set<String> visited) {
+		String typeName = type.getQualifiedName().toString();
+		if (Object.class.getName().equals(typeName) || !visited.add(typeName)) {
+			return;
+		}
+		for (Element member : type.getEnclosedElements()) {
+			String property = getPropertyName(member);
+			if (property != null) {
+				for (AnnotationMirror annotation : member.getAnnotationMirrors()) {
+					List<AnnotationMirror> found = findConstraints(annotation);
+					if (!found.isEmpty()) {
+						constraints.computeIfAbsent(property, (key) -> new ArrayList<>()).addAll(found);
+					}
+				}
+			}
+		}
+		collectConstraints(type.getSuperclass(), constraints, visited);
+		for (TypeMirror implemented : type.getInterfaces()) {
+			collectConstraints(implemented, constraints, visited);
+		}
+	}
+
+	private void collectConstraints(TypeMirror type, Map<String, List<AnnotationMirror>> constraints,
+			Set<String> visited) {
+		if (type.getKind() == TypeKind.DECLARED) {
+			collectConstraints((TypeElement) ((DeclaredType) type).asElement(), constraints, visited);
+		}
+	}
+
+	private @Nullable String getPropertyName(Element member) {
+		if (member.getModifiers().contains(Modifier.STATIC)) {
+			return null;
+		}
+		String name = member.getSimpleName().toString();
+		if (member.getKind() == ElementKind.FIELD) {
+			return name;
+		}
+		if (member.getKind() != ElementKind.METHOD || !((ExecutableElement) member).getParameters().isEmpty()) {
+			return null;
+		}
+		TypeKind returnType = ((ExecutableElement) member).getReturnType().getKind();
+		if (name.startsWith("get") && name.length() > 3 && returnType != TypeKind.VOID) {
+			return decapitalize(name.substring(3));
+		}
+		if (name.startsWith("is") && name.length() > 2 && returnType == TypeKind.BOOLEAN) {
+			return decapitalize(name.substring(2));
+		}
+		if (name.startsWith("has") && name.length() > 3 && returnType == TypeKind.BOOLEAN) {
+			return decapitalize(name.substring(3));
+		}
+		return null;
+	}
+
+	private String decapitalize(String name) {
+		if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+			return name;
+		}
+		return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+	}
+
+	private List<AnnotationMirror> findConstraints(AnnotationMirror annotation) {
+		if (isConstraint(annotation)) {
+			return Collections.singletonList(annotation);
+		}
+		List<AnnotationMirror> constraints = new ArrayList<>();
+		annotation.getElementValues().forEach((attribute, value) -> {
+			if (attribute.getSimpleName().contentEquals("value") && value.getValue() instanceof List) {
+				for (Object item : (List<?>) value.getValue()) {
+					Object itemValue = ((AnnotationValue) item).getValue();
+					if (itemValue instanceof AnnotationMirror && isConstraint((AnnotationMirror) itemValue)) {
+						constraints.add((AnnotationMirror) itemValue);
+					}
+				}
+			}
+		});
+		return constraints;
+	}
+
+	private boolean isConstraint(AnnotationMirror annotation) {
+		for (AnnotationMirror metaAnnotation : annotation.getAnnotationType().asElement().getAnnotationMirrors()) {
+			TypeElement metaAnnotationType = (TypeElement) metaAnnotation.getAnnotationType().asElement();
+			if (metaAnnotationType.getQualifiedName().contentEquals(CONSTRAINT_ANNOTATION)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void addConstraint(ConstraintMetadata.Builder metadata, String property, int index,
+			AnnotationMirror constraint) {
+		TypeElement constraintType = (TypeElement) constraint.getAnnotationType().asElement();
+		metadata.constraint(property, index,
+				this.processingEnv.getElementUtils().getBinaryName(constraintType).toString());
+		this.processingEnv.getElementUtils()
+			.getElementValuesWithDefaults(constraint)
+			.forEach((attribute, value) -> addAttribute(metadata, property, index, attribute, value));
+	}
+
+	private void addAttribute(ConstraintMetadata.Builder metadata, String property, int index,
+			ExecutableElement attribute, AnnotationValue value) {
+		String name = attribute.getSimpleName().toString();
+		TypeMirror returnType = attribute.getReturnType();
+		if (returnType.getKind() == TypeKind.ARRAY) {
+			String type = getTypeName(((ArrayType) returnType).getComponentType());
+			if (type != null) {
+				List<String> values = new ArrayList<>();
+				for (Object item : (List<?>) value.getValue()) {
+					values.add(asString(((AnnotationValue) item).getValue()));
+				}
+				metadata.arrayAttribute(property, index, name, type, values);
+			}
+		}
+		else {
+			String type = getTypeName(returnType);
+			if (type != null) {
+				metadata.attribute(property, index, name, type, asString(value.getValue()));
+			}
+		}
+	}
+
+	private @Nullable String getTypeName(TypeMirror type) {
+		if (type.getKind().isPrimitive()) {
+			return type.getKind().name().toLowerCase();
+		}
+		if (type.getKind() == TypeKind.DECLARED) {
+			TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+			if (element.getKind() == ElementKind.ENUM) {
+				return this.processingEnv.getElementUtils().getBinaryName(element).toString();
+			}
+			String name = element.getQualifiedName().toString();
+			if (String.class.getName().equals(name)) {
+				return "String";
+			}
+			if (Class.class.getName().equals(name)) {
+				return "Class";
+			}
+		}
+		return null;
+	}
+
+	private String asString(Object value) {
+		if (value instanceof TypeMirror) {
+			return getClassName((TypeMirror) value);
+		}
+		if (value instanceof VariableElement) {
+			return ((VariableElement) value).getSimpleName().toString();
+		}
+		return String.valueOf(value);
+	}
+
+	private String getClassName(TypeMirror type) {
+		if (type.getKind() == TypeKind.DECLARED) {
+			return this.processingEnv.getElementUtils()
+				.getBinaryName((TypeElement) ((DeclaredType) type).asElement())
+				.toString();
+		}
+		if (type.getKind() == TypeKind.ARRAY) {
+			return getClassName(((ArrayType) type).getComponentType()) + "[]";
+		}
+		return type.toString();
+	}
+
+}
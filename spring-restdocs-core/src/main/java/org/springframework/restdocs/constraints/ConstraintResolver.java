@@ -16,7 +16,16 @@
 
 package org.springframework.restdocs.constraints;
 
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * An abstraction for resolving a class's constraints.
@@ -34,4 +43,32 @@ public interface ConstraintResolver {
 	 */
 	List<Constraint> resolveForProperty(String property, Class<?> clazz);
 
+	/**
+	 * Resolves and returns the constraints for all of the constrained properties of the
+	 * given {@code clazz}, keyed by property name. Properties without constraints are not
+	 * included. By default, the class's bean properties and fields are introspected and
+	 * the constraints of each are {@link #resolveForProperty(String, Class) resolved}.
+	 * @param clazz the class
+	 * @return the constraints, keyed by property name
+	 * @since 4.1.0
+	 */
+	default Map<String, List<Constraint>> resolveForAllProperties(Class<?> clazz) {
+		Set<String> properties = new LinkedHashSet<>();
+		for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(clazz)) {
+			if (!"class".equals(descriptor.getName())) {
+				properties.add(descriptor.getName());
+			}
+		}
+		ReflectionUtils.doWithFields(clazz, (field) -> properties.add(field.getName()),
+				(field) -> !Modifier.isStatic(field.getModifiers()) && !field.isSynthetic());
+		Map<String, List<Constraint>> constraints = new TreeMap<>();
+		for (String property : properties) {
+			List<Constraint> propertyConstraints = resolveForProperty(property, clazz);
+			if (!propertyConstraints.isEmpty()) {
+				constraints.put(property, propertyConstraints);
+			}
+		}
+		return constraints;
+	}
+
 }
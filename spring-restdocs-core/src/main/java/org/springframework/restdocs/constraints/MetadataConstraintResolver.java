@@ -0,0 +1,90 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.constraints;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * A {@link ConstraintResolver} that resolves constraints using metadata generated at
+ * compile time by the {@link ConstraintMetadataProcessor}. Neither reflection nor a
+ * {@link jakarta.validation.Validator Validator} is used to resolve the constraints.
+ * <p>
+ * The {@link Constraint#getConfiguration() configuration} of each constraint contains
+ * the values of the constraint annotation's attributes, as it does when constraints are
+ * resolved by {@link ValidatorConstraintResolver}. Attributes whose values are
+ * annotations are not included.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ * @see GenerateConstraintMetadata
+ */
+public class MetadataConstraintResolver implements ConstraintResolver {
+
+	private final Map<Class<?>, ConstraintMetadata> metadata = new ConcurrentHashMap<>();
+
+	@Override
+	public List<Constraint> resolveForProperty(String property, Class<?> clazz) {
+		return this.metadata.computeIfAbsent(clazz, MetadataConstraintResolver::loadMetadata)
+			.getConstraints(property);
+	}
+
+	@Override
+	public Map<String, List<Constraint>> resolveForAllProperties(Class<?> clazz) {
+		return this.metadata.computeIfAbsent(clazz, MetadataConstraintResolver::loadMetadata).getAllConstraints();
+	}
+
+	/**
+	 * Returns whether constraint metadata has been generated for the given
+	 * {@code clazz}.
+	 * @param clazz the class
+	 * @return {@code true} if metadata is available, otherwise {@code false}
+	 */
+	public static boolean hasMetadata(Class<?> clazz) {
+		return getClassLoader(clazz).getResource(ConstraintMetadata.location(clazz.getName())) != null;
+	}
+
+	private static ConstraintMetadata loadMetadata(Class<?> clazz) {
+		String location = ConstraintMetadata.location(clazz.getName());
+		try (InputStream input = getClassLoader(clazz).getResourceAsStream(location)) {
+			if (input == null) {
+				throw new IllegalStateException("No constraint metadata was found for " + clazz.getName()
+						+ ". Annotate it with @GenerateConstraintMetadata and run the ConstraintMetadataProcessor"
+						+ " when compiling it.");
+			}
+			return ConstraintMetadata.load(input, getClassLoader(clazz));
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Failed to load constraint metadata from " + location, ex);
+		}
+	}
+
+	private static ClassLoader getClassLoader(Class<?> clazz) {
+		ClassLoader classLoader = clazz.getClassLoader();
+		if (classLoader != null) {
+			return classLoader;
+		}
+		ClassLoader defaultClassLoader = ClassUtils.getDefaultClassLoader();
+		return (defaultClassLoader != null) ? defaultClassLoader : ClassLoader.getSystemClassLoader();
+	}
+
+}
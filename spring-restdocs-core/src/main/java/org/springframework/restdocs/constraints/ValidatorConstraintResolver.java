@@ -18,6 +18,8 @@ package org.springframework.restdocs.constraints;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
@@ -42,13 +44,15 @@ public class ValidatorConstraintResolver implements ConstraintResolver {
 
 	/**
 	 * Creates a new {@code ValidatorConstraintResolver} that will use a {@link Validator}
-	 * in its default configuration to resolve constraints.
+	 * in its default configuration to resolve constraints. The validator is created
+	 * when it is first needed and is shared by all resolvers created using this
+	 * constructor.
 	 *
 	 * @see Validation#buildDefaultValidatorFactory()
 	 * @see ValidatorFactory#getValidator()
 	 */
 	public ValidatorConstraintResolver() {
-		this(Validation.buildDefaultValidatorFactory().getValidator());
+		this(DefaultValidator.INSTANCE);
 	}
 
 	/**
@@ -62,16 +66,40 @@ public class ValidatorConstraintResolver implements ConstraintResolver {
 
 	@Override
 	public List<Constraint> resolveForProperty(String property, Class<?> clazz) {
-		List<Constraint> constraints = new ArrayList<>();
 		BeanDescriptor beanDescriptor = this.validator.getConstraintsForClass(clazz);
 		PropertyDescriptor propertyDescriptor = beanDescriptor.getConstraintsForProperty(property);
 		if (propertyDescriptor != null) {
-			for (ConstraintDescriptor<?> constraintDescriptor : propertyDescriptor.getConstraintDescriptors()) {
-				constraints.add(new Constraint(constraintDescriptor.getAnnotation().annotationType().getName(),
-						constraintDescriptor.getAttributes()));
-			}
+			return getConstraints(propertyDescriptor);
+		}
+		return new ArrayList<>();
+	}
+
+	@Override
+	public Map<String, List<Constraint>> resolveForAllProperties(Class<?> clazz) {
+		Map<String, List<Constraint>> constraints = new TreeMap<>();
+		BeanDescriptor beanDescriptor = this.validator.getConstraintsForClass(clazz);
+		for (PropertyDescriptor propertyDescriptor : beanDescriptor.getConstrainedProperties()) {
+			constraints.put(propertyDescriptor.getPropertyName(), getConstraints(propertyDescriptor));
 		}
 		return constraints;
 	}
 
+	private List<Constraint> getConstraints(PropertyDescriptor propertyDescriptor) {
+		List<Constraint> constraints = new ArrayList<>();
+		for (ConstraintDescriptor<?> constraintDescriptor : propertyDescriptor.getConstraintDescriptors()) {
+			constraints.add(new Constraint(constraintDescriptor.getAnnotation().annotationType().getName(),
+					constraintDescriptor.getAttributes()));
+		}
+		return constraints;
+	}
+
+	/**
+	 * Holder for the default {@link Validator}, allowing it to be created lazily.
+	 */
+	private static final class DefaultValidator {
+
+		private static final Validator INSTANCE = Validation.buildDefaultValidatorFactory().getValidator();
+
+	}
+
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.generate;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the conversion of a request or response into an operation's
+ * request or response.
+ *
+ * @author Andy Wilkinson
+ */
+@Name("org.springframework.restdocs.OperationConversion")
+@Label("Operation Conversion")
+@Description("Conversion of a request or response into an operation's request or response")
+@Category("Spring REST Docs")
+@Enabled(false)
+@StackTrace(false)
+final class OperationConversionEvent extends Event {
+
+	@Label("Operation")
+	final String operation;
+
+	@Label("Message")
+	final String message;
+
+	@Label("Content Length")
+	@DataAmount
+	long contentLength;
+
+	OperationConversionEvent(String operation, String message) {
+		this.operation = operation;
+		this.message = message;
+	}
+
+}
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 
+import org.springframework.restdocs.operation.ContentStorage;
 import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.operation.OperationRequest;
 import org.springframework.restdocs.operation.OperationResponse;
@@ -33,6 +34,7 @@ import org.springframework.restdocs.operation.StandardOperation;
 import org.springframework.restdocs.operation.preprocess.OperationRequestPreprocessor;
 import org.springframework.restdocs.operation.preprocess.OperationResponsePreprocessor;
 import org.springframework.restdocs.snippet.Snippet;
+import org.springframework.restdocs.snippet.TemplatedSnippet;
 import org.springframework.util.Assert;
 
 /**
@@ -69,6 +71,13 @@ public final class RestDocumentationGenerator<REQ, RESP> {
 	 */
 	public static final String ATTRIBUTE_NAME_DEFAULT_OPERATION_RESPONSE_PREPROCESSOR = "org.springframework.restdocs.defaultOperationResponsePreprocessor";
 
+	/**
+	 * Name of the operation attribute used to indicate that snippets should only validate
+	 * the operation rather than producing any output.
+	 * @since 4.1.0
+	 */
+	public static final String ATTRIBUTE_NAME_VALIDATION_ONLY = "org.springframework.restdocs.validationOnly";
+
 	private final String identifier;
 
 	private final OperationRequestPreprocessor requestPreprocessor;
@@ -182,12 +191,26 @@ public final class RestDocumentationGenerator<REQ, RESP> {
 	 */
 	public void handle(REQ request, RESP response, Map<String, Object> configuration) {
 		Map<String, Object> attributes = new HashMap<>(configuration);
-		OperationRequest operationRequest = preprocessRequest(this.requestConverter.convert(request), attributes);
-		OperationResponse operationResponse = preprocessResponse(this.responseConverter.convert(response), attributes);
-		Operation operation = new StandardOperation(this.identifier, operationRequest, operationResponse, attributes);
+		try (ContentStorage.Session session = getContentStorage(attributes).open()) {
+			OperationRequest operationRequest = preprocessRequest(convertRequest(request, session), attributes);
+			OperationResponse operationResponse = preprocessResponse(convertResponse(response, session), attributes);
+			document(new StandardOperation(this.identifier, session.store(operationRequest),
+					session.store(operationResponse), attributes));
+		}
+	}
+
+	private ContentStorage getContentStorage(Map<String, Object> attributes) {
+		ContentStorage contentStorage = (ContentStorage) attributes.get(ContentStorage.ATTRIBUTE_NAME);
+		return (contentStorage != null) ? contentStorage : ContentStorage.inMemory();
+	}
+
+	private void document(Operation operation) {
 		try {
-			for (Snippet snippet : getSnippets(attributes)) {
+			for (Snippet snippet : getSnippets(operation.getAttributes())) {
+				SnippetDocumentationEvent event = new SnippetDocumentationEvent(this.identifier, getName(snippet));
+				event.begin();
 				snippet.document(operation);
+				event.commit();
 			}
 		}
 		catch (IOException ex) {
@@ -195,6 +218,10 @@ public final class RestDocumentationGenerator<REQ, RESP> {
 		}
 	}
 
+	private String getName(Snippet snippet) {
+		return (snippet instanceof TemplatedSnippet) ? snippet.toString() : snippet.getClass().getSimpleName();
+	}
+
 	/**
 	 * Creates a new {@link RestDocumentationGenerator} with the same configuration as
 	 * this one other than its snippets. The new generator will use the given
@@ -218,12 +245,36 @@ public final class RestDocumentationGenerator<REQ, RESP> {
 		return combinedSnippets;
 	}
 
+	private OperationRequest convertRequest(REQ request, ContentStorage.Session contentStorage) {
+		OperationConversionEvent event = new OperationConversionEvent(this.identifier, "request");
+		event.begin();
+		OperationRequest operationRequest = this.requestConverter.convert(request, contentStorage);
+		event.end();
+		if (event.shouldCommit()) {
+			event.contentLength = operationRequest.getContentAsByteBuffer().remaining();
+			event.commit();
+		}
+		return operationRequest;
+	}
+
+	private OperationResponse convertResponse(RESP response, ContentStorage.Session contentStorage) {
+		OperationConversionEvent event = new OperationConversionEvent(this.identifier, "response");
+		event.begin();
+		OperationResponse operationResponse = this.responseConverter.convert(response, contentStorage);
+		event.end();
+		if (event.shouldCommit()) {
+			event.contentLength = operationResponse.getContentAsByteBuffer().remaining();
+			event.commit();
+		}
+		return operationResponse;
+	}
+
 	private OperationRequest preprocessRequest(OperationRequest request, Map<String, Object> configuration) {
 		return preprocess(getRequestPreprocessors(configuration), request, this::preprocess);
 	}
 
 	private OperationRequest preprocess(OperationRequestPreprocessor preprocessor, OperationRequest request) {
-		return preprocessor.preprocess(request);
+		return preprocessor.preprocess(this.identifier, request);
 	}
 
 	private List<OperationRequestPreprocessor> getRequestPreprocessors(Map<String, Object> configuration) {
@@ -236,7 +287,7 @@ public final class RestDocumentationGenerator<REQ, RESP> {
 	}
 
 	private OperationResponse preprocess(OperationResponsePreprocessor preprocessor, OperationResponse response) {
-		return preprocessor.preprocess(response);
+		return preprocessor.preprocess(this.identifier, response);
 	}
 
 	private List<OperationResponsePreprocessor> getResponsePreprocessors(Map<String, Object> configuration) {
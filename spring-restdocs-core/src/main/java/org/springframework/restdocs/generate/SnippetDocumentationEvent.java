@@ -0,0 +1,54 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.generate;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the documentation of an operation by a single snippet. A
+ * {@link org.springframework.restdocs.snippet.TemplatedSnippet TemplatedSnippet} is
+ * identified by its {@code toString()}, which is the name of the snippet it creates, and
+ * any other snippet by the simple name of its class.
+ *
+ * @author Andy Wilkinson
+ */
+@Name("org.springframework.restdocs.SnippetDocumentation")
+@Label("Snippet Documentation")
+@Description("Documentation of an operation by a snippet")
+@Category("Spring REST Docs")
+@Enabled(false)
+@StackTrace(false)
+final class SnippetDocumentationEvent extends Event {
+
+	@Label("Operation")
+	final String operation;
+
+	@Label("Snippet")
+	final String snippet;
+
+	SnippetDocumentationEvent(String operation, String snippet) {
+		this.operation = operation;
+		this.snippet = snippet;
+	}
+
+}
@@ -33,6 +33,7 @@ import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.operation.OperationRequest;
 import org.springframework.restdocs.operation.OperationRequestPart;
 import org.springframework.restdocs.operation.RequestCookie;
+import org.springframework.restdocs.operation.SerializedOperationRequest;
 import org.springframework.restdocs.snippet.Snippet;
 import org.springframework.restdocs.snippet.TemplatedSnippet;
 import org.springframework.util.StringUtils;
@@ -66,14 +67,20 @@ public class HttpRequestSnippet extends TemplatedSnippet {
 
 	@Override
 	protected Map<String, Object> createModel(Operation operation) {
+		SerializedOperationRequest request = SerializedOperationRequest.of(operation);
 		Map<String, Object> model = new HashMap<>();
-		model.put("method", operation.getRequest().getMethod());
-		model.put("path", getPath(operation.getRequest()));
-		model.put("headers", getHeaders(operation.getRequest()));
-		model.put("requestBody", getRequestBody(operation.getRequest()));
+		model.put("method", request.getMethod());
+		model.put("path", getPath(request));
+		model.put("headers", getHeaders(request));
+		model.put("requestBody", getRequestBody(request));
 		return model;
 	}
 
+	@Override
+	protected boolean performsValidation() {
+		return false;
+	}
+
 	private String getPath(OperationRequest request) {
 		String path = request.getUri().getRawPath();
 		String queryString = request.getUri().getRawQuery();
@@ -83,14 +90,18 @@ public class HttpRequestSnippet extends TemplatedSnippet {
 		return path;
 	}
 
-	private boolean includeParametersInUri(OperationRequest request) {
+	private boolean includeParametersInUri(SerializedOperationRequest request) {
 		HttpMethod method = request.getMethod();
 		return (method != HttpMethod.PUT && method != HttpMethod.POST && method != HttpMethod.PATCH)
-				|| (request.getContent().length > 0 && !MediaType.APPLICATION_FORM_URLENCODED
-					.isCompatibleWith(request.getHeaders().getContentType()));
+				|| (hasContent(request)
+						&& !MediaType.APPLICATION_FORM_URLENCODED.isCompatibleWith(request.getContentType()));
+	}
+
+	private boolean hasContent(SerializedOperationRequest request) {
+		return request.getContentAsByteBuffer().hasRemaining();
 	}
 
-	private List<Map<String, String>> getHeaders(OperationRequest request) {
+	private List<Map<String, String>> getHeaders(SerializedOperationRequest request) {
 		List<Map<String, String>> headers = new ArrayList<>();
 
 		for (Entry<String, List<String>> header : request.getHeaders().headerSet()) {
@@ -119,12 +130,11 @@ public class HttpRequestSnippet extends TemplatedSnippet {
 		return headers;
 	}
 
-	private String getRequestBody(OperationRequest request) {
+	private String getRequestBody(SerializedOperationRequest request) {
 		StringWriter httpRequest = new StringWriter();
 		PrintWriter writer = new PrintWriter(httpRequest);
-		String content = request.getContentAsString();
-		if (StringUtils.hasText(content)) {
-			writer.printf("%n%s", content);
+		if (request.hasContent()) {
+			writer.printf("%n%s", request.getContentAsString());
 		}
 		else if (isPutPostOrPatch(request)) {
 			if (!request.getParts().isEmpty()) {
@@ -176,9 +186,9 @@ public class HttpRequestSnippet extends TemplatedSnippet {
 		writer.printf("--%s--", MULTIPART_BOUNDARY);
 	}
 
-	private boolean requiresFormEncodingContentTypeHeader(OperationRequest request) {
-		return request.getHeaders().get(HttpHeaders.CONTENT_TYPE) == null && isPutPostOrPatch(request)
-				&& request.getContent().length > 0 && !includeParametersInUri(request);
+	private boolean requiresFormEncodingContentTypeHeader(SerializedOperationRequest request) {
+		return request.getContentType() == null && isPutPostOrPatch(request) && hasContent(request)
+				&& !includeParametersInUri(request);
 	}
 
 	private Map<String, String> header(String name, String value) {
@@ -16,6 +16,7 @@
 
 package org.springframework.restdocs.http;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -28,6 +29,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.operation.OperationResponse;
+import org.springframework.restdocs.snippet.BinaryContentPolicy;
 import org.springframework.restdocs.snippet.Snippet;
 import org.springframework.restdocs.snippet.TemplatedSnippet;
 
@@ -60,7 +62,7 @@ public class HttpResponseSnippet extends TemplatedSnippet {
 	protected Map<String, Object> createModel(Operation operation) {
 		OperationResponse response = operation.getResponse();
 		Map<String, Object> model = new HashMap<>();
-		model.put("responseBody", responseBody(response));
+		model.put("responseBody", responseBody(response, BinaryContentPolicy.resolve(getAttributes(), operation)));
 		model.put("headers", headers(response));
 		HttpStatusCode status = response.getStatus();
 		model.put("statusCode", status.value());
@@ -68,9 +70,18 @@ public class HttpResponseSnippet extends TemplatedSnippet {
 		return model;
 	}
 
-	private String responseBody(OperationResponse response) {
-		String content = response.getContentAsString();
-		return content.isEmpty() ? content : String.format("%n%s", content);
+	@Override
+	protected boolean performsValidation() {
+		return false;
+	}
+
+	private String responseBody(OperationResponse response, BinaryContentPolicy binaryContentPolicy) {
+		ByteBuffer content = response.getContentAsByteBuffer();
+		if (binaryContentPolicy.isBinary(content, response.getHeaders().getContentType())) {
+			return String.format("%n%s", binaryContentPolicy.summarize(content));
+		}
+		String contentAsString = response.getContentAsString();
+		return contentAsString.isEmpty() ? contentAsString : String.format("%n%s", contentAsString);
 	}
 
 	private List<Map<String, String>> headers(OperationResponse response) {
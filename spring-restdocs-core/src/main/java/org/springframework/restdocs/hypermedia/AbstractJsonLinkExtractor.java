@@ -16,30 +16,82 @@
 
 package org.springframework.restdocs.hypermedia;
 
-import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-import tools.jackson.databind.ObjectMapper;
+import org.jspecify.annotations.Nullable;
 
+import org.springframework.restdocs.json.JsonCodec;
+import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.operation.OperationResponse;
 
 /**
- * Abstract base class for a {@link LinkExtractor} that extracts links from JSON.
+ * Abstract base class for a {@link LinkExtractor} that extracts links from a field of a
+ * JSON object. Only the field that contains the links is read. The links extracted from
+ * an operation's response are stored in the operation's attributes so that documenting
+ * them using multiple {@link LinksSnippet LinksSnippets} only reads the content once.
  *
  * @author Andy Wilkinson
  */
 abstract class AbstractJsonLinkExtractor implements LinkExtractor {
 
-	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final String linksField;
+
+	protected AbstractJsonLinkExtractor(String linksField) {
+		this.linksField = linksField;
+	}
 
 	@Override
-	@SuppressWarnings("unchecked")
-	public Map<String, List<Link>> extractLinks(OperationResponse response) throws IOException {
-		Map<String, Object> jsonContent = this.objectMapper.readValue(response.getContent(), Map.class);
-		return extractLinks(jsonContent);
+	public Map<String, List<Link>> extractLinks(OperationResponse response) {
+		return readLinks(response.getContent(), JsonCodec.jackson());
+	}
+
+	@Override
+	public Map<String, List<Link>> extractLinks(Operation operation) {
+		OperationResponse response = operation.getResponse();
+		String attributeName = AbstractJsonLinkExtractor.class.getName() + "." + getClass().getName();
+		Object existing = operation.getAttributes().get(attributeName);
+		if (existing instanceof ExtractedLinks && ((ExtractedLinks) existing).response == response) {
+			return ((ExtractedLinks) existing).links;
+		}
+		JsonCodec jsonCodec = (JsonCodec) operation.getAttributes().get(JsonCodec.class.getName());
+		Map<String, List<Link>> links = readLinks(response.getContent(),
+				(jsonCodec != null) ? jsonCodec : JsonCodec.jackson());
+		operation.getAttributes().put(attributeName, new ExtractedLinks(response, links));
+		return links;
+	}
+
+	private Map<String, List<Link>> readLinks(byte[] content, JsonCodec jsonCodec) {
+		Object links = jsonCodec.readField(content, this.linksField);
+		Map<String, List<Link>> linksByRel = new LinkedHashMap<>();
+		extractLinks(links).forEach((rel, linksForRel) -> linksByRel.put(rel, List.copyOf(linksForRel)));
+		return Collections.unmodifiableMap(linksByRel);
 	}
 
-	protected abstract Map<String, List<Link>> extractLinks(Map<String, Object> json);
+	/**
+	 * Extracts links from the given value of the links field.
+	 * @param links the value of the links field or {@code null} if the content does not
+	 * have a links field
+	 * @return the extracted links, keyed by rel
+	 */
+	protected abstract Map<String, List<Link>> extractLinks(@Nullable Object links);
+
+	/**
+	 * The links extracted from a response.
+	 */
+	private static final class ExtractedLinks {
+
+		private final OperationResponse response;
+
+		private final Map<String, List<Link>> links;
+
+		private ExtractedLinks(OperationResponse response, Map<String, List<Link>> links) {
+			this.response = response;
+			this.links = links;
+		}
+
+	}
 
 }
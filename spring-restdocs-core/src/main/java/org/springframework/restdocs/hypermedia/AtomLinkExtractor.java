@@ -33,10 +33,13 @@ import org.springframework.util.MultiValueMap;
 @SuppressWarnings("unchecked")
 class AtomLinkExtractor extends AbstractJsonLinkExtractor {
 
+	AtomLinkExtractor() {
+		super("links");
+	}
+
 	@Override
-	public Map<String, List<Link>> extractLinks(Map<String, Object> json) {
+	protected Map<String, List<Link>> extractLinks(@Nullable Object possibleLinks) {
 		MultiValueMap<String, Link> extractedLinks = new LinkedMultiValueMap<>();
-		Object possibleLinks = json.get("links");
 		if (possibleLinks instanceof Collection) {
 			Collection<Object> linksCollection = (Collection<Object>) possibleLinks;
 			for (Object linkObject : linksCollection) {
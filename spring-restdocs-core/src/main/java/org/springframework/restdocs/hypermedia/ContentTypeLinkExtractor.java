@@ -25,6 +25,7 @@ import java.util.Map.Entry;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.MediaType;
+import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.operation.OperationResponse;
 
 /**
@@ -52,10 +53,19 @@ class ContentTypeLinkExtractor implements LinkExtractor {
 
 	@Override
 	public Map<String, List<Link>> extractLinks(OperationResponse response) throws IOException {
+		return getRequiredExtractor(response).extractLinks(response);
+	}
+
+	@Override
+	public Map<String, List<Link>> extractLinks(Operation operation) throws IOException {
+		return getRequiredExtractor(operation.getResponse()).extractLinks(operation);
+	}
+
+	private LinkExtractor getRequiredExtractor(OperationResponse response) {
 		MediaType contentType = response.getHeaders().getContentType();
 		LinkExtractor extractorForContentType = getExtractorForContentType(contentType);
 		if (extractorForContentType != null) {
-			return extractorForContentType.extractLinks(response);
+			return extractorForContentType;
 		}
 		throw new IllegalStateException(
 				"No LinkExtractor has been provided and one is not available for the " + "content type " + contentType);
@@ -42,10 +42,13 @@ class HalLinkExtractor extends AbstractJsonLinkExtractor {
 
 	static final MediaType HAL_FORMS_MEDIA_TYPE = new MediaType("application", "prs.hal-forms+json");
 
+	HalLinkExtractor() {
+		super("_links");
+	}
+
 	@Override
-	public Map<String, List<Link>> extractLinks(Map<String, Object> json) {
+	protected Map<String, List<Link>> extractLinks(@Nullable Object possibleLinks) {
 		Map<String, List<Link>> extractedLinks = new LinkedHashMap<>();
-		Object possibleLinks = json.get("_links");
 		if (possibleLinks instanceof Map) {
 			@SuppressWarnings("unchecked")
 			Map<String, Object> links = (Map<String, Object>) possibleLinks;
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.operation.OperationResponse;
 
 /**
@@ -40,4 +41,19 @@ public interface LinkExtractor {
 	 */
 	Map<String, List<Link>> extractLinks(OperationResponse response) throws IOException;
 
+	/**
+	 * Extract the links from the response of the given {@code operation}, returning a
+	 * {@code Map} of links where the keys are the link rels. The operation's attributes,
+	 * such as the {@link org.springframework.restdocs.json.JsonCodec} that has been
+	 * configured, may be used during extraction. The default implementation calls
+	 * {@link #extractLinks(OperationResponse)} with the operation's response.
+	 * @param operation the operation whose response's links are to be extracted
+	 * @return the extracted links, keyed by rel
+	 * @throws IOException if link extraction fails
+	 * @since 4.1.0
+	 */
+	default Map<String, List<Link>> extractLinks(Operation operation) throws IOException {
+		return extractLinks(operation.getResponse());
+	}
+
 }
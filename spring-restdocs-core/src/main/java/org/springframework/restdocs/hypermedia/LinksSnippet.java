@@ -30,8 +30,8 @@ import java.util.Set;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.restdocs.json.JsonCodecException;
 import org.springframework.restdocs.operation.Operation;
-import org.springframework.restdocs.operation.OperationResponse;
 import org.springframework.restdocs.snippet.ModelCreationException;
 import org.springframework.restdocs.snippet.Snippet;
 import org.springframework.restdocs.snippet.SnippetException;
@@ -118,15 +118,14 @@ public class LinksSnippet extends TemplatedSnippet {
 
 	@Override
 	protected Map<String, Object> createModel(Operation operation) {
-		OperationResponse response = operation.getResponse();
 		Map<String, List<Link>> links;
 		try {
-			links = this.linkExtractor.extractLinks(response);
-			validate(links);
+			links = this.linkExtractor.extractLinks(operation);
 		}
-		catch (IOException ex) {
+		catch (IOException | JsonCodecException ex) {
 			throw new ModelCreationException(ex);
 		}
+		validate(links);
 		Map<String, Object> model = new HashMap<>();
 		model.put("links", createLinksModel(links));
 		return model;
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonParser.NumberType;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+/**
+ * A {@link JsonCodec} that uses Jackson.
+ *
+ * @author Andy Wilkinson
+ */
+class JacksonJsonCodec implements JsonCodec {
+
+	static final JacksonJsonCodec DEFAULT = new JacksonJsonCodec(JsonMapper.builder().build());
+
+	private final ObjectMapper objectMapper;
+
+	private final ObjectMapper prettyPrintingObjectMapper;
+
+	JacksonJsonCodec(JsonMapper jsonMapper) {
+		this.objectMapper = jsonMapper;
+		this.prettyPrintingObjectMapper = jsonMapper.rebuild().enable(SerializationFeature.INDENT_OUTPUT).build();
+	}
+
+	@Override
+	public @Nullable Object read(byte[] content) {
+		try {
+			return this.objectMapper.readValue(content, Object.class);
+		}
+		catch (JacksonException ex) {
+			throw new JsonCodecException(ex);
+		}
+	}
+
+	@Override
+	public @Nullable Object read(ByteBuffer content) {
+		try {
+			if (content.hasArray()) {
+				return this.objectMapper.readValue(content.array(), content.arrayOffset() + content.position(),
+						content.remaining(), Object.class);
+			}
+			return this.objectMapper.readValue(asInputStream(content), Object.class);
+		}
+		catch (JacksonException ex) {
+			throw new JsonCodecException(ex);
+		}
+	}
+
+	@Override
+	public @Nullable Object readField(byte[] content, String name) {
+		return readField(ByteBuffer.wrap(content), name);
+	}
+
+	@Override
+	public @Nullable Object readField(ByteBuffer content, String name) {
+		try (JsonParser parser = createParser(content)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JsonCodecException("Content is not a JSON object");
+			}
+			while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+				String fieldName = parser.currentName();
+				parser.nextToken();
+				if (name.equals(fieldName)) {
+					return this.objectMapper.readValue(parser, Object.class);
+				}
+				parser.skipChildren();
+			}
+			return null;
+		}
+		catch (JacksonException ex) {
+			throw new JsonCodecException(ex);
+		}
+	}
+
+	private JsonParser createParser(ByteBuffer content) {
+		if (content.hasArray()) {
+			return this.objectMapper.createParser(content.array(), content.arrayOffset() + content.position(),
+					content.remaining());
+		}
+		return this.objectMapper.createParser(asInputStream(content));
+	}
+
+	private InputStream asInputStream(ByteBuffer content) {
+		return DefaultDataBufferFactory.sharedInstance.wrap(content).asInputStream();
+	}
+
+	@Override
+	public byte[] write(@Nullable Object value, boolean prettyPrint) {
+		ObjectMapper mapper = prettyPrint ? this.prettyPrintingObjectMapper : this.objectMapper;
+		try {
+			return mapper.writeValueAsBytes(value);
+		}
+		catch (JacksonException ex) {
+			throw new JsonCodecException(ex);
+		}
+	}
+
+	@Override
+	public void write(@Nullable Object value, boolean prettyPrint, Writer writer) {
+		ObjectMapper mapper = prettyPrint ? this.prettyPrintingObjectMapper : this.objectMapper;
+		try {
+			mapper.writeValue(writer, value);
+		}
+		catch (JacksonException ex) {
+			throw new JsonCodecException(ex);
+		}
+	}
+
+	@Override
+	public byte[] prettyPrint(byte[] content) {
+		int expectedLength = content.length + (content.length >> 1);
+		ByteArrayOutputStream prettyPrinted = new ByteArrayOutputStream(expectedLength);
+		try (JsonParser parser = this.prettyPrintingObjectMapper.createParser(content);
+				JsonGenerator generator = this.prettyPrintingObjectMapper.createGenerator(prettyPrinted)) {
+			int depth = 0;
+			boolean rootValueCopied = false;
+			for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+				if (depth == 0) {
+					if (rootValueCopied) {
+						throw new JsonCodecException("Content contains more than one root-level value");
+					}
+					rootValueCopied = true;
+				}
+				depth += copy(token, parser, generator);
+			}
+			if (!rootValueCopied) {
+				throw new JsonCodecException("Content does not contain a value");
+			}
+		}
+		catch (JacksonException ex) {
+			throw new JsonCodecException(ex);
+		}
+		return prettyPrinted.toByteArray();
+	}
+
+	@Override
+	public byte[] elide(byte[] content, int maxArrayElements, int maxStringLength, String arrayElisionMarker,
+			String stringElisionMarker) {
+		ByteArrayOutputStream elided = new ByteArrayOutputStream();
+		boolean modified = false;
+		try (JsonParser parser = this.objectMapper.createParser(content);
+				JsonGenerator generator = this.objectMapper.createGenerator(elided)) {
+			Deque<Container> containers = new ArrayDeque<>();
+			JsonToken token = parser.nextToken();
+			if (token == null) {
+				throw new JsonCodecException("Content does not contain a value");
+			}
+			while (token != null) {
+				Container container = containers.peek();
+				if (token == JsonToken.END_ARRAY || token == JsonToken.END_OBJECT) {
+					containers.pop();
+					if (container.elided) {
+						generator.writeString(arrayElisionMarker);
+					}
+					copy(token, parser, generator);
+				}
+				else if (token != JsonToken.PROPERTY_NAME && container != null && container.array
+						&& ++container.elements > maxArrayElements) {
+					container.elided = true;
+					modified = true;
+					parser.skipChildren();
+				}
+				else if (token == JsonToken.VALUE_STRING && parser.getString().length() > maxStringLength) {
+					generator.writeString(shorten(parser.getString(), maxStringLength) + stringElisionMarker);
+					modified = true;
+				}
+				else if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+					generator.writeNumber(parser.getString());
+				}
+				else {
+					copy(token, parser, generator);
+					if (token == JsonToken.START_ARRAY || token == JsonToken.START_OBJECT) {
+						containers.push(new Container(token == JsonToken.START_ARRAY));
+					}
+				}
+				if (containers.isEmpty()) {
+					break;
+				}
+				token = parser.nextToken();
+			}
+			if (parser.nextToken() != null) {
+				throw new JsonCodecException("Content contains more than one root-level value");
+			}
+		}
+		catch (JacksonException ex) {
+			throw new JsonCodecException(ex);
+		}
+		return modified ? elided.toByteArray() : content;
+	}
+
+	private String shorten(String value, int maxLength) {
+		int end = maxLength;
+		if (end > 0 && Character.isHighSurrogate(value.charAt(end - 1))) {
+			end--;
+		}
+		return value.substring(0, end);
+	}
+
+	private int copy(JsonToken token, JsonParser parser, JsonGenerator generator) {
+		if (token == JsonToken.START_OBJECT) {
+			generator.writeStartObject();
+			return 1;
+		}
+		if (token == JsonToken.START_ARRAY) {
+			generator.writeStartArray();
+			return 1;
+		}
+		if (token == JsonToken.END_OBJECT) {
+			generator.writeEndObject();
+			return -1;
+		}
+		if (token == JsonToken.END_ARRAY) {
+			generator.writeEndArray();
+			return -1;
+		}
+		if (token == JsonToken.PROPERTY_NAME) {
+			generator.writeName(parser.currentName());
+		}
+		else if (token == JsonToken.VALUE_STRING) {
+			generator.writeString(parser.getString());
+		}
+		else if (token == JsonToken.VALUE_NUMBER_INT) {
+			copyInteger(parser, generator);
+		}
+		else if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+			// As a JsonNode tree would, so that the output is unchanged
+			generator.writeNumber(parser.getDoubleValue());
+		}
+		else if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+			generator.writeBoolean(token == JsonToken.VALUE_TRUE);
+		}
+		else if (token == JsonToken.VALUE_NULL) {
+			generator.writeNull();
+		}
+		else {
+			throw new JsonCodecException("Unexpected token " + token);
+		}
+		return 0;
+	}
+
+	private void copyInteger(JsonParser parser, JsonGenerator generator) {
+		// As a JsonNode tree would, so that the output is unchanged
+		NumberType numberType = parser.getNumberType();
+		if (numberType == NumberType.INT) {
+			generator.writeNumber(parser.getIntValue());
+		}
+		else if (numberType == NumberType.LONG) {
+			generator.writeNumber(parser.getLongValue());
+		}
+		else {
+			generator.writeNumber(parser.getBigIntegerValue());
+		}
+	}
+
+	private static final class Container {
+
+		private final boolean array;
+
+		private int elements;
+
+		private boolean elided;
+
+		private Container(boolean array) {
+			this.array = array;
+		}
+
+	}
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * A codec for reading and writing JSON content. The configured codec is available as an
+ * operation attribute, named after this interface, and is used by the snippets and link
+ * extractors that read or write JSON while documenting an operation.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ * @see org.springframework.restdocs.config.RestDocumentationConfigurer#jsonCodec(JsonCodec)
+ */
+public interface JsonCodec {
+
+	/**
+	 * Reads the given JSON {@code content} into {@link Map Maps}, {@link List Lists},
+	 * and scalar values. The maps and lists that are returned must be mutable.
+	 * @param content the content to read
+	 * @return the read content
+	 * @throws JsonCodecException if the content cannot be read
+	 */
+	@Nullable Object read(byte[] content);
+
+	/**
+	 * Reads the value of the field with the given {@code name} from the given JSON
+	 * {@code content}, which must be an object, into {@link Map Maps},
+	 * {@link List Lists}, and scalar values. Implementations may skip the object's other
+	 * fields without reading them.
+	 * @param content the content to read
+	 * @param name the name of the field
+	 * @return the value of the field or {@code null} if the object has no such field
+	 * @throws JsonCodecException if the content cannot be read or is not a JSON object
+	 */
+	default @Nullable Object readField(byte[] content, String name) {
+		Object value = read(content);
+		if (!(value instanceof Map)) {
+			throw new JsonCodecException("Content is not a JSON object");
+		}
+		return ((Map<?, ?>) value).get(name);
+	}
+
+	/**
+	 * Reads the given JSON {@code content} into {@link Map Maps}, {@link List Lists},
+	 * and scalar values. The maps and lists that are returned must be mutable. The
+	 * buffer's position is not changed. The default implementation copies the remaining
+	 * content into an array and {@link #read(byte[]) reads} it.
+	 * @param content the content to read
+	 * @return the read content
+	 * @throws JsonCodecException if the content cannot be read
+	 */
+	default @Nullable Object read(ByteBuffer content) {
+		return read(toByteArray(content));
+	}
+
+	/**
+	 * Reads the value of the field with the given {@code name} from the given JSON
+	 * {@code content}, which must be an object. The buffer's position is not changed.
+	 * The default implementation copies the remaining content into an array and
+	 * {@link #readField(byte[], String) reads the field} from it.
+	 * @param content the content to read
+	 * @param name the name of the field
+	 * @return the value of the field or {@code null} if the object has no such field
+	 * @throws JsonCodecException if the content cannot be read or is not a JSON object
+	 */
+	default @Nullable Object readField(ByteBuffer content, String name) {
+		return readField(toByteArray(content), name);
+	}
+
+	/**
+	 * Writes the given {@code value}, which is made up of {@link Map Maps},
+	 * {@link List Lists}, and scalar values, as JSON.
+	 * @param value the value to write
+	 * @param prettyPrint whether the JSON should be pretty printed
+	 * @return the JSON
+	 * @throws JsonCodecException if the value cannot be written
+	 */
+	byte[] write(@Nullable Object value, boolean prettyPrint);
+
+	/**
+	 * Writes the given {@code value}, which is made up of {@link Map Maps},
+	 * {@link List Lists}, and scalar values, as JSON to the given {@code writer}.
+	 * Implementations should write the JSON incrementally so that writing stops as soon
+	 * as the writer fails. The default implementation writes the result of
+	 * {@link #write(Object, boolean)}.
+	 * @param value the value to write
+	 * @param prettyPrint whether the JSON should be pretty printed
+	 * @param writer the writer to write the JSON to
+	 * @throws JsonCodecException if the value cannot be written
+	 */
+	default void write(@Nullable Object value, boolean prettyPrint, Writer writer) {
+		try {
+			writer.write(new String(write(value, prettyPrint), StandardCharsets.UTF_8));
+		}
+		catch (IOException ex) {
+			throw new JsonCodecException(ex);
+		}
+	}
+
+	/**
+	 * Pretty prints the given JSON {@code content}.
+	 * @param content the content to pretty print
+	 * @return the pretty printed content
+	 * @throws JsonCodecException if the content cannot be pretty printed
+	 */
+	default byte[] prettyPrint(byte[] content) {
+		return write(read(content), true);
+	}
+
+	/**
+	 * Elides the given JSON {@code content}. Arrays with more than
+	 * {@code maxArrayElements} elements are cut to their first elements and the
+	 * {@code arrayElisionMarker} is added as their last element. Strings that are longer
+	 * than {@code maxStringLength} are shortened and the {@code stringElisionMarker} is
+	 * appended. Content that does not require elision is returned unchanged. The default
+	 * implementation {@link #read(byte[]) reads} the content, elides the resulting value,
+	 * and {@link #write(Object, boolean) writes} it.
+	 * @param content the content to elide
+	 * @param maxArrayElements the maximum number of elements of an array that are kept
+	 * @param maxStringLength the maximum length of a string that is kept
+	 * @param arrayElisionMarker the marker added to an array that has been cut
+	 * @param stringElisionMarker the marker appended to a string that has been shortened
+	 * @return the elided content
+	 * @throws JsonCodecException if the content cannot be read
+	 */
+	default byte[] elide(byte[] content, int maxArrayElements, int maxStringLength, String arrayElisionMarker,
+			String stringElisionMarker) {
+		Object value = read(content);
+		Object elided = elide(value, maxArrayElements, maxStringLength, arrayElisionMarker, stringElisionMarker);
+		return (elided != value) ? write(elided, false) : content;
+	}
+
+	private static @Nullable Object elide(@Nullable Object value, int maxArrayElements, int maxStringLength,
+			String arrayElisionMarker, String stringElisionMarker) {
+		if (value instanceof String && ((String) value).length() > maxStringLength) {
+			String string = (String) value;
+			int end = maxStringLength;
+			if (end > 0 && Character.isHighSurrogate(string.charAt(end - 1))) {
+				end--;
+			}
+			return string.substring(0, end) + stringElisionMarker;
+		}
+		if (value instanceof List) {
+			List<?> list = (List<?>) value;
+			List<@Nullable Object> elided = new ArrayList<>(Math.min(list.size(), maxArrayElements) + 1);
+			boolean modified = list.size() > maxArrayElements;
+			for (Object element : list.subList(0, Math.min(list.size(), maxArrayElements))) {
+				Object elidedElement = elide(element, maxArrayElements, maxStringLength, arrayElisionMarker,
+						stringElisionMarker);
+				modified |= elidedElement != element;
+				elided.add(elidedElement);
+			}
+			if (list.size() > maxArrayElements) {
+				elided.add(arrayElisionMarker);
+			}
+			return modified ? elided : list;
+		}
+		if (value instanceof Map) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			Map<Object, @Nullable Object> elided = new LinkedHashMap<>();
+			boolean modified = false;
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				Object elidedValue = elide(entry.getValue(), maxArrayElements, maxStringLength, arrayElisionMarker,
+						stringElisionMarker);
+				modified |= elidedValue != entry.getValue();
+				elided.put(entry.getKey(), elidedValue);
+			}
+			return modified ? elided : map;
+		}
+		return value;
+	}
+
+	private static byte[] toByteArray(ByteBuffer content) {
+		byte[] bytes = new byte[content.remaining()];
+		content.duplicate().get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Returns the default {@code JsonCodec} that uses Jackson.
+	 * @return the codec
+	 */
+	static JsonCodec jackson() {
+		return JacksonJsonCodec.DEFAULT;
+	}
+
+	/**
+	 * Returns a {@code JsonCodec} that uses Jackson, configured by the given
+	 * {@code jsonMapper}. When pretty printing, a copy of the mapper with
+	 * indentation enabled is used.
+	 * @param jsonMapper the JSON mapper
+	 * @return the codec
+	 */
+	static JsonCodec jackson(JsonMapper jsonMapper) {
+		return new JacksonJsonCodec(jsonMapper);
+	}
+
+}
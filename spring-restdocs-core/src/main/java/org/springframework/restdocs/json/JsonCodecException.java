@@ -0,0 +1,44 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.json;
+
+/**
+ * Thrown to indicate that a {@link JsonCodec} has failed to read or write JSON.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ */
+@SuppressWarnings("serial")
+public class JsonCodecException extends RuntimeException {
+
+	/**
+	 * Creates a new {@code JsonCodecException} with the given {@code message}.
+	 * @param message the message
+	 */
+	public JsonCodecException(String message) {
+		super(message);
+	}
+
+	/**
+	 * Creates a new {@code JsonCodecException} with the given {@code cause}.
+	 * @param cause the cause of the failure
+	 */
+	public JsonCodecException(Throwable cause) {
+		super(cause);
+	}
+
+}
@@ -16,9 +16,9 @@
 
 package org.springframework.restdocs.operation;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 
 import org.jspecify.annotations.Nullable;
 
@@ -32,18 +32,27 @@ import org.springframework.http.MediaType;
  */
 abstract class AbstractOperationMessage implements OperationMessage {
 
-	private final byte[] content;
+	private final MessageContent content;
 
 	private final HttpHeaders headers;
 
 	AbstractOperationMessage(byte @Nullable [] content, HttpHeaders headers) {
-		this.content = (content != null) ? content : new byte[0];
+		this(MessageContent.of(content), headers);
+	}
+
+	AbstractOperationMessage(MessageContent content, HttpHeaders headers) {
+		this.content = content;
 		this.headers = headers;
 	}
 
 	@Override
 	public byte[] getContent() {
-		return Arrays.copyOf(this.content, this.content.length);
+		return this.content.toByteArray();
+	}
+
+	@Override
+	public ByteBuffer getContentAsByteBuffer() {
+		return this.content.asReadOnlyBuffer();
 	}
 
 	@Override
@@ -53,16 +62,20 @@ abstract class AbstractOperationMessage implements OperationMessage {
 
 	@Override
 	public String getContentAsString() {
-		if (this.content.length > 0) {
+		if (this.content.length() > 0) {
 			Charset charset = extractCharsetFromContentTypeHeader();
 			if (charset == null) {
 				charset = StandardCharsets.UTF_8;
 			}
-			return new String(this.content, charset);
+			return this.content.toString(charset);
 		}
 		return "";
 	}
 
+	MessageContent content() {
+		return this.content;
+	}
+
 	private @Nullable Charset extractCharsetFromContentTypeHeader() {
 		if (this.headers == null) {
 			return null;
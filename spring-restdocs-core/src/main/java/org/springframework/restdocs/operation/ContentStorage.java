@@ -0,0 +1,275 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Storage for the content of an operation's request, request parts, and response. Content
+ * that is larger than a threshold is spilled to a temporary file and is then accessed
+ * through a read-only, memory-mapped buffer rather than being held on the heap. The
+ * temporary files are deleted when the operation has been documented.
+ * <p>
+ * A {@link RequestConverter} or {@link ResponseConverter} can store content as it is
+ * converted using {@link Session#store(byte[])} or {@link Session#store(InputStream)},
+ * passing the resulting buffer to {@link OperationRequestFactory},
+ * {@link OperationRequestPartFactory}, or {@link OperationResponseFactory}. Content that
+ * is not stored during conversion, such as that produced by a preprocessor, is stored
+ * once the operation has been assembled.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ * @see OperationRequest#getContentAsByteBuffer()
+ * @see OperationResponse#getContentAsByteBuffer()
+ */
+public final class ContentStorage {
+
+	/**
+	 * Name of the operation attribute used to hold the {@code ContentStorage}.
+	 */
+	public static final String ATTRIBUTE_NAME = ContentStorage.class.getName();
+
+	private static final ContentStorage IN_MEMORY = new ContentStorage(Integer.MAX_VALUE, null);
+
+	private final int threshold;
+
+	private final @Nullable Path directory;
+
+	private ContentStorage(int threshold, @Nullable Path directory) {
+		Assert.isTrue(threshold >= 0, "threshold must not be negative");
+		this.threshold = threshold;
+		this.directory = directory;
+	}
+
+	/**
+	 * Returns a {@code ContentStorage} that holds all content in memory. Its sessions
+	 * never create any files.
+	 * @return the content storage
+	 */
+	public static ContentStorage inMemory() {
+		return IN_MEMORY;
+	}
+
+	/**
+	 * Returns a {@code ContentStorage} that spills content that is larger than the given
+	 * {@code threshold} to a file in the default temporary-file directory.
+	 * @param threshold the threshold in bytes
+	 * @return the content storage
+	 */
+	public static ContentStorage spillToDisk(int threshold) {
+		return new ContentStorage(threshold, null);
+	}
+
+	/**
+	 * Returns a {@code ContentStorage} that spills content that is larger than the given
+	 * {@code threshold} to a file in the given {@code directory}.
+	 * @param threshold the threshold in bytes
+	 * @param directory the directory in which files are created
+	 * @return the content storage
+	 */
+	public static ContentStorage spillToDisk(int threshold, Path directory) {
+		return new ContentStorage(threshold, directory);
+	}
+
+	/**
+	 * Opens a new {@link Session} for storing the content of a single operation. The
+	 * session should be closed once the operation has been documented.
+	 * @return the session
+	 */
+	public Session open() {
+		return new Session();
+	}
+
+	@Override
+	public String toString() {
+		if (this == IN_MEMORY) {
+			return "in memory";
+		}
+		return "spill to disk above " + this.threshold + " bytes"
+				+ ((this.directory != null) ? " in " + this.directory : "");
+	}
+
+	/**
+	 * A session in which the content of an operation is stored. Closing the session
+	 * deletes any files that were created to store content.
+	 */
+	public final class Session implements AutoCloseable {
+
+		private final List<Path> files = new ArrayList<>();
+
+		private Session() {
+
+		}
+
+		/**
+		 * Stores the given {@code content}. If the content is not larger than the
+		 * threshold, a buffer that wraps it is returned. Otherwise, the content is
+		 * written to a file and a read-only buffer mapped from the file is returned,
+		 * allowing the given array to be garbage collected.
+		 * @param content the content
+		 * @return a buffer that provides access to the stored content
+		 */
+		public ByteBuffer store(byte[] content) {
+			if (content.length <= ContentStorage.this.threshold) {
+				return ByteBuffer.wrap(content);
+			}
+			return spill(MessageContent.of(content));
+		}
+
+		/**
+		 * Stores the content read from the given {@code input}. Once more than the
+		 * threshold has been read, the remaining content is copied directly to a file
+		 * rather than being read into memory. The input is not closed.
+		 * @param input the input from which the content is read
+		 * @return a buffer that provides access to the stored content
+		 * @throws IOException if the content cannot be read or stored
+		 */
+		public ByteBuffer store(InputStream input) throws IOException {
+			int threshold = ContentStorage.this.threshold;
+			byte[] head = input.readNBytes((threshold < Integer.MAX_VALUE) ? threshold + 1 : threshold);
+			if (head.length <= threshold) {
+				return ByteBuffer.wrap(head);
+			}
+			Path file = createFile();
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				OutputStream output = Channels.newOutputStream(channel);
+				output.write(head);
+				input.transferTo(output);
+				return channel.map(MapMode.READ_ONLY, 0, channel.size());
+			}
+		}
+
+		/**
+		 * Stores the content of the given {@code request} and its parts. If none of the
+		 * content is larger than the threshold, the request is returned unchanged.
+		 * @param request the request
+		 * @return the request with its content stored
+		 */
+		public OperationRequest store(OperationRequest request) {
+			MessageContent content = MessageContent.of(request);
+			MessageContent storedContent = store(content);
+			Collection<OperationRequestPart> parts = request.getParts();
+			List<OperationRequestPart> storedParts = store(parts);
+			if (storedContent == content && storedParts == null) {
+				return request;
+			}
+			return new StandardOperationRequest(request.getUri(), request.getMethod(), storedContent,
+					request.getHeaders(), (storedParts != null) ? storedParts : parts, request.getCookies());
+		}
+
+		/**
+		 * Stores the content of the given {@code response}. If the content is not larger
+		 * than the threshold, the response is returned unchanged.
+		 * @param response the response
+		 * @return the response with its content stored
+		 */
+		public OperationResponse store(OperationResponse response) {
+			MessageContent content = MessageContent.of(response);
+			MessageContent storedContent = store(content);
+			if (storedContent == content) {
+				return response;
+			}
+			return new StandardOperationResponse(response.getStatus(), response.getHeaders(), storedContent,
+					response.getCookies());
+		}
+
+		private @Nullable List<OperationRequestPart> store(Collection<OperationRequestPart> parts) {
+			List<OperationRequestPart> storedParts = null;
+			int index = 0;
+			for (OperationRequestPart part : parts) {
+				MessageContent content = MessageContent.of(part);
+				MessageContent storedContent = store(content);
+				if (storedContent != content) {
+					if (storedParts == null) {
+						storedParts = new ArrayList<>(parts);
+					}
+					storedParts.set(index, new StandardOperationRequestPart(part.getName(),
+							part.getSubmittedFileName(), storedContent, part.getHeaders()));
+				}
+				index++;
+			}
+			return storedParts;
+		}
+
+		private MessageContent store(MessageContent content) {
+			if (!content.isOnHeap() || content.length() <= ContentStorage.this.threshold) {
+				return content;
+			}
+			return MessageContent.of(spill(content));
+		}
+
+		private ByteBuffer spill(MessageContent content) {
+			try {
+				Path file = createFile();
+				try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ,
+						StandardOpenOption.WRITE)) {
+					content.writeTo(channel);
+					return channel.map(MapMode.READ_ONLY, 0, content.length());
+				}
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException("Failed to store content in a file", ex);
+			}
+		}
+
+		private Path createFile() throws IOException {
+			Path directory = ContentStorage.this.directory;
+			Path file = (directory != null) ? Files.createTempFile(directory, "restdocs-", ".content")
+					: Files.createTempFile("restdocs-", ".content");
+			this.files.add(file);
+			return file;
+		}
+
+		/**
+		 * Deletes the files that were created to store content. Content that has been
+		 * mapped from a file remains accessible on platforms that allow a mapped file to
+		 * be deleted. On other platforms, files that cannot be deleted are deleted when
+		 * the JVM exits.
+		 */
+		@Override
+		public void close() {
+			for (Path file : this.files) {
+				try {
+					Files.deleteIfExists(file);
+				}
+				catch (IOException ex) {
+					file.toFile().deleteOnExit();
+				}
+			}
+			this.files.clear();
+		}
+
+	}
+
+}
@@ -16,12 +16,10 @@
 
 package org.springframework.restdocs.operation;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLDecoder;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Scanner;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
+import org.springframework.http.MediaType;
 import org.springframework.util.LinkedMultiValueMap;
 
 /**
@@ -44,53 +42,15 @@ public final class FormParameters extends LinkedMultiValueMap<String, String> {
 	 * @return the form parameters extracted from the body content
 	 */
 	public static FormParameters from(OperationRequest request) {
-		return of(request.getContentAsString());
-	}
-
-	private static FormParameters of(String bodyContent) {
-		if (bodyContent == null || bodyContent.length() == 0) {
-			return new FormParameters();
-		}
-		return parse(bodyContent);
-	}
-
-	private static FormParameters parse(String bodyContent) {
 		FormParameters parameters = new FormParameters();
-		try (Scanner scanner = new Scanner(bodyContent)) {
-			scanner.useDelimiter("&");
-			while (scanner.hasNext()) {
-				processParameter(scanner.next(), parameters);
-			}
+		byte[] content = request.getContent();
+		if (content.length > 0) {
+			MediaType contentType = request.getHeaders().getContentType();
+			Charset charset = (contentType != null) ? contentType.getCharset() : null;
+			UrlEncodedParameterParser.parse(content, (charset != null) ? charset : StandardCharsets.UTF_8,
+					parameters);
 		}
 		return parameters;
 	}
 
-	private static void processParameter(String parameter, FormParameters parameters) {
-		String[] components = parameter.split("=");
-		if (components.length > 0 && components.length < 3) {
-			if (components.length == 2) {
-				String name = components[0];
-				String value = components[1];
-				parameters.add(decode(name), decode(value));
-			}
-			else {
-				List<String> values = parameters.computeIfAbsent(components[0], (p) -> new LinkedList<>());
-				values.add("");
-			}
-		}
-		else {
-			throw new IllegalArgumentException("The parameter '" + parameter + "' is malformed");
-		}
-	}
-
-	private static String decode(String encoded) {
-		try {
-			return URLDecoder.decode(encoded, "UTF-8");
-		}
-		catch (UnsupportedEncodingException ex) {
-			throw new IllegalStateException("Unable to URL decode " + encoded + " using UTF-8", ex);
-		}
-
-	}
-
 }
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The content of an {@link OperationMessage}, held either on the heap or in a read-only
+ * buffer such as one that is mapped from a file.
+ *
+ * @author Andy Wilkinson
+ * @see ContentStorage
+ */
+abstract class MessageContent {
+
+	private static final MessageContent EMPTY = new HeapContent(new byte[0]);
+
+	/**
+	 * Returns content backed by the given {@code bytes}. The bytes are not copied.
+	 * @param bytes the bytes or {@code null}
+	 * @return the content
+	 */
+	static MessageContent of(byte @Nullable [] bytes) {
+		return (bytes != null && bytes.length > 0) ? new HeapContent(bytes) : EMPTY;
+	}
+
+	/**
+	 * Returns the content of the given {@code request}, avoiding a copy where possible.
+	 * @param request the request
+	 * @return the content
+	 */
+	static MessageContent of(OperationRequest request) {
+		return of(request, request::getContent);
+	}
+
+	/**
+	 * Returns the content of the given {@code part}, avoiding a copy where possible.
+	 * @param part the part
+	 * @return the content
+	 */
+	static MessageContent of(OperationRequestPart part) {
+		return of(part, part::getContent);
+	}
+
+	/**
+	 * Returns the content of the given {@code response}, avoiding a copy where possible.
+	 * @param response the response
+	 * @return the content
+	 */
+	static MessageContent of(OperationResponse response) {
+		return of(response, response::getContent);
+	}
+
+	private static MessageContent of(Object message, Supplier<byte[]> content) {
+		if (message instanceof AbstractOperationMessage) {
+			return ((AbstractOperationMessage) message).content();
+		}
+		return of(content.get());
+	}
+
+	/**
+	 * Returns content backed by the remaining bytes of the given {@code buffer}. The
+	 * buffer's content is not copied. A buffer that wraps the whole of an accessible
+	 * array is treated as heap content.
+	 * @param buffer the buffer
+	 * @return the content
+	 */
+	static MessageContent of(ByteBuffer buffer) {
+		if (!buffer.hasRemaining()) {
+			return EMPTY;
+		}
+		if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0
+				&& buffer.remaining() == buffer.array().length) {
+			return new HeapContent(buffer.array());
+		}
+		return new BufferContent(buffer);
+	}
+
+	/**
+	 * Returns the length of the content in bytes.
+	 * @return the length
+	 */
+	abstract int length();
+
+	/**
+	 * Returns whether the content is held in an array on the heap.
+	 * @return {@code true} if the content is on the heap, otherwise {@code false}
+	 */
+	abstract boolean isOnHeap();
+
+	/**
+	 * Returns a copy of the content.
+	 * @return the copy
+	 */
+	abstract byte[] toByteArray();
+
+	/**
+	 * Returns a new read-only buffer that provides access to the content without copying
+	 * it.
+	 * @return the buffer
+	 */
+	abstract ByteBuffer asReadOnlyBuffer();
+
+	/**
+	 * Returns the content as a {@code String} decoded using the given {@code charset}.
+	 * @param charset the charset
+	 * @return the content as a string
+	 */
+	String toString(Charset charset) {
+		return new String(toByteArray(), charset);
+	}
+
+	/**
+	 * Writes the content to the given {@code channel}.
+	 * @param channel the channel
+	 * @throws IOException if the content cannot be written
+	 */
+	void writeTo(WritableByteChannel channel) throws IOException {
+		ByteBuffer buffer = asReadOnlyBuffer();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	private static final class HeapContent extends MessageContent {
+
+		private final byte[] bytes;
+
+		private HeapContent(byte[] bytes) {
+			this.bytes = bytes;
+		}
+
+		@Override
+		int length() {
+			return this.bytes.length;
+		}
+
+		@Override
+		boolean isOnHeap() {
+			return true;
+		}
+
+		@Override
+		byte[] toByteArray() {
+			return Arrays.copyOf(this.bytes, this.bytes.length);
+		}
+
+		@Override
+		ByteBuffer asReadOnlyBuffer() {
+			return ByteBuffer.wrap(this.bytes).asReadOnlyBuffer();
+		}
+
+		@Override
+		String toString(Charset charset) {
+			return new String(this.bytes, charset);
+		}
+
+	}
+
+	private static final class BufferContent extends MessageContent {
+
+		private final ByteBuffer buffer;
+
+		private BufferContent(ByteBuffer buffer) {
+			this.buffer = buffer.asReadOnlyBuffer();
+		}
+
+		@Override
+		int length() {
+			return this.buffer.remaining();
+		}
+
+		@Override
+		boolean isOnHeap() {
+			return false;
+		}
+
+		@Override
+		byte[] toByteArray() {
+			byte[] bytes = new byte[length()];
+			asReadOnlyBuffer().get(bytes);
+			return bytes;
+		}
+
+		@Override
+		ByteBuffer asReadOnlyBuffer() {
+			return this.buffer.duplicate();
+		}
+
+		@Override
+		String toString(Charset charset) {
+			return charset.decode(asReadOnlyBuffer()).toString();
+		}
+
+	}
+
+}
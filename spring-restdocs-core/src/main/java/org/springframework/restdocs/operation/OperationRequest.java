@@ -17,6 +17,7 @@
 package org.springframework.restdocs.operation;
 
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 
 import org.springframework.http.HttpHeaders;
@@ -46,6 +47,19 @@ public interface OperationRequest {
 	 */
 	String getContentAsString();
 
+	/**
+	 * Returns a read-only buffer that provides access to the content of the request. If
+	 * the request has no content an empty buffer is returned. Unlike
+	 * {@link #getContent()}, the content may not be copied, for example when it has been
+	 * stored in a file by {@link ContentStorage}. The default implementation wraps the
+	 * result of {@link #getContent()}.
+	 * @return the content as a read-only buffer, never {@code null}
+	 * @since 4.1.0
+	 */
+	default ByteBuffer getContentAsByteBuffer() {
+		return ByteBuffer.wrap(getContent()).asReadOnlyBuffer();
+	}
+
 	/**
 	 * Returns the headers that were included in the request.
 	 * @return the headers
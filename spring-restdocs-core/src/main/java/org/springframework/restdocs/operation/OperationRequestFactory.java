@@ -17,6 +17,7 @@
 package org.springframework.restdocs.operation;
 
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -51,6 +52,30 @@ public class OperationRequestFactory {
 				(parts != null) ? parts : Collections.emptyList(), cookies);
 	}
 
+	/**
+	 * Creates a new {@link OperationRequest} with the given {@code content}. The content
+	 * is not copied so the buffer must not be modified once the request has been created.
+	 * The given {@code headers} will be augmented to ensure that they always include a
+	 * {@code Content-Length} header if the request has any content and a {@code Host}
+	 * header.
+	 * @param uri the request's uri
+	 * @param method the request method
+	 * @param content the content of the request
+	 * @param headers the request's headers
+	 * @param parts the request's parts
+	 * @param cookies the request's cookies
+	 * @return the {@code OperationRequest}
+	 * @since 4.1.0
+	 * @see ContentStorage.Session#store(byte[])
+	 */
+	public OperationRequest createFromBuffer(URI uri, HttpMethod method, ByteBuffer content, HttpHeaders headers,
+			@Nullable Collection<OperationRequestPart> parts, Collection<RequestCookie> cookies) {
+		MessageContent messageContent = MessageContent.of(content);
+		return new StandardOperationRequest(uri, method, messageContent,
+				augmentHeaders(headers, uri, messageContent.length()),
+				(parts != null) ? parts : Collections.emptyList(), cookies);
+	}
+
 	/**
 	 * Creates a new {@link OperationRequest}. The given {@code headers} will be augmented
 	 * to ensure that they always include a {@code Content-Length} header if the request
@@ -89,13 +114,33 @@ public class OperationRequestFactory {
 	 * @return the new request with the new headers
 	 */
 	public OperationRequest createFrom(OperationRequest original, HttpHeaders newHeaders) {
-		return new StandardOperationRequest(original.getUri(), original.getMethod(), original.getContent(), newHeaders,
+		return new StandardOperationRequest(original.getUri(), original.getMethod(), MessageContent.of(original),
+				newHeaders, original.getParts(), original.getCookies());
+	}
+
+	/**
+	 * Creates a new {@code OperationRequest} based on the given {@code original} but with
+	 * the given {@code newContent} and {@code newHeaders}. The new headers are used as-is
+	 * and are not modified to match the new content.
+	 * @param original the original request
+	 * @param newContent the new content
+	 * @param newHeaders the new headers
+	 * @return the new request with the new content and headers
+	 * @since 4.1.0
+	 */
+	public OperationRequest createFrom(OperationRequest original, byte @Nullable [] newContent,
+			HttpHeaders newHeaders) {
+		return new StandardOperationRequest(original.getUri(), original.getMethod(), newContent, newHeaders,
 				original.getParts(), original.getCookies());
 	}
 
 	private HttpHeaders augmentHeaders(HttpHeaders originalHeaders, URI uri, byte @Nullable [] content) {
+		return augmentHeaders(originalHeaders, uri, (content != null) ? content.length : 0);
+	}
+
+	private HttpHeaders augmentHeaders(HttpHeaders originalHeaders, URI uri, int contentLength) {
 		return new HttpHeadersHelper(originalHeaders).addIfAbsent(HttpHeaders.HOST, createHostHeader(uri))
-			.setContentLengthHeader(content)
+			.setContentLengthHeader(contentLength)
 			.getHeaders();
 	}
 
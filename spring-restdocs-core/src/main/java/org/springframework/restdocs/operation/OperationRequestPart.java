@@ -16,6 +16,8 @@
 
 package org.springframework.restdocs.operation;
 
+import java.nio.ByteBuffer;
+
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.HttpHeaders;
@@ -55,6 +57,19 @@ public interface OperationRequestPart {
 	 */
 	String getContentAsString();
 
+	/**
+	 * Returns a read-only buffer that provides access to the content of the part. If the
+	 * part has no content an empty buffer is returned. Unlike {@link #getContent()}, the
+	 * content may not be copied, for example when it has been stored in a file by
+	 * {@link ContentStorage}. The default implementation wraps the result of
+	 * {@link #getContent()}.
+	 * @return the content as a read-only buffer, never {@code null}
+	 * @since 4.1.0
+	 */
+	default ByteBuffer getContentAsByteBuffer() {
+		return ByteBuffer.wrap(getContent()).asReadOnlyBuffer();
+	}
+
 	/**
 	 * Returns the part's headers.
 	 * @return the headers
@@ -16,6 +16,8 @@
 
 package org.springframework.restdocs.operation;
 
+import java.nio.ByteBuffer;
+
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.HttpHeaders;
@@ -42,6 +44,26 @@ public class OperationRequestPartFactory {
 		return new StandardOperationRequestPart(name, submittedFileName, content, augmentHeaders(headers, content));
 	}
 
+	/**
+	 * Creates a new {@link OperationRequestPart} with the given {@code content}. The
+	 * content is not copied so the buffer must not be modified once the part has been
+	 * created. The given {@code headers} will be augmented to ensure that they always
+	 * include a {@code Content-Length} header if the part has any content.
+	 * @param name the name of the part
+	 * @param submittedFileName the name of the file being submitted by the part
+	 * @param content the content of the part
+	 * @param headers the headers of the part
+	 * @return the {@code OperationRequestPart}
+	 * @since 4.1.0
+	 * @see ContentStorage.Session#store(byte[])
+	 */
+	public OperationRequestPart createFromBuffer(String name, @Nullable String submittedFileName, ByteBuffer content,
+			HttpHeaders headers) {
+		MessageContent messageContent = MessageContent.of(content);
+		return new StandardOperationRequestPart(name, submittedFileName, messageContent,
+				new HttpHeadersHelper(headers).setContentLengthHeader(messageContent.length()).getHeaders());
+	}
+
 	private HttpHeaders augmentHeaders(HttpHeaders input, byte[] content) {
 		return new HttpHeadersHelper(input).setContentLengthHeader(content).getHeaders();
 	}
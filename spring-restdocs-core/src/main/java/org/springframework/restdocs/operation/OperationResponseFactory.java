@@ -16,6 +16,7 @@
 
 package org.springframework.restdocs.operation;
 
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -63,6 +64,27 @@ public class OperationResponseFactory {
 		return new StandardOperationResponse(status, augmentHeaders(headers, content), content, cookies);
 	}
 
+	/**
+	 * Creates a new {@link OperationResponse} with the given {@code content}. The content
+	 * is not copied so the buffer must not be modified once the response has been
+	 * created. If the response has any content, the given {@code headers} will be
+	 * augmented to ensure that they include a {@code Content-Length} header.
+	 * @param status the status of the response
+	 * @param headers the response's headers
+	 * @param content the content of the response
+	 * @param cookies the cookies
+	 * @return the {@code OperationResponse}
+	 * @since 4.1.0
+	 * @see ContentStorage.Session#store(byte[])
+	 */
+	public OperationResponse createFromBuffer(HttpStatusCode status, HttpHeaders headers, ByteBuffer content,
+			Collection<ResponseCookie> cookies) {
+		MessageContent messageContent = MessageContent.of(content);
+		return new StandardOperationResponse(status,
+				new HttpHeadersHelper(headers).setContentLengthHeader(messageContent.length()).getHeaders(),
+				messageContent, cookies);
+	}
+
 	/**
 	 * Creates a new {@code OperationResponse} based on the given {@code original} but
 	 * with the given {@code newContent}. If the original response had a
@@ -85,10 +107,24 @@ public class OperationResponseFactory {
 	 * @return the new response with the new headers
 	 */
 	public OperationResponse createFrom(OperationResponse original, HttpHeaders newHeaders) {
-		return new StandardOperationResponse(original.getStatus(), newHeaders, original.getContent(),
+		return new StandardOperationResponse(original.getStatus(), newHeaders, MessageContent.of(original),
 				original.getCookies());
 	}
 
+	/**
+	 * Creates a new {@code OperationResponse} based on the given {@code original} but
+	 * with the given {@code newContent} and {@code newHeaders}. The new headers are used
+	 * as-is and are not modified to match the new content.
+	 * @param original the original response
+	 * @param newContent the new content
+	 * @param newHeaders the new headers
+	 * @return the new response with the new content and headers
+	 * @since 4.1.0
+	 */
+	public OperationResponse createFrom(OperationResponse original, byte[] newContent, HttpHeaders newHeaders) {
+		return new StandardOperationResponse(original.getStatus(), newHeaders, newContent, original.getCookies());
+	}
+
 	private HttpHeaders augmentHeaders(HttpHeaders originalHeaders, byte @Nullable [] content) {
 		return new HttpHeadersHelper(originalHeaders).setContentLengthHeader(content).getHeaders();
 	}
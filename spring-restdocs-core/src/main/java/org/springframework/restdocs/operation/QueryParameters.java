@@ -16,12 +16,6 @@
 
 package org.springframework.restdocs.operation;
 
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Scanner;
-
 import org.springframework.util.LinkedMultiValueMap;
 
 /**
@@ -48,43 +42,11 @@ public final class QueryParameters extends LinkedMultiValueMap<String, String> {
 	}
 
 	private static QueryParameters from(String queryString) {
-		if (queryString == null || queryString.length() == 0) {
-			return new QueryParameters();
-		}
-		return parse(queryString);
-	}
-
-	private static QueryParameters parse(String query) {
 		QueryParameters parameters = new QueryParameters();
-		try (Scanner scanner = new Scanner(query)) {
-			scanner.useDelimiter("&");
-			while (scanner.hasNext()) {
-				processParameter(scanner.next(), parameters);
-			}
+		if (queryString != null && !queryString.isEmpty()) {
+			UrlEncodedParameterParser.parse(queryString, parameters);
 		}
 		return parameters;
 	}
 
-	private static void processParameter(String parameter, QueryParameters parameters) {
-		String[] components = parameter.split("=");
-		if (components.length > 0 && components.length < 3) {
-			if (components.length == 2) {
-				String name = components[0];
-				String value = components[1];
-				parameters.add(decode(name), decode(value));
-			}
-			else {
-				List<String> values = parameters.computeIfAbsent(components[0], (p) -> new LinkedList<>());
-				values.add("");
-			}
-		}
-		else {
-			throw new IllegalArgumentException("The parameter '" + parameter + "' is malformed");
-		}
-	}
-
-	private static String decode(String encoded) {
-		return URLDecoder.decode(encoded, StandardCharsets.UTF_8);
-	}
-
 }
@@ -34,4 +34,20 @@ public interface RequestConverter<R> {
 	 */
 	OperationRequest convert(R request);
 
+	/**
+	 * Converts the given {@code request} into an {@code OperationRequest}, using the
+	 * given {@code contentStorage} to store its content. Implementations should override
+	 * this method to store content as it is converted so that large content does not have
+	 * to be held on the heap. The default implementation stores the content once the
+	 * request has been {@link #convert(Object) converted}.
+	 * @param request the request
+	 * @param contentStorage the session in which content is stored
+	 * @return the operation request
+	 * @throws ConversionException if the conversion fails
+	 * @since 4.1.0
+	 */
+	default OperationRequest convert(R request, ContentStorage.Session contentStorage) {
+		return contentStorage.store(convert(request));
+	}
+
 }
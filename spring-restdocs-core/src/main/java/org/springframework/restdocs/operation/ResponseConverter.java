@@ -34,4 +34,20 @@ public interface ResponseConverter<R> {
 	 */
 	OperationResponse convert(R response);
 
+	/**
+	 * Converts the given {@code response} into an {@code OperationResponse}, using the
+	 * given {@code contentStorage} to store its content. Implementations should override
+	 * this method to store content as it is converted so that large content does not have
+	 * to be held on the heap. The default implementation stores the content once the
+	 * response has been {@link #convert(Object) converted}.
+	 * @param response the response
+	 * @param contentStorage the session in which content is stored
+	 * @return the operation response
+	 * @throws ConversionException if the conversion fails
+	 * @since 4.1.0
+	 */
+	default OperationResponse convert(R response, ContentStorage.Session contentStorage) {
+		return contentStorage.store(convert(response));
+	}
+
 }
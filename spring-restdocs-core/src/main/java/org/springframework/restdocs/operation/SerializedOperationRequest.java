@@ -0,0 +1,234 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * A view of an {@link Operation Operation's} {@link OperationRequest request} in the form
+ * in which snippets serialize it. The request's content, and the content of each of its
+ * parts, is converted to a {@code String} at most once and its content type is parsed at
+ * most once. A single view is shared by all of the snippets that document an operation,
+ * allowing snippets such as the HTTP request, curl request, and HTTPie request snippets
+ * to render the request without each deriving its serialized form again. Similarly, the
+ * request's query and form parameters are parsed at most once.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ * @see #of(Operation)
+ */
+public final class SerializedOperationRequest implements OperationRequest {
+
+	private static final String ATTRIBUTE_NAME = SerializedOperationRequest.class.getName();
+
+	private final OperationRequest delegate;
+
+	private final HttpHeaders headers;
+
+	private final @Nullable MediaType contentType;
+
+	private final SingletonSupplier<String> contentAsString;
+
+	private final List<OperationRequestPart> parts;
+
+	private final SingletonSupplier<MultiValueMap<String, String>> queryParameters;
+
+	private final SingletonSupplier<MultiValueMap<String, String>> formParameters;
+
+	private SerializedOperationRequest(OperationRequest delegate) {
+		this.delegate = delegate;
+		this.headers = delegate.getHeaders();
+		this.contentType = this.headers.getContentType();
+		this.contentAsString = SingletonSupplier.of(delegate::getContentAsString);
+		this.parts = serializedParts(delegate.getParts());
+		this.queryParameters = SingletonSupplier
+			.of(() -> CollectionUtils.unmodifiableMultiValueMap(QueryParameters.from(delegate)));
+		this.formParameters = SingletonSupplier
+			.of(() -> CollectionUtils.unmodifiableMultiValueMap(FormParameters.from(delegate)));
+	}
+
+	private static List<OperationRequestPart> serializedParts(Collection<OperationRequestPart> parts) {
+		if (parts.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<OperationRequestPart> serializedParts = new ArrayList<>(parts.size());
+		for (OperationRequestPart part : parts) {
+			serializedParts.add(new SerializedOperationRequestPart(part));
+		}
+		return Collections.unmodifiableList(serializedParts);
+	}
+
+	/**
+	 * Returns the serialized view of the request of the given {@code operation}. The view
+	 * is created when it is first needed and is then stored in the operation's
+	 * {@link Operation#getAttributes() attributes} for reuse.
+	 * @param operation the operation
+	 * @return the serialized view of the operation's request
+	 */
+	public static SerializedOperationRequest of(Operation operation) {
+		OperationRequest request = operation.getRequest();
+		Object existing = operation.getAttributes().get(ATTRIBUTE_NAME);
+		if (existing instanceof SerializedOperationRequest
+				&& ((SerializedOperationRequest) existing).delegate == request) {
+			return (SerializedOperationRequest) existing;
+		}
+		SerializedOperationRequest serialized = new SerializedOperationRequest(request);
+		operation.getAttributes().put(ATTRIBUTE_NAME, serialized);
+		return serialized;
+	}
+
+	@Override
+	public byte[] getContent() {
+		return this.delegate.getContent();
+	}
+
+	@Override
+	public ByteBuffer getContentAsByteBuffer() {
+		return this.delegate.getContentAsByteBuffer();
+	}
+
+	@Override
+	public String getContentAsString() {
+		return this.contentAsString.obtain();
+	}
+
+	/**
+	 * Returns whether the request has content that contains text. Requests with no
+	 * content are identified without decoding it.
+	 * @return {@code true} if the request has content, otherwise {@code false}
+	 * @see StringUtils#hasText(String)
+	 */
+	public boolean hasContent() {
+		return getContentAsByteBuffer().hasRemaining() && StringUtils.hasText(getContentAsString());
+	}
+
+	/**
+	 * Returns the request's content type.
+	 * @return the content type or {@code null} if the request does not have a
+	 * {@code Content-Type} header
+	 */
+	public @Nullable MediaType getContentType() {
+		return this.contentType;
+	}
+
+	/**
+	 * Returns an unmodifiable view of the request's query parameters. They are parsed
+	 * when first needed and the same view is returned thereafter.
+	 * @return the query parameters
+	 * @see QueryParameters#from(OperationRequest)
+	 */
+	public MultiValueMap<String, String> getQueryParameters() {
+		return this.queryParameters.obtain();
+	}
+
+	/**
+	 * Returns an unmodifiable view of the request's form parameters. They are parsed when
+	 * first needed and the same view is returned thereafter.
+	 * @return the form parameters
+	 * @see FormParameters#from(OperationRequest)
+	 */
+	public MultiValueMap<String, String> getFormParameters() {
+		return this.formParameters.obtain();
+	}
+
+	@Override
+	public HttpHeaders getHeaders() {
+		return this.headers;
+	}
+
+	@Override
+	public HttpMethod getMethod() {
+		return this.delegate.getMethod();
+	}
+
+	@Override
+	public Collection<OperationRequestPart> getParts() {
+		return this.parts;
+	}
+
+	@Override
+	public URI getUri() {
+		return this.delegate.getUri();
+	}
+
+	@Override
+	public Collection<RequestCookie> getCookies() {
+		return this.delegate.getCookies();
+	}
+
+	private static final class SerializedOperationRequestPart implements OperationRequestPart {
+
+		private final OperationRequestPart delegate;
+
+		private final HttpHeaders headers;
+
+		private final SingletonSupplier<String> contentAsString;
+
+		private SerializedOperationRequestPart(OperationRequestPart delegate) {
+			this.delegate = delegate;
+			this.headers = delegate.getHeaders();
+			this.contentAsString = SingletonSupplier.of(delegate::getContentAsString);
+		}
+
+		@Override
+		public String getName() {
+			return this.delegate.getName();
+		}
+
+		@Override
+		public @Nullable String getSubmittedFileName() {
+			return this.delegate.getSubmittedFileName();
+		}
+
+		@Override
+		public byte[] getContent() {
+			return this.delegate.getContent();
+		}
+
+		@Override
+		public ByteBuffer getContentAsByteBuffer() {
+			return this.delegate.getContentAsByteBuffer();
+		}
+
+		@Override
+		public String getContentAsString() {
+			return this.contentAsString.obtain();
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return this.headers;
+		}
+
+	}
+
+}
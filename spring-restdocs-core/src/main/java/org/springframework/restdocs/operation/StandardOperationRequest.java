@@ -53,6 +53,11 @@ class StandardOperationRequest extends AbstractOperationMessage implements Opera
 	 */
 	StandardOperationRequest(URI uri, HttpMethod method, byte @Nullable [] content, HttpHeaders headers,
 			Collection<OperationRequestPart> parts, Collection<RequestCookie> cookies) {
+		this(uri, method, MessageContent.of(content), headers, parts, cookies);
+	}
+
+	StandardOperationRequest(URI uri, HttpMethod method, MessageContent content, HttpHeaders headers,
+			Collection<OperationRequestPart> parts, Collection<RequestCookie> cookies) {
 		super(content, headers);
 		this.uri = uri;
 		this.method = method;
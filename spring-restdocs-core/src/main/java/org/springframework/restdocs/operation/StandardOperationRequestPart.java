@@ -39,6 +39,11 @@ class StandardOperationRequestPart extends AbstractOperationMessage implements O
 	 * @param headers the headers of the part
 	 */
 	StandardOperationRequestPart(String name, @Nullable String submittedFileName, byte[] content, HttpHeaders headers) {
+		this(name, submittedFileName, MessageContent.of(content), headers);
+	}
+
+	StandardOperationRequestPart(String name, @Nullable String submittedFileName, MessageContent content,
+			HttpHeaders headers) {
 		super(content, headers);
 		this.name = name;
 		this.submittedFileName = submittedFileName;
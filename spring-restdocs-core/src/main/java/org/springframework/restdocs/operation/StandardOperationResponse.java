@@ -45,6 +45,11 @@ class StandardOperationResponse extends AbstractOperationMessage implements Oper
 	 */
 	StandardOperationResponse(HttpStatusCode status, HttpHeaders headers, byte @Nullable [] content,
 			Collection<ResponseCookie> cookies) {
+		this(status, headers, MessageContent.of(content), cookies);
+	}
+
+	StandardOperationResponse(HttpStatusCode status, HttpHeaders headers, MessageContent content,
+			Collection<ResponseCookie> cookies) {
 		super(content, headers);
 		this.status = status;
 		this.cookies = cookies;
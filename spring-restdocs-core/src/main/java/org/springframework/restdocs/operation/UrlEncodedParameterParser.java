@@ -0,0 +1,175 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation;
+
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.util.MultiValueMap;
+
+/**
+ * Parses URL encoded parameters, such as those in a query string or a form URL encoded
+ * body, by scanning for the {@code &} and {@code =} separators rather than splitting the
+ * input with regular expressions. Empty parameters are ignored. A parameter without a
+ * value has an empty value.
+ *
+ * @author Andy Wilkinson
+ */
+final class UrlEncodedParameterParser {
+
+	private UrlEncodedParameterParser() {
+
+	}
+
+	/**
+	 * Parses the given {@code input} and adds the parameters to the given
+	 * {@code parameters}.
+	 * @param input the input to parse
+	 * @param parameters the parameters to add to
+	 * @throws IllegalArgumentException if a parameter is malformed
+	 */
+	static void parse(String input, MultiValueMap<String, String> parameters) {
+		parse(new StringSource(input), parameters);
+	}
+
+	/**
+	 * Parses the given {@code content}, encoded using the given {@code charset}, and adds
+	 * the parameters to the given {@code parameters}. When the charset is compatible with
+	 * ASCII, the content is scanned without decoding it as a whole.
+	 * @param content the content to parse
+	 * @param charset the charset of the content
+	 * @param parameters the parameters to add to
+	 * @throws IllegalArgumentException if a parameter is malformed
+	 */
+	static void parse(byte[] content, Charset charset, MultiValueMap<String, String> parameters) {
+		if (StandardCharsets.UTF_8.equals(charset) || StandardCharsets.ISO_8859_1.equals(charset)
+				|| StandardCharsets.US_ASCII.equals(charset)) {
+			parse(new BytesSource(content, charset), parameters);
+		}
+		else {
+			parse(new String(content, charset), parameters);
+		}
+	}
+
+	private static void parse(Source source, MultiValueMap<String, String> parameters) {
+		int length = source.length();
+		int start = 0;
+		while (start < length) {
+			int end = source.indexOf('&', start, length);
+			if (end > start) {
+				addParameter(source, start, end, parameters);
+			}
+			start = end + 1;
+		}
+	}
+
+	private static void addParameter(Source source, int start, int end, MultiValueMap<String, String> parameters) {
+		int trimmedEnd = end;
+		while (trimmedEnd > start && source.charAt(trimmedEnd - 1) == '=') {
+			trimmedEnd--;
+		}
+		int separator = source.indexOf('=', start, trimmedEnd);
+		if (trimmedEnd == start || source.indexOf('=', separator + 1, trimmedEnd) < trimmedEnd) {
+			throw new IllegalArgumentException(
+					"The parameter '" + source.substring(start, end) + "' is malformed");
+		}
+		String name = decode(source.substring(start, separator));
+		String value = (separator < trimmedEnd) ? decode(source.substring(separator + 1, trimmedEnd)) : "";
+		parameters.add(name, value);
+	}
+
+	private static String decode(String encoded) {
+		return URLDecoder.decode(encoded, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Input that is scanned by index.
+	 */
+	private interface Source {
+
+		int length();
+
+		int charAt(int index);
+
+		String substring(int start, int end);
+
+		default int indexOf(char c, int start, int end) {
+			for (int i = start; i < end; i++) {
+				if (charAt(i) == c) {
+					return i;
+				}
+			}
+			return end;
+		}
+
+	}
+
+	private static final class StringSource implements Source {
+
+		private final String string;
+
+		private StringSource(String string) {
+			this.string = string;
+		}
+
+		@Override
+		public int length() {
+			return this.string.length();
+		}
+
+		@Override
+		public int charAt(int index) {
+			return this.string.charAt(index);
+		}
+
+		@Override
+		public String substring(int start, int end) {
+			return this.string.substring(start, end);
+		}
+
+	}
+
+	private static final class BytesSource implements Source {
+
+		private final byte[] bytes;
+
+		private final Charset charset;
+
+		private BytesSource(byte[] bytes, Charset charset) {
+			this.bytes = bytes;
+			this.charset = charset;
+		}
+
+		@Override
+		public int length() {
+			return this.bytes.length;
+		}
+
+		@Override
+		public int charAt(int index) {
+			return this.bytes[index];
+		}
+
+		@Override
+		public String substring(int start, int end) {
+			return new String(this.bytes, start, end - start, this.charset);
+		}
+
+	}
+
+}
@@ -16,6 +16,9 @@
 
 package org.springframework.restdocs.operation.preprocess;
 
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.MediaType;
 import org.springframework.restdocs.operation.OperationRequest;
 import org.springframework.restdocs.operation.OperationRequestFactory;
 import org.springframework.restdocs.operation.OperationResponse;
@@ -23,7 +26,8 @@ import org.springframework.restdocs.operation.OperationResponseFactory;
 
 /**
  * An {@link OperationPreprocessor} that applies a {@link ContentModifier} to the content
- * of the request or response.
+ * of the request or response. When the modifier returns the content that it was given,
+ * the request or response is returned unchanged.
  *
  * @author Andy Wilkinson
  */
@@ -46,16 +50,26 @@ public class ContentModifyingOperationPreprocessor implements OperationPreproces
 
 	@Override
 	public OperationRequest preprocess(OperationRequest request) {
-		byte[] modifiedContent = this.contentModifier.modifyContent(request.getContent(),
-				request.getHeaders().getContentType());
+		byte[] content = request.getContent();
+		byte[] modifiedContent = modifyContent(content, request.getHeaders().getContentType());
+		if (modifiedContent == content) {
+			return request;
+		}
 		return this.requestFactory.createFrom(request, modifiedContent);
 	}
 
 	@Override
 	public OperationResponse preprocess(OperationResponse response) {
-		byte[] modifiedContent = this.contentModifier.modifyContent(response.getContent(),
-				response.getHeaders().getContentType());
+		byte[] content = response.getContent();
+		byte[] modifiedContent = modifyContent(content, response.getHeaders().getContentType());
+		if (modifiedContent == content) {
+			return response;
+		}
 		return this.responseFactory.createFrom(response, modifiedContent);
 	}
 
+	byte[] modifyContent(byte[] content, @Nullable MediaType contentType) {
+		return this.contentModifier.modifyContent(content, contentType);
+	}
+
 }
@@ -18,6 +18,8 @@ package org.springframework.restdocs.operation.preprocess;
 
 import java.util.List;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.restdocs.operation.OperationRequest;
 import org.springframework.util.Assert;
 
@@ -36,19 +38,33 @@ class DelegatingOperationRequestPreprocessor implements OperationRequestPreproce
 	/**
 	 * Creates a new {@code DelegatingOperationRequestPreprocessor} that will delegate to
 	 * the given {@code delegates} by calling
-	 * {@link OperationPreprocessor#preprocess(OperationRequest)}.
+	 * {@link OperationPreprocessor#preprocess(OperationRequest)}. Adjacent delegates that
+	 * modify content or headers are {@link FusedOperationPreprocessor fused}.
 	 * @param delegates the delegates
 	 */
 	DelegatingOperationRequestPreprocessor(List<OperationPreprocessor> delegates) {
 		Assert.notNull(delegates, "delegates must be non-null");
-		this.delegates = delegates;
+		this.delegates = FusedOperationPreprocessor.fuse(delegates);
 	}
 
 	@Override
 	public OperationRequest preprocess(OperationRequest operationRequest) {
+		return preprocess(null, operationRequest);
+	}
+
+	@Override
+	public OperationRequest preprocess(@Nullable String operationName, OperationRequest operationRequest) {
 		OperationRequest preprocessedRequest = operationRequest;
 		for (OperationPreprocessor delegate : this.delegates) {
+			OperationPreprocessingEvent event = new OperationPreprocessingEvent(operationName, "request",
+					delegate.getClass());
+			event.begin();
 			preprocessedRequest = delegate.preprocess(preprocessedRequest);
+			event.end();
+			if (event.shouldCommit()) {
+				event.contentLength = preprocessedRequest.getContentAsByteBuffer().remaining();
+				event.commit();
+			}
 		}
 		return preprocessedRequest;
 	}
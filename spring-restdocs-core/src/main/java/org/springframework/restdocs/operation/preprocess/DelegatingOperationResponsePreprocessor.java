@@ -18,6 +18,8 @@ package org.springframework.restdocs.operation.preprocess;
 
 import java.util.List;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.restdocs.operation.OperationResponse;
 import org.springframework.util.Assert;
 
@@ -35,19 +37,33 @@ class DelegatingOperationResponsePreprocessor implements OperationResponsePrepro
 	/**
 	 * Creates a new {@code DelegatingOperationResponsePreprocessor} that will delegate to
 	 * the given {@code delegates} by calling
-	 * {@link OperationPreprocessor#preprocess(OperationResponse)}.
+	 * {@link OperationPreprocessor#preprocess(OperationResponse)}. Adjacent delegates
+	 * that modify content or headers are {@link FusedOperationPreprocessor fused}.
 	 * @param delegates the delegates
 	 */
 	DelegatingOperationResponsePreprocessor(List<OperationPreprocessor> delegates) {
 		Assert.notNull(delegates, "delegates must be non-null");
-		this.delegates = delegates;
+		this.delegates = FusedOperationPreprocessor.fuse(delegates);
 	}
 
 	@Override
 	public OperationResponse preprocess(OperationResponse response) {
+		return preprocess(null, response);
+	}
+
+	@Override
+	public OperationResponse preprocess(@Nullable String operationName, OperationResponse response) {
 		OperationResponse preprocessedResponse = response;
 		for (OperationPreprocessor delegate : this.delegates) {
+			OperationPreprocessingEvent event = new OperationPreprocessingEvent(operationName, "response",
+					delegate.getClass());
+			event.begin();
 			preprocessedResponse = delegate.preprocess(preprocessedResponse);
+			event.end();
+			if (event.shouldCommit()) {
+				event.contentLength = preprocessedResponse.getContentAsByteBuffer().remaining();
+				event.commit();
+			}
 		}
 		return preprocessedResponse;
 	}
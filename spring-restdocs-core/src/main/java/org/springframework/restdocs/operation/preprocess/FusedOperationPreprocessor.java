@@ -0,0 +1,221 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation.preprocess;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.restdocs.operation.OperationRequest;
+import org.springframework.restdocs.operation.OperationRequestFactory;
+import org.springframework.restdocs.operation.OperationResponse;
+import org.springframework.restdocs.operation.OperationResponseFactory;
+
+/**
+ * An {@link OperationPreprocessor} that fuses a sequence of
+ * {@link ContentModifyingOperationPreprocessor content modifying} and
+ * {@link HeadersModifyingOperationPreprocessor headers modifying} preprocessors. The
+ * preprocessors are applied in order to a single copy of the content and headers from
+ * which a single new request or response is then created. If none of the preprocessors
+ * modifies the content or headers, the original request or response is returned. As each
+ * preprocessor would, the {@code Content-Length} header, if present, is updated whenever
+ * the content is modified.
+ *
+ * @author Andy Wilkinson
+ */
+final class FusedOperationPreprocessor implements OperationPreprocessor {
+
+	private final OperationRequestFactory requestFactory = new OperationRequestFactory();
+
+	private final OperationResponseFactory responseFactory = new OperationResponseFactory();
+
+	private final List<Stage> stages;
+
+	private FusedOperationPreprocessor(List<Stage> stages) {
+		this.stages = stages;
+	}
+
+	@Override
+	public OperationRequest preprocess(OperationRequest request) {
+		Message message = apply(new Message(request.getContent(), request.getHeaders()));
+		if (!message.modified) {
+			return request;
+		}
+		return this.requestFactory.createFrom(request, message.content, message.headers);
+	}
+
+	@Override
+	public OperationResponse preprocess(OperationResponse response) {
+		Message message = apply(new Message(response.getContent(), response.getHeaders()));
+		if (!message.modified) {
+			return response;
+		}
+		return this.responseFactory.createFrom(response, message.content, message.headers);
+	}
+
+	private Message apply(Message message) {
+		for (Stage stage : this.stages) {
+			stage.apply(message);
+		}
+		return message;
+	}
+
+	/**
+	 * Returns the given {@code preprocessors} with each run of two or more adjacent
+	 * preprocessors that can be fused replaced by a {@code FusedOperationPreprocessor}.
+	 * @param preprocessors the preprocessors
+	 * @return the preprocessors after fusion
+	 */
+	static List<OperationPreprocessor> fuse(List<OperationPreprocessor> preprocessors) {
+		List<OperationPreprocessor> fused = new ArrayList<>(preprocessors.size());
+		List<OperationPreprocessor> run = new ArrayList<>();
+		for (OperationPreprocessor preprocessor : preprocessors) {
+			if (isFusible(preprocessor)) {
+				run.add(preprocessor);
+			}
+			else {
+				addRun(run, fused);
+				fused.add(preprocessor);
+			}
+		}
+		addRun(run, fused);
+		return fused;
+	}
+
+	private static void addRun(List<OperationPreprocessor> run, List<OperationPreprocessor> fused) {
+		if (run.size() == 1) {
+			fused.add(run.get(0));
+		}
+		else if (run.size() > 1) {
+			List<Stage> stages = new ArrayList<>(run.size());
+			for (OperationPreprocessor preprocessor : run) {
+				stages.add(asStage(preprocessor));
+			}
+			fused.add(new FusedOperationPreprocessor(stages));
+		}
+		run.clear();
+	}
+
+	private static boolean isFusible(OperationPreprocessor preprocessor) {
+		// Subclasses may have overridden preprocess so only exact types are fused
+		return preprocessor.getClass() == ContentModifyingOperationPreprocessor.class
+				|| preprocessor.getClass() == HeadersModifyingOperationPreprocessor.class;
+	}
+
+	private static Stage asStage(OperationPreprocessor preprocessor) {
+		if (preprocessor instanceof ContentModifyingOperationPreprocessor) {
+			return new ContentModifyingStage((ContentModifyingOperationPreprocessor) preprocessor);
+		}
+		return new HeadersModifyingStage((HeadersModifyingOperationPreprocessor) preprocessor);
+	}
+
+	/**
+	 * A stage of a fused preprocessor.
+	 */
+	private interface Stage {
+
+		/**
+		 * Applies the stage to the given {@code message}.
+		 * @param message the message
+		 */
+		void apply(Message message);
+
+	}
+
+	/**
+	 * The content and headers of the request or response that is being preprocessed.
+	 * The headers are copied when they are first modified.
+	 */
+	private static final class Message {
+
+		private byte[] content;
+
+		private HttpHeaders headers;
+
+		private boolean headersCopied;
+
+		private boolean modified;
+
+		private Message(byte[] content, HttpHeaders headers) {
+			this.content = content;
+			this.headers = headers;
+		}
+
+		private void setContent(byte[] content) {
+			this.content = content;
+			this.modified = true;
+		}
+
+		private HttpHeaders modifiableHeaders() {
+			if (!this.headersCopied) {
+				HttpHeaders copy = new HttpHeaders();
+				copy.addAll(this.headers);
+				this.headers = copy;
+				this.headersCopied = true;
+			}
+			this.modified = true;
+			return this.headers;
+		}
+
+	}
+
+	private static final class ContentModifyingStage implements Stage {
+
+		private final ContentModifyingOperationPreprocessor preprocessor;
+
+		private ContentModifyingStage(ContentModifyingOperationPreprocessor preprocessor) {
+			this.preprocessor = preprocessor;
+		}
+
+		@Override
+		public void apply(Message message) {
+			byte[] modifiedContent = this.preprocessor.modifyContent(message.content,
+					message.headers.getContentType());
+			if (modifiedContent == message.content) {
+				return;
+			}
+			message.setContent(modifiedContent);
+			if (message.headers.getContentLength() != -1) {
+				if (modifiedContent.length == 0) {
+					message.modifiableHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+				}
+				else {
+					message.modifiableHeaders().setContentLength(modifiedContent.length);
+				}
+			}
+		}
+
+	}
+
+	private static final class HeadersModifyingStage implements Stage {
+
+		private final HeadersModifyingOperationPreprocessor preprocessor;
+
+		private HeadersModifyingStage(HeadersModifyingOperationPreprocessor preprocessor) {
+			this.preprocessor = preprocessor;
+		}
+
+		@Override
+		public void apply(Message message) {
+			if (this.preprocessor.modifies(message.headers)) {
+				this.preprocessor.applyTo(message.modifiableHeaders());
+			}
+		}
+
+	}
+
+}
@@ -47,21 +47,47 @@ public class HeadersModifyingOperationPreprocessor implements OperationPreproces
 
 	@Override
 	public OperationRequest preprocess(OperationRequest request) {
+		if (!modifies(request.getHeaders())) {
+			return request;
+		}
 		return this.requestFactory.createFrom(request, preprocess(request.getHeaders()));
 	}
 
 	@Override
 	public OperationResponse preprocess(OperationResponse response) {
+		if (!modifies(response.getHeaders())) {
+			return response;
+		}
 		return this.responseFactory.createFrom(response, preprocess(response.getHeaders()));
 	}
 
 	private HttpHeaders preprocess(HttpHeaders headers) {
 		HttpHeaders modifiedHeaders = new HttpHeaders();
 		modifiedHeaders.addAll(headers);
+		applyTo(modifiedHeaders);
+		return modifiedHeaders;
+	}
+
+	/**
+	 * Returns whether applying the modifications to the given {@code headers} would
+	 * modify them. As the headers are unchanged until the first modification that
+	 * applies, this is the case if any of the modifications applies to the given headers.
+	 * @param headers the headers
+	 * @return whether the headers would be modified
+	 */
+	boolean modifies(HttpHeaders headers) {
 		for (Modification modification : this.modifications) {
-			modification.applyTo(modifiedHeaders);
+			if (modification.appliesTo(headers)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	void applyTo(HttpHeaders headers) {
+		for (Modification modification : this.modifications) {
+			modification.applyTo(headers);
 		}
-		return modifiedHeaders;
 	}
 
 	/**
@@ -115,12 +141,23 @@ public class HeadersModifyingOperationPreprocessor implements OperationPreproces
 	 * @see Matcher#matches()
 	 */
 	public HeadersModifyingOperationPreprocessor removeMatching(String namePattern) {
-		this.modifications.add(new RemoveHeadersByNamePatternModification(Pattern.compile(namePattern)));
+		Pattern pattern = Pattern.compile(namePattern);
+		Modification last = this.modifications.isEmpty() ? null
+				: this.modifications.get(this.modifications.size() - 1);
+		if (last instanceof RemoveHeadersByNamePatternModification) {
+			// Consecutive patterns are checked in a single pass over the header names
+			((RemoveHeadersByNamePatternModification) last).namePatterns.add(pattern);
+		}
+		else {
+			this.modifications.add(new RemoveHeadersByNamePatternModification(pattern));
+		}
 		return this;
 	}
 
 	private interface Modification {
 
+		boolean appliesTo(HttpHeaders headers);
+
 		void applyTo(HttpHeaders headers);
 
 	}
@@ -136,6 +173,11 @@ public class HeadersModifyingOperationPreprocessor implements OperationPreproces
 			this.value = value;
 		}
 
+		@Override
+		public boolean appliesTo(HttpHeaders headers) {
+			return true;
+		}
+
 		@Override
 		public void applyTo(HttpHeaders headers) {
 			headers.add(this.name, this.value);
@@ -154,6 +196,11 @@ public class HeadersModifyingOperationPreprocessor implements OperationPreproces
 			this.values = values;
 		}
 
+		@Override
+		public boolean appliesTo(HttpHeaders headers) {
+			return !this.values.equals(headers.get(this.name));
+		}
+
 		@Override
 		public void applyTo(HttpHeaders headers) {
 			headers.put(this.name, this.values);
@@ -169,6 +216,11 @@ public class HeadersModifyingOperationPreprocessor implements OperationPreproces
 			this.name = name;
 		}
 
+		@Override
+		public boolean appliesTo(HttpHeaders headers) {
+			return headers.get(this.name) != null;
+		}
+
 		@Override
 		public void applyTo(HttpHeaders headers) {
 			headers.remove(this.name);
@@ -187,6 +239,12 @@ public class HeadersModifyingOperationPreprocessor implements OperationPreproces
 			this.value = value;
 		}
 
+		@Override
+		public boolean appliesTo(HttpHeaders headers) {
+			List<String> values = headers.get(this.name);
+			return values != null && values.contains(this.value);
+		}
+
 		@Override
 		public void applyTo(HttpHeaders headers) {
 			List<String> values = headers.get(this.name);
@@ -202,15 +260,34 @@ public class HeadersModifyingOperationPreprocessor implements OperationPreproces
 
 	private static final class RemoveHeadersByNamePatternModification implements Modification {
 
-		private final Pattern namePattern;
+		private final List<Pattern> namePatterns = new ArrayList<>();
 
 		private RemoveHeadersByNamePatternModification(Pattern namePattern) {
-			this.namePattern = namePattern;
+			this.namePatterns.add(namePattern);
+		}
+
+		@Override
+		public boolean appliesTo(HttpHeaders headers) {
+			for (String name : headers.headerNames()) {
+				if (matches(name)) {
+					return true;
+				}
+			}
+			return false;
 		}
 
 		@Override
 		public void applyTo(HttpHeaders headers) {
-			headers.headerNames().removeIf((name) -> this.namePattern.matcher(name).matches());
+			headers.headerNames().removeIf(this::matches);
+		}
+
+		private boolean matches(String name) {
+			for (Pattern namePattern : this.namePatterns) {
+				if (namePattern.matcher(name).matches()) {
+					return true;
+				}
+			}
+			return false;
 		}
 
 	}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation.preprocess;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.json.JsonCodec;
+import org.springframework.restdocs.json.JsonCodecException;
+
+/**
+ * A {@link ContentModifier} that elides the content of JSON arrays and strings that
+ * exceed a configured size using a {@link JsonCodec}. Content with a non-JSON content
+ * type, content that cannot be read as JSON, and content that does not require elision
+ * is returned unchanged.
+ *
+ * @author Andy Wilkinson
+ * @see JsonCodec#elide(byte[], int, int, String, String)
+ */
+class JsonElidingContentModifier implements ContentModifier {
+
+	private final JsonCodec jsonCodec;
+
+	private int maxArrayElements = 3;
+
+	private int maxStringLength = 256;
+
+	private String arrayElisionMarker = "...";
+
+	private String stringElisionMarker = "...";
+
+	JsonElidingContentModifier(JsonCodec jsonCodec) {
+		this.jsonCodec = jsonCodec;
+	}
+
+	void setMaxArrayElements(int maxArrayElements) {
+		this.maxArrayElements = maxArrayElements;
+	}
+
+	void setMaxStringLength(int maxStringLength) {
+		this.maxStringLength = maxStringLength;
+	}
+
+	void setArrayElisionMarker(String arrayElisionMarker) {
+		this.arrayElisionMarker = arrayElisionMarker;
+	}
+
+	void setStringElisionMarker(String stringElisionMarker) {
+		this.stringElisionMarker = stringElisionMarker;
+	}
+
+	@Override
+	public byte[] modifyContent(byte[] originalContent, @Nullable MediaType contentType) {
+		if (originalContent.length == 0 || (contentType != null && !isJson(contentType))) {
+			return originalContent;
+		}
+		try {
+			return this.jsonCodec.elide(originalContent, this.maxArrayElements, this.maxStringLength,
+					this.arrayElisionMarker, this.stringElisionMarker);
+		}
+		catch (JsonCodecException ex) {
+			return originalContent;
+		}
+	}
+
+	private boolean isJson(MediaType contentType) {
+		return "json".equals(contentType.getSubtype()) || "json".equals(contentType.getSubtypeSuffix());
+	}
+
+}
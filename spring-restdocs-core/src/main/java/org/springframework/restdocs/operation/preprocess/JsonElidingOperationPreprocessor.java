@@ -0,0 +1,124 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation.preprocess;
+
+import org.springframework.restdocs.json.JsonCodec;
+import org.springframework.restdocs.operation.OperationRequest;
+import org.springframework.restdocs.operation.OperationResponse;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link OperationPreprocessor} that keeps large JSON request and response bodies
+ * readable by eliding their content. Arrays are cut to their first few elements, with
+ * an elision marker added as their last element, and long strings are shortened, with
+ * an elision marker appended. Content is elided using a {@link JsonCodec}. The
+ * {@link JsonCodec#jackson() Jackson codec} processes the content in a single pass
+ * without reading it into a tree. Content with a content type other than JSON is left
+ * unchanged. If present, the {@code Content-Length} header is updated to match the
+ * elided content.
+ * <p>
+ * As the array elision marker is added to an array as an extra element, it changes the
+ * types of the array's elements. The preprocessor should not be used with a snippet
+ * that documents and validates the fields of an array's elements, such as
+ * {@code items[].id}, as the marker will cause the validation to fail.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ */
+public class JsonElidingOperationPreprocessor implements OperationPreprocessor {
+
+	private final JsonElidingContentModifier contentModifier;
+
+	private final OperationPreprocessor contentModifyingDelegate;
+
+	/**
+	 * Creates a new {@code JsonElidingOperationPreprocessor} that uses
+	 * {@link JsonCodec#jackson()} to elide JSON content.
+	 */
+	public JsonElidingOperationPreprocessor() {
+		this(JsonCodec.jackson());
+	}
+
+	/**
+	 * Creates a new {@code JsonElidingOperationPreprocessor} that uses the given
+	 * {@code jsonCodec} to elide JSON content.
+	 * @param jsonCodec the JSON codec
+	 */
+	public JsonElidingOperationPreprocessor(JsonCodec jsonCodec) {
+		this.contentModifier = new JsonElidingContentModifier(jsonCodec);
+		this.contentModifyingDelegate = new ContentModifyingOperationPreprocessor(this.contentModifier);
+	}
+
+	/**
+	 * Configures the maximum number of elements of an array that are retained. Defaults
+	 * to {@code 3}.
+	 * @param maxArrayElements the maximum number of elements
+	 * @return {@code this}
+	 */
+	public JsonElidingOperationPreprocessor maxArrayElements(int maxArrayElements) {
+		Assert.isTrue(maxArrayElements >= 0, "maxArrayElements must not be negative");
+		this.contentModifier.setMaxArrayElements(maxArrayElements);
+		return this;
+	}
+
+	/**
+	 * Configures the maximum length of a string that is retained. Defaults to
+	 * {@code 256}.
+	 * @param maxStringLength the maximum length
+	 * @return {@code this}
+	 */
+	public JsonElidingOperationPreprocessor maxStringLength(int maxStringLength) {
+		Assert.isTrue(maxStringLength >= 0, "maxStringLength must not be negative");
+		this.contentModifier.setMaxStringLength(maxStringLength);
+		return this;
+	}
+
+	/**
+	 * Configures the marker that is added as the last element of an array from which
+	 * elements have been elided. Defaults to {@code ...}.
+	 * @param marker the marker
+	 * @return {@code this}
+	 */
+	public JsonElidingOperationPreprocessor arrayElisionMarker(String marker) {
+		Assert.notNull(marker, "marker must not be null");
+		this.contentModifier.setArrayElisionMarker(marker);
+		return this;
+	}
+
+	/**
+	 * Configures the marker that is appended to a string that has been shortened.
+	 * Defaults to {@code ...}.
+	 * @param marker the marker
+	 * @return {@code this}
+	 */
+	public JsonElidingOperationPreprocessor stringElisionMarker(String marker) {
+		Assert.notNull(marker, "marker must not be null");
+		this.contentModifier.setStringElisionMarker(marker);
+		return this;
+	}
+
+	@Override
+	public OperationRequest preprocess(OperationRequest request) {
+		return this.contentModifyingDelegate.preprocess(request);
+	}
+
+	@Override
+	public OperationResponse preprocess(OperationResponse response) {
+		return this.contentModifyingDelegate.preprocess(response);
+	}
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation.preprocess;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Flight Recorder event for the preprocessing of an operation's request or response by a
+ * single preprocessor. One event is recorded for each of the delegates of a
+ * {@link DelegatingOperationRequestPreprocessor} or
+ * {@link DelegatingOperationResponsePreprocessor}, after adjacent delegates have been
+ * {@link FusedOperationPreprocessor fused}. The operation is identified by its name when
+ * the preprocessor is called by a
+ * {@link org.springframework.restdocs.generate.RestDocumentationGenerator
+ * RestDocumentationGenerator}.
+ *
+ * @author Andy Wilkinson
+ */
+@Name("org.springframework.restdocs.OperationPreprocessing")
+@Label("Operation Preprocessing")
+@Description("Preprocessing of an operation's request or response")
+@Category("Spring REST Docs")
+@Enabled(false)
+@StackTrace(false)
+final class OperationPreprocessingEvent extends Event {
+
+	@Label("Operation")
+	final @Nullable String operation;
+
+	@Label("Message")
+	final String message;
+
+	@Label("Preprocessor")
+	final Class<?> preprocessor;
+
+	@Label("Content Length")
+	@DataAmount
+	long contentLength;
+
+	OperationPreprocessingEvent(@Nullable String operation, String message, Class<?> preprocessor) {
+		this.operation = operation;
+		this.message = message;
+		this.preprocessor = preprocessor;
+	}
+
+}
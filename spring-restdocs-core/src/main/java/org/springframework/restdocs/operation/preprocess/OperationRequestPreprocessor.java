@@ -34,4 +34,17 @@ public interface OperationRequestPreprocessor {
 	 */
 	OperationRequest preprocess(OperationRequest request);
 
+	/**
+	 * Processes and potentially modifies the given {@code request} of the operation with
+	 * the given {@code operationName} before it is documented. The default
+	 * implementation calls {@link #preprocess(OperationRequest)}.
+	 * @param operationName the name of the operation
+	 * @param request the request
+	 * @return the modified request
+	 * @since 4.1.0
+	 */
+	default OperationRequest preprocess(String operationName, OperationRequest request) {
+		return preprocess(request);
+	}
+
 }
@@ -34,4 +34,17 @@ public interface OperationResponsePreprocessor {
 	 */
 	OperationResponse preprocess(OperationResponse response);
 
+	/**
+	 * Processes and potentially modifies the given {@code response} of the operation with
+	 * the given {@code operationName} before it is documented. The default
+	 * implementation calls {@link #preprocess(OperationResponse)}.
+	 * @param operationName the name of the operation
+	 * @param response the response
+	 * @return the modified response
+	 * @since 4.1.0
+	 */
+	default OperationResponse preprocess(String operationName, OperationResponse response) {
+		return preprocess(response);
+	}
+
 }
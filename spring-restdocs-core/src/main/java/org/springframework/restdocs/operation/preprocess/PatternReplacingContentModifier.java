@@ -17,25 +17,32 @@
 package org.springframework.restdocs.operation.preprocess;
 
 import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
 
 /**
- * A {@link ContentModifier} that modifies the content by replacing occurrences of a
- * regular expression {@link Pattern}.
+ * A {@link ContentModifier} that modifies the content by replacing occurrences of one or
+ * more regular expression {@link Pattern Patterns}. When there are multiple patterns, the
+ * content is scanned once, replacing, at each position, the first pattern that matches.
+ * Replacements are made literally and the text that they introduce is not scanned again.
+ * If a pattern has a capturing group, only the text matched by its first group is
+ * replaced.
  *
  * @author Andy Wilkinson
  * @author Dewet Diener
  */
 class PatternReplacingContentModifier implements ContentModifier {
 
-	private final Pattern pattern;
+	private final Pattern[] patterns;
 
-	private final String replacement;
+	private final String[] replacements;
 
 	private final Charset fallbackCharset;
 
@@ -61,8 +68,22 @@ class PatternReplacingContentModifier implements ContentModifier {
 	 * @param fallbackCharset the charset to use as a fallback
 	 */
 	PatternReplacingContentModifier(Pattern pattern, String replacement, Charset fallbackCharset) {
-		this.pattern = pattern;
-		this.replacement = replacement;
+		this(Collections.singletonMap(pattern, replacement), fallbackCharset);
+	}
+
+	/**
+	 * Creates a new {@link PatternReplacingContentModifier} that will replace occurrences
+	 * of each of the given {@code replacements}' patterns with the pattern's
+	 * replacement. Patterns are tried in the map's iteration order. The content is
+	 * handled using the charset from its content type. When no content type is specified
+	 * the given {@code fallbackCharset} is used.
+	 * @param replacements the replacements, keyed by pattern
+	 * @param fallbackCharset the charset to use as a fallback
+	 */
+	PatternReplacingContentModifier(Map<Pattern, String> replacements, Charset fallbackCharset) {
+		Assert.notEmpty(replacements, "At least one replacement must be provided");
+		this.patterns = replacements.keySet().toArray(new Pattern[0]);
+		this.replacements = replacements.values().toArray(new String[0]);
 		this.fallbackCharset = fallbackCharset;
 	}
 
@@ -71,26 +92,46 @@ class PatternReplacingContentModifier implements ContentModifier {
 		Charset charset = (contentType != null && contentType.getCharset() != null) ? contentType.getCharset()
 				: this.fallbackCharset;
 		String original = new String(content, charset);
-		Matcher matcher = this.pattern.matcher(original);
-		StringBuilder builder = new StringBuilder();
+		Matcher[] matchers = new Matcher[this.patterns.length];
+		boolean[] found = new boolean[this.patterns.length];
+		for (int i = 0; i < this.patterns.length; i++) {
+			matchers[i] = this.patterns[i].matcher(original);
+			found[i] = matchers[i].find();
+		}
+		StringBuilder builder = null;
 		int previous = 0;
-		while (matcher.find()) {
-			String prefix;
-			if (matcher.groupCount() > 0) {
-				prefix = original.substring(previous, matcher.start(1));
-				previous = matcher.end(1);
+		for (int next = nextMatch(matchers, found); next != -1; next = nextMatch(matchers, found)) {
+			Matcher matcher = matchers[next];
+			int group = (matcher.groupCount() > 0) ? 1 : 0;
+			if (builder == null) {
+				builder = new StringBuilder(original.length());
 			}
-			else {
-				prefix = original.substring(previous, matcher.start());
-				previous = matcher.end();
+			builder.append(original, previous, matcher.start(group));
+			builder.append(this.replacements[next]);
+			previous = matcher.end(group);
+			int end = matcher.end();
+			found[next] = matcher.find();
+			for (int i = 0; i < matchers.length; i++) {
+				if (i != next && found[i] && matchers[i].start() < end) {
+					found[i] = matchers[i].find(end);
+				}
 			}
-			builder.append(prefix);
-			builder.append(this.replacement);
 		}
-		if (previous < original.length()) {
-			builder.append(original.substring(previous));
+		if (builder == null) {
+			return content;
 		}
+		builder.append(original, previous, original.length());
 		return builder.toString().getBytes(charset);
 	}
 
+	private int nextMatch(Matcher[] matchers, boolean[] found) {
+		int next = -1;
+		for (int i = 0; i < matchers.length; i++) {
+			if (found[i] && (next == -1 || matchers[i].start() < matchers[next].start())) {
+				next = i;
+			}
+		}
+		return next;
+	}
+
 }
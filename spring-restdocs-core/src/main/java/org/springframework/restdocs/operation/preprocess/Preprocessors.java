@@ -16,9 +16,12 @@
 
 package org.springframework.restdocs.operation.preprocess;
 
+import java.nio.charset.Charset;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.regex.Pattern;
 
+import org.springframework.restdocs.json.JsonCodec;
 import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.operation.OperationRequest;
 import org.springframework.restdocs.operation.OperationResponse;
@@ -68,6 +71,42 @@ public final class Preprocessors {
 		return new ContentModifyingOperationPreprocessor(new PrettyPrintingContentModifier());
 	}
 
+	/**
+	 * Returns an {@code OperationPreprocessor} that will pretty print the content of the
+	 * request or response, using the given {@code jsonCodec} to pretty print JSON
+	 * content.
+	 * @param jsonCodec the JSON codec
+	 * @return the preprocessor
+	 * @since 4.1.0
+	 */
+	public static OperationPreprocessor prettyPrint(JsonCodec jsonCodec) {
+		return new ContentModifyingOperationPreprocessor(new PrettyPrintingContentModifier(jsonCodec));
+	}
+
+	/**
+	 * Returns a {@code JsonElidingOperationPreprocessor} that will elide the content of
+	 * large arrays and long strings in the JSON content of the request or response. It
+	 * can then be configured to change the amount of content that is retained and the
+	 * markers that indicate where content has been elided.
+	 * @return the preprocessor
+	 * @since 4.1.0
+	 */
+	public static JsonElidingOperationPreprocessor elideJson() {
+		return new JsonElidingOperationPreprocessor();
+	}
+
+	/**
+	 * Returns a {@code JsonElidingOperationPreprocessor} that will use the given
+	 * {@code jsonCodec} to elide the content of large arrays and long strings in the
+	 * JSON content of the request or response.
+	 * @param jsonCodec the JSON codec
+	 * @return the preprocessor
+	 * @since 4.1.0
+	 */
+	public static JsonElidingOperationPreprocessor elideJson(JsonCodec jsonCodec) {
+		return new JsonElidingOperationPreprocessor(jsonCodec);
+	}
+
 	/**
 	 * Returns an {@code OperationPreprocessor} that will mask the href of hypermedia
 	 * links in the request or response.
@@ -99,6 +138,22 @@ public final class Preprocessors {
 		return new ContentModifyingOperationPreprocessor(new PatternReplacingContentModifier(pattern, replacement));
 	}
 
+	/**
+	 * Returns an {@code OperationPreprocessor} that will modify the content of the
+	 * request or response by replacing occurrences of each of the given patterns with
+	 * its replacement. The content is scanned once and, at each position, the first
+	 * pattern in the map's iteration order that matches is replaced. Text introduced by a
+	 * replacement is not matched again.
+	 * @param replacements the replacements, keyed by pattern
+	 * @return the preprocessor
+	 * @since 4.1.0
+	 * @see #replacePattern(Pattern, String)
+	 */
+	public static OperationPreprocessor replacePatterns(Map<Pattern, String> replacements) {
+		return new ContentModifyingOperationPreprocessor(
+				new PatternReplacingContentModifier(replacements, Charset.defaultCharset()));
+	}
+
 	/**
 	 * Returns a {@code HeadersModifyingOperationPreprocessor} that can then be configured
 	 * to modify the headers of the request or response.
@@ -18,7 +18,6 @@ package org.springframework.restdocs.operation.preprocess;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -40,11 +39,9 @@ import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 import org.xml.sax.XMLReader;
-import tools.jackson.databind.ObjectMapper;
-import tools.jackson.databind.SerializationFeature;
-import tools.jackson.databind.json.JsonMapper;
 
 import org.springframework.http.MediaType;
+import org.springframework.restdocs.json.JsonCodec;
 
 /**
  * A {@link ContentModifier} that modifies the content by pretty printing it.
@@ -53,13 +50,31 @@ import org.springframework.http.MediaType;
  */
 public class PrettyPrintingContentModifier implements ContentModifier {
 
-	private static final List<PrettyPrinter> PRETTY_PRINTERS = Collections
-		.unmodifiableList(Arrays.asList(new JsonPrettyPrinter(), new XmlPrettyPrinter()));
+	private final List<PrettyPrinter> prettyPrinters;
+
+	/**
+	 * Creates a new {@code PrettyPrintingContentModifier} that uses
+	 * {@link JsonCodec#jackson()} to pretty print JSON content.
+	 */
+	public PrettyPrintingContentModifier() {
+		this(JsonCodec.jackson());
+	}
+
+	/**
+	 * Creates a new {@code PrettyPrintingContentModifier} that uses the given
+	 * {@code jsonCodec} to pretty print JSON content.
+	 * @param jsonCodec the JSON codec
+	 * @since 4.1.0
+	 */
+	public PrettyPrintingContentModifier(JsonCodec jsonCodec) {
+		this.prettyPrinters = Collections
+			.unmodifiableList(Arrays.asList(new JsonPrettyPrinter(jsonCodec), new XmlPrettyPrinter()));
+	}
 
 	@Override
 	public byte[] modifyContent(byte[] originalContent, @Nullable MediaType contentType) {
 		if (originalContent.length > 0) {
-			for (PrettyPrinter prettyPrinter : PRETTY_PRINTERS) {
+			for (PrettyPrinter prettyPrinter : this.prettyPrinters) {
 				try {
 					return prettyPrinter.prettyPrint(originalContent);
 				}
@@ -142,13 +157,15 @@ public class PrettyPrintingContentModifier implements ContentModifier {
 
 	private static final class JsonPrettyPrinter implements PrettyPrinter {
 
-		private final ObjectMapper objectMapper = JsonMapper.builder()
-			.enable(SerializationFeature.INDENT_OUTPUT)
-			.build();
+		private final JsonCodec jsonCodec;
+
+		private JsonPrettyPrinter(JsonCodec jsonCodec) {
+			this.jsonCodec = jsonCodec;
+		}
 
 		@Override
-		public byte[] prettyPrint(byte[] original) throws IOException {
-			return this.objectMapper.writeValueAsBytes(this.objectMapper.readTree(original));
+		public byte[] prettyPrint(byte[] original) {
+			return this.jsonCodec.prettyPrint(original);
 		}
 
 	}
@@ -18,8 +18,8 @@ package org.springframework.restdocs.operation.preprocess;
 
 import java.net.URI;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map.Entry;
@@ -60,8 +60,11 @@ public class UriModifyingOperationPreprocessor implements OperationPreprocessor
 
 	private final UriModifyingContentModifier contentModifier = new UriModifyingContentModifier();
 
-	private final OperationPreprocessor contentModifyingDelegate = new ContentModifyingOperationPreprocessor(
-			this.contentModifier);
+	private final OperationRequestFactory requestFactory = new OperationRequestFactory();
+
+	private final OperationRequestPartFactory partFactory = new OperationRequestPartFactory();
+
+	private final OperationResponseFactory responseFactory = new OperationResponseFactory();
 
 	private @Nullable String scheme;
 
@@ -118,7 +121,28 @@ public class UriModifyingOperationPreprocessor implements OperationPreprocessor
 
 	@Override
 	public OperationRequest preprocess(OperationRequest request) {
-		UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUri(request.getUri());
+		URI modifiedUri = modify(request.getUri());
+		HttpHeaders modifiedHeaders = new HttpHeaders();
+		modifiedHeaders.addAll(modify(request.getHeaders()));
+		modifiedHeaders.set(HttpHeaders.HOST,
+				modifiedUri.getHost() + ((modifiedUri.getPort() != -1) ? ":" + modifiedUri.getPort() : ""));
+		byte[] modifiedContent = this.contentModifier.modifyContent(request.getContent(),
+				modifiedHeaders.getContentType());
+		return this.requestFactory.create(modifiedUri, request.getMethod(), modifiedContent, modifiedHeaders,
+				modify(request.getParts()), request.getCookies());
+	}
+
+	@Override
+	public OperationResponse preprocess(OperationResponse response) {
+		HttpHeaders modifiedHeaders = modify(response.getHeaders());
+		byte[] modifiedContent = this.contentModifier.modifyContent(response.getContent(),
+				modifiedHeaders.getContentType());
+		return this.responseFactory.create(response.getStatus(), modifiedHeaders, modifiedContent,
+				response.getCookies());
+	}
+
+	private URI modify(URI uri) {
+		UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUri(uri);
 		if (this.scheme != null) {
 			uriBuilder.scheme(this.scheme);
 		}
@@ -133,38 +157,61 @@ public class UriModifyingOperationPreprocessor implements OperationPreprocessor
 				uriBuilder.port(null);
 			}
 		}
-		URI modifiedUri = uriBuilder.build(true).toUri();
-		HttpHeaders modifiedHeaders = modify(request.getHeaders());
-		modifiedHeaders.set(HttpHeaders.HOST,
-				modifiedUri.getHost() + ((modifiedUri.getPort() != -1) ? ":" + modifiedUri.getPort() : ""));
-		return this.contentModifyingDelegate
-			.preprocess(new OperationRequestFactory().create(uriBuilder.build(true).toUri(), request.getMethod(),
-					request.getContent(), modifiedHeaders, modify(request.getParts()), request.getCookies()));
+		return uriBuilder.build(true).toUri();
 	}
 
-	@Override
-	public OperationResponse preprocess(OperationResponse response) {
-		return this.contentModifyingDelegate.preprocess(new OperationResponseFactory().create(response.getStatus(),
-				modify(response.getHeaders()), response.getContent(), response.getCookies()));
+	/**
+	 * Modifies the URIs in the values of the given {@code headers}. The given headers are
+	 * returned as-is when none of their values contain a URI that is modified.
+	 * @param headers the headers to modify
+	 * @return the modified headers
+	 */
+	private HttpHeaders modify(HttpHeaders headers) {
+		HttpHeaders modified = null;
+		for (Entry<String, List<String>> header : headers.headerSet()) {
+			List<String> values = header.getValue();
+			for (int i = 0; i < values.size(); i++) {
+				String value = values.get(i);
+				String modifiedValue = this.contentModifier.modify(value);
+				if (modified == null && modifiedValue != value) {
+					modified = copyPreceding(headers, header.getKey(), values.subList(0, i));
+				}
+				if (modified != null) {
+					modified.add(header.getKey(), modifiedValue);
+				}
+			}
+		}
+		return (modified != null) ? modified : headers;
 	}
 
-	private HttpHeaders modify(HttpHeaders headers) {
-		HttpHeaders modified = new HttpHeaders();
+	private HttpHeaders copyPreceding(HttpHeaders headers, String name, List<String> precedingValues) {
+		HttpHeaders copy = new HttpHeaders();
 		for (Entry<String, List<String>> header : headers.headerSet()) {
-			for (String value : header.getValue()) {
-				modified.add(header.getKey(), this.contentModifier.modify(value));
+			if (header.getKey().equals(name)) {
+				copy.addAll(name, precedingValues);
+				return copy;
 			}
+			copy.addAll(header.getKey(), header.getValue());
 		}
-		return modified;
+		return copy;
 	}
 
 	private Collection<OperationRequestPart> modify(Collection<OperationRequestPart> parts) {
-		List<OperationRequestPart> modifiedParts = new ArrayList<>();
-		OperationRequestPartFactory factory = new OperationRequestPartFactory();
+		if (parts.isEmpty()) {
+			return parts;
+		}
+		List<OperationRequestPart> modifiedParts = new ArrayList<>(parts.size());
 		for (OperationRequestPart part : parts) {
-			modifiedParts.add(factory.create(part.getName(), part.getSubmittedFileName(),
-					this.contentModifier.modifyContent(part.getContent(), part.getHeaders().getContentType()),
-					modify(part.getHeaders())));
+			HttpHeaders modifiedHeaders = modify(part.getHeaders());
+			byte[] content = part.getContent();
+			byte[] modifiedContent = this.contentModifier.modifyContent(content, modifiedHeaders.getContentType());
+			if (modifiedHeaders == part.getHeaders() && modifiedContent == content) {
+				modifiedParts.add(part);
+			}
+			else {
+				modifiedParts.add(this.partFactory.create(part.getName(), part.getSubmittedFileName(),
+						modifiedContent, modifiedHeaders));
+			}
 		}
 		return modifiedParts;
 	}
@@ -174,58 +221,84 @@ public class UriModifyingOperationPreprocessor implements OperationPreprocessor
 		private static final Pattern SCHEME_HOST_PORT_PATTERN = Pattern
 			.compile("(http[s]?)://([a-zA-Z0-9-\\.]+)(:[0-9]+)?");
 
-		private @Nullable String scheme;
+		private static final byte[] HTTP = "http".getBytes(StandardCharsets.US_ASCII);
 
-		private @Nullable String host;
-
-		private @Nullable String port;
+		private final @Nullable String[] replacements = new String[3];
 
 		private void setScheme(@Nullable String scheme) {
-			this.scheme = scheme;
+			this.replacements[0] = scheme;
 		}
 
 		private void setHost(@Nullable String host) {
-			this.host = host;
+			this.replacements[1] = host;
 		}
 
 		private void setPort(@Nullable String port) {
-			this.port = port;
+			this.replacements[2] = StringUtils.hasText(port) ? ":" + port : port;
 		}
 
+		/**
+		 * Modifies the URIs in the given {@code content}. The given content is returned
+		 * as-is when it does not contain a URI that is modified.
+		 * @param content the content to modify
+		 * @param contentType the type of the content
+		 * @return the modified content
+		 */
 		@Override
 		public byte[] modifyContent(byte[] content, @Nullable MediaType contentType) {
 			Charset charset = (contentType != null && contentType.getCharset() != null) ? contentType.getCharset()
 					: Charset.defaultCharset();
-			return modify(new String(content, charset)).getBytes(charset);
+			if (isAsciiCompatible(charset) && !containsHttp(content)) {
+				return content;
+			}
+			String original = new String(content, charset);
+			String modified = modify(original);
+			return (modified != original) ? modified.getBytes(charset) : content;
 		}
 
-		private String modify(String input) {
-			List<String> replacements = Arrays.asList(this.scheme, this.host,
-					StringUtils.hasText(this.port) ? ":" + this.port : this.port);
+		private boolean isAsciiCompatible(Charset charset) {
+			return charset.equals(StandardCharsets.UTF_8) || charset.equals(StandardCharsets.ISO_8859_1)
+					|| charset.equals(StandardCharsets.US_ASCII);
+		}
 
-			int previous = 0;
+		private boolean containsHttp(byte[] content) {
+			for (int i = 0; i <= content.length - HTTP.length; i++) {
+				if (content[i] == HTTP[0] && content[i + 1] == HTTP[1] && content[i + 2] == HTTP[2]
+						&& content[i + 3] == HTTP[3]) {
+					return true;
+				}
+			}
+			return false;
+		}
 
+		/**
+		 * Modifies the URIs in the given {@code input}. The given input is returned as-is
+		 * when it does not contain a URI.
+		 * @param input the input to modify
+		 * @return the modified input
+		 */
+		private String modify(String input) {
 			Matcher matcher = SCHEME_HOST_PORT_PATTERN.matcher(input);
-			StringBuilder builder = new StringBuilder();
-			while (matcher.find()) {
+			if (!matcher.find()) {
+				return input;
+			}
+			StringBuilder builder = new StringBuilder(input.length());
+			int previous = 0;
+			do {
 				for (int i = 1; i <= matcher.groupCount(); i++) {
 					if (matcher.start(i) >= 0) {
 						builder.append(input, previous, matcher.start(i));
-					}
-					if (matcher.start(i) >= 0) {
 						previous = matcher.end(i);
 					}
-					builder.append(getReplacement(matcher.group(i), replacements.get(i - 1)));
+					builder.append(getReplacement(matcher.group(i), this.replacements[i - 1]));
 				}
 			}
-
-			if (previous < input.length()) {
-				builder.append(input.substring(previous));
-			}
+			while (matcher.find());
+			builder.append(input, previous, input.length());
 			return builder.toString();
 		}
 
-		private String getReplacement(String original, String candidate) {
+		private String getReplacement(@Nullable String original, @Nullable String candidate) {
 			if (candidate != null) {
 				return candidate;
 			}
@@ -17,14 +17,18 @@
 package org.springframework.restdocs.payload;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.MediaType;
+import org.springframework.restdocs.json.JsonCodec;
 import org.springframework.restdocs.operation.Operation;
+import org.springframework.restdocs.snippet.BinaryContentPolicy;
 import org.springframework.restdocs.snippet.ModelCreationException;
 import org.springframework.restdocs.snippet.TemplatedSnippet;
 
@@ -79,12 +83,26 @@ public abstract class AbstractBodySnippet extends TemplatedSnippet {
 		try {
 			MediaType contentType = getContentType(operation);
 			String language = determineLanguage(contentType);
-			byte[] content = getContent(operation);
+			ByteBuffer content;
 			if (this.subsectionExtractor != null) {
-				content = this.subsectionExtractor.extractSubsection(content, contentType);
+				JsonCodec jsonCodec = (JsonCodec) operation.getAttributes().get(JsonCodec.class.getName());
+				content = ByteBuffer.wrap(this.subsectionExtractor
+					.extract(getContent(operation), contentType, Collections.emptyList(),
+							(jsonCodec != null) ? jsonCodec : JsonCodec.jackson())
+					.getContent());
+			}
+			else {
+				content = getContentAsByteBuffer(operation);
+			}
+			BinaryContentPolicy binaryContentPolicy = BinaryContentPolicy.resolve(getAttributes(), operation);
+			String body;
+			if (binaryContentPolicy.isBinary(content, contentType)) {
+				body = binaryContentPolicy.summarize(content);
+			}
+			else {
+				Charset charset = extractCharset(contentType);
+				body = ((charset != null) ? charset : Charset.defaultCharset()).decode(content.duplicate()).toString();
 			}
-			Charset charset = extractCharset(contentType);
-			String body = (charset != null) ? new String(content, charset) : new String(content);
 			Map<String, Object> model = new HashMap<>();
 			model.put("language", language);
 			model.put("body", body);
@@ -95,6 +113,11 @@ public abstract class AbstractBodySnippet extends TemplatedSnippet {
 		}
 	}
 
+	@Override
+	protected boolean performsValidation() {
+		return this.subsectionExtractor != null;
+	}
+
 	private @Nullable String determineLanguage(@Nullable MediaType contentType) {
 		if (contentType == null) {
 			return null;
@@ -118,6 +141,20 @@ public abstract class AbstractBodySnippet extends TemplatedSnippet {
 	 */
 	protected abstract byte[] getContent(Operation operation) throws IOException;
 
+	/**
+	 * Returns the content of the request or response extracted from the given
+	 * {@code operation} as a read-only buffer. Subclasses should override this method to
+	 * avoid copying content that is large or stored on disk into an array. The default
+	 * implementation wraps the result of {@link #getContent(Operation)}.
+	 * @param operation the operation
+	 * @return the content
+	 * @throws IOException if the content cannot be extracted
+	 * @since 4.1.0
+	 */
+	protected ByteBuffer getContentAsByteBuffer(Operation operation) throws IOException {
+		return ByteBuffer.wrap(getContent(operation)).asReadOnlyBuffer();
+	}
+
 	/**
 	 * Returns the content type of the request or response extracted from the given
 	 * {@code operation}.
@@ -17,6 +17,7 @@
 package org.springframework.restdocs.payload;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -25,14 +26,12 @@ import java.util.Map;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.MediaType;
+import org.springframework.restdocs.json.JsonCodec;
 import org.springframework.restdocs.operation.Operation;
-import org.springframework.restdocs.snippet.Attributes;
-import org.springframework.restdocs.snippet.Attributes.Attribute;
 import org.springframework.restdocs.snippet.ModelCreationException;
 import org.springframework.restdocs.snippet.SnippetException;
 import org.springframework.restdocs.snippet.TemplatedSnippet;
 import org.springframework.util.Assert;
-import org.springframework.util.StringUtils;
 
 /**
  * Abstract {@link TemplatedSnippet} subclass that provides a base for snippets that
@@ -148,20 +147,30 @@ public abstract class AbstractFieldsSnippet extends TemplatedSnippet {
 
 	@Override
 	protected Map<String, Object> createModel(Operation operation) {
-		byte[] content;
+		MediaType contentType = getContentType(operation);
+		JsonCodec jsonCodec = (JsonCodec) operation.getAttributes().get(JsonCodec.class.getName());
+		if (jsonCodec == null) {
+			jsonCodec = JsonCodec.jackson();
+		}
+		ArraySampling arraySampling = getAttribute(operation, ArraySampling.ATTRIBUTE_NAME);
+		ParallelArrayProcessing parallelArrayProcessing = getAttribute(operation,
+				ParallelArrayProcessing.ATTRIBUTE_NAME);
+		ContentHandler contentHandler;
 		try {
-			content = verifyContent(getContent(operation));
+			if (this.subsectionExtractor != null) {
+				contentHandler = createSubsectionContentHandler(this.subsectionExtractor,
+						verifyContent(getContent(operation)), contentType, arraySampling, parallelArrayProcessing,
+						jsonCodec);
+			}
+			else {
+				contentHandler = ContentHandler.forContentWithDescriptors(
+						verifyContent(getContentAsByteBuffer(operation)), contentType, this.fieldDescriptors,
+						arraySampling, parallelArrayProcessing, jsonCodec);
+			}
 		}
 		catch (IOException ex) {
 			throw new ModelCreationException(ex);
 		}
-		MediaType contentType = getContentType(operation);
-		if (this.subsectionExtractor != null) {
-			content = verifyContent(
-					this.subsectionExtractor.extractSubsection(content, contentType, this.fieldDescriptors));
-		}
-		ContentHandler contentHandler = ContentHandler.forContentWithDescriptors(content, contentType,
-				this.fieldDescriptors);
 
 		validateFieldDocumentation(contentHandler);
 
@@ -182,6 +191,9 @@ public abstract class AbstractFieldsSnippet extends TemplatedSnippet {
 		}
 
 		Map<String, Object> model = new HashMap<>();
+		if (arraySampling != null && contentHandler.isSampled()) {
+			model.put("arraySampling", arraySampling.toString());
+		}
 		List<Map<String, Object>> fields = new ArrayList<>();
 		model.put("fields", fields);
 		for (FieldDescriptor descriptor : descriptorsToDocument) {
@@ -192,36 +204,58 @@ public abstract class AbstractFieldsSnippet extends TemplatedSnippet {
 		return model;
 	}
 
+	@SuppressWarnings("unchecked")
+	private <T> @Nullable T getAttribute(Operation operation, String name) {
+		Object attribute = getAttributes().get(name);
+		if (attribute == null) {
+			attribute = operation.getAttributes().get(name);
+		}
+		return (T) attribute;
+	}
+
+	private ContentHandler createSubsectionContentHandler(PayloadSubsectionExtractor<?> subsectionExtractor,
+			byte[] content, @Nullable MediaType contentType, @Nullable ArraySampling arraySampling,
+			@Nullable ParallelArrayProcessing parallelArrayProcessing, JsonCodec jsonCodec) {
+		ExtractedSubsection subsection = subsectionExtractor.extract(content, contentType, this.fieldDescriptors,
+				jsonCodec);
+		Object structure = subsection.getStructure();
+		if (structure != null) {
+			return JsonContentHandler.forParsedContent(structure, this.fieldDescriptors, arraySampling,
+					parallelArrayProcessing, jsonCodec);
+		}
+		return ContentHandler.forContentWithDescriptors(verifyContent(subsection.getContent()), contentType,
+				this.fieldDescriptors, arraySampling, parallelArrayProcessing, jsonCodec);
+	}
+
 	private byte[] verifyContent(byte[] content) {
-		if (content.length == 0) {
+		verifyContent(content.length);
+		return content;
+	}
+
+	private ByteBuffer verifyContent(ByteBuffer content) {
+		verifyContent(content.remaining());
+		return content;
+	}
+
+	private void verifyContent(int length) {
+		if (length == 0) {
 			throw new SnippetException(
 					"Cannot document " + this.type + " fields as the " + this.type + " body is empty");
 		}
-		return content;
 	}
 
 	private void validateFieldDocumentation(ContentHandler payloadHandler) {
 		List<FieldDescriptor> missingFields = payloadHandler.findMissingFields();
 
-		String undocumentedPayload = this.ignoreUndocumentedFields ? null : payloadHandler.getUndocumentedContent();
+		UndocumentedContent undocumentedContent = this.ignoreUndocumentedFields ? null
+				: payloadHandler.findUndocumentedContent();
 
-		if (!missingFields.isEmpty() || StringUtils.hasText(undocumentedPayload)) {
-			String message = "";
-			if (StringUtils.hasText(undocumentedPayload)) {
-				message += String.format("The following parts of the payload were" + " not documented:%n%s",
-						undocumentedPayload);
+		if (!missingFields.isEmpty() || undocumentedContent != null) {
+			List<String> missingPaths = new ArrayList<>();
+			for (FieldDescriptor fieldDescriptor : missingFields) {
+				missingPaths.add(fieldDescriptor.getPath());
 			}
-			if (!missingFields.isEmpty()) {
-				if (message.length() > 0) {
-					message += String.format("%n");
-				}
-				List<String> paths = new ArrayList<>();
-				for (FieldDescriptor fieldDescriptor : missingFields) {
-					paths.add(fieldDescriptor.getPath());
-				}
-				message += "Fields with the following paths were not found in the" + " payload: " + paths;
-			}
-			throw new SnippetException(message);
+			throw new FieldValidationException(undocumentedContent, missingPaths);
 		}
 	}
 
@@ -242,6 +276,20 @@ public abstract class AbstractFieldsSnippet extends TemplatedSnippet {
 	 */
 	protected abstract byte[] getContent(Operation operation) throws IOException;
 
+	/**
+	 * Returns the content of the request or response extracted from the given
+	 * {@code operation} as a read-only buffer. Subclasses should override this method to
+	 * avoid copying content that is large or stored on disk into an array. The default
+	 * implementation wraps the result of {@link #getContent(Operation)}.
+	 * @param operation the operation
+	 * @return the content
+	 * @throws IOException if the content cannot be extracted
+	 * @since 4.1.0
+	 */
+	protected ByteBuffer getContentAsByteBuffer(Operation operation) throws IOException {
+		return ByteBuffer.wrap(getContent(operation)).asReadOnlyBuffer();
+	}
+
 	/**
 	 * Returns the list of {@link FieldDescriptor FieldDescriptors} that will be used to
 	 * generate the documentation.
@@ -287,24 +335,10 @@ public abstract class AbstractFieldsSnippet extends TemplatedSnippet {
 	}
 
 	private FieldDescriptor copyWithType(FieldDescriptor source, Object type) {
-		FieldDescriptor result = (source instanceof SubsectionDescriptor) ? new SubsectionDescriptor(source.getPath())
-				: new FieldDescriptor(source.getPath());
-		result.description(source.getDescription()).type(type).attributes(asArray(source.getAttributes()));
-		if (source.isIgnored()) {
-			result.ignored();
-		}
-		if (source.isOptional()) {
-			result.optional();
-		}
-		return result;
-	}
-
-	private static Attribute[] asArray(Map<String, Object> attributeMap) {
-		List<Attributes.Attribute> attributes = new ArrayList<>();
-		for (Map.Entry<String, Object> attribute : attributeMap.entrySet()) {
-			attributes.add(Attributes.key(attribute.getKey()).value(attribute.getValue()));
+		if (type.equals(source.getType())) {
+			return source;
 		}
-		return attributes.toArray(new Attribute[attributes.size()]);
+		return PayloadDocumentation.copy(source, source.getPath(), type);
 	}
 
 }
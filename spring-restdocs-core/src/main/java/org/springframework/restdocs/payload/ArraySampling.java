@@ -0,0 +1,149 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.payload;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.restdocs.snippet.Attributes.Attribute;
+import org.springframework.util.Assert;
+
+/**
+ * A strategy for sampling the elements of large arrays in a JSON payload. When sampling
+ * is used, the discovery of field types and the detection of missing and undocumented
+ * fields only inspects the sampled elements of any array with more elements than the
+ * sample size. Sampling can be configured for all fields snippets using the snippet
+ * configuration or for an individual snippet using its {@link #asAttribute() attribute}.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ */
+public final class ArraySampling {
+
+	/**
+	 * Name of the snippet or operation attribute used to hold the {@code ArraySampling}.
+	 */
+	public static final String ATTRIBUTE_NAME = ArraySampling.class.getName();
+
+	private final Strategy strategy;
+
+	private final int size;
+
+	private final long seed;
+
+	private ArraySampling(Strategy strategy, int size, long seed) {
+		Assert.isTrue(size > 0, "size must be greater than zero");
+		this.strategy = strategy;
+		this.size = size;
+		this.seed = seed;
+	}
+
+	/**
+	 * Returns an {@code ArraySampling} that samples the first {@code size} elements of
+	 * each array.
+	 * @param size the sample size
+	 * @return the array sampling
+	 */
+	public static ArraySampling first(int size) {
+		return new ArraySampling(Strategy.FIRST, size, 0);
+	}
+
+	/**
+	 * Returns an {@code ArraySampling} that samples the last {@code size} elements of
+	 * each array.
+	 * @param size the sample size
+	 * @return the array sampling
+	 */
+	public static ArraySampling last(int size) {
+		return new ArraySampling(Strategy.LAST, size, 0);
+	}
+
+	/**
+	 * Returns an {@code ArraySampling} that samples {@code size} randomly selected
+	 * elements of each array. The elements are selected using the given {@code seed} so
+	 * that the same elements are sampled each time the same payload is documented. The
+	 * sampled elements retain their order.
+	 * @param size the sample size
+	 * @param seed the seed used to select the elements
+	 * @return the array sampling
+	 */
+	public static ArraySampling random(int size, long seed) {
+		return new ArraySampling(Strategy.RANDOM, size, seed);
+	}
+
+	/**
+	 * Returns an {@link Attribute} that can be used to configure a fields snippet to use
+	 * this sampling.
+	 * @return the attribute
+	 */
+	public Attribute asAttribute() {
+		return new Attribute(ATTRIBUTE_NAME, this);
+	}
+
+	/**
+	 * Returns the sample of the given {@code items}. If there are no more items than the
+	 * sample size, the items are returned unchanged.
+	 * @param <T> the type of the items
+	 * @param items the items to sample
+	 * @return the sample
+	 */
+	<T> List<T> sample(List<T> items) {
+		int itemCount = items.size();
+		if (itemCount <= this.size) {
+			return items;
+		}
+		if (this.strategy == Strategy.FIRST) {
+			return new ArrayList<>(items.subList(0, this.size));
+		}
+		if (this.strategy == Strategy.LAST) {
+			return new ArrayList<>(items.subList(itemCount - this.size, itemCount));
+		}
+		return randomSample(items);
+	}
+
+	private <T> List<T> randomSample(List<T> items) {
+		Random random = new Random(this.seed);
+		List<T> sample = new ArrayList<>(this.size);
+		int remaining = items.size();
+		for (T item : items) {
+			if (random.nextInt(remaining) < this.size - sample.size()) {
+				sample.add(item);
+				if (sample.size() == this.size) {
+					break;
+				}
+			}
+			remaining--;
+		}
+		return sample;
+	}
+
+	@Override
+	public String toString() {
+		if (this.strategy == Strategy.RANDOM) {
+			return "random " + this.size + " (seed " + this.seed + ")";
+		}
+		return ((this.strategy == Strategy.FIRST) ? "first " : "last ") + this.size;
+	}
+
+	private enum Strategy {
+
+		FIRST, LAST, RANDOM
+
+	}
+
+}
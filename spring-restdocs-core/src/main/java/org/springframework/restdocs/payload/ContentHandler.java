@@ -16,11 +16,13 @@
 
 package org.springframework.restdocs.payload;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.MediaType;
+import org.springframework.restdocs.json.JsonCodec;
 
 /**
  * A handler for the content of a request or response.
@@ -47,7 +49,30 @@ interface ContentHandler extends FieldTypeResolver {
 	 * documented
 	 * @throws PayloadHandlingException if a failure occurs
 	 */
-	@Nullable String getUndocumentedContent();
+	default @Nullable String getUndocumentedContent() {
+		UndocumentedContent undocumentedContent = findUndocumentedContent();
+		return (undocumentedContent != null) ? undocumentedContent.getContent() : null;
+	}
+
+	/**
+	 * Finds the content that is undocumented. A field is undocumented if it is present in
+	 * the handler's content but is not described. The undocumented content is not
+	 * formatted until it is {@link UndocumentedContent#getContent() retrieved}. If the
+	 * content is completely documented, {@code null} is returned.
+	 * @return the undocumented content, or {@code null} if all of the content is
+	 * documented
+	 * @throws PayloadHandlingException if a failure occurs
+	 */
+	@Nullable UndocumentedContent findUndocumentedContent();
+
+	/**
+	 * Returns whether only a sample of the elements of the arrays in the handler's
+	 * payload were inspected.
+	 * @return {@code true} if the payload was sampled, otherwise {@code false}
+	 */
+	default boolean isSampled() {
+		return false;
+	}
 
 	/**
 	 * Create a {@link ContentHandler} for the given content type and payload, described
@@ -60,8 +85,51 @@ interface ContentHandler extends FieldTypeResolver {
 	 */
 	static ContentHandler forContentWithDescriptors(byte[] content, @Nullable MediaType contentType,
 			List<FieldDescriptor> descriptors) {
+		return forContentWithDescriptors(content, contentType, descriptors, null, null, JsonCodec.jackson());
+	}
+
+	/**
+	 * Create a {@link ContentHandler} for the given content type and payload, described
+	 * by the given descriptors. If the payload is JSON, its arrays are sampled using the
+	 * given {@code arraySampling} and large arrays are processed in parallel as
+	 * configured by the given {@code parallelArrayProcessing}, and it is read using the
+	 * given {@code jsonCodec}.
+	 * @param content the payload
+	 * @param contentType the content type
+	 * @param descriptors descriptors of the content
+	 * @param arraySampling the array sampling to apply or {@code null}
+	 * @param parallelArrayProcessing the parallel array processing to apply or
+	 * {@code null}
+	 * @param jsonCodec the codec to use for JSON content
+	 * @return the ContentHandler
+	 * @throws PayloadHandlingException if no known ContentHandler can handle the content
+	 */
+	static ContentHandler forContentWithDescriptors(byte[] content, @Nullable MediaType contentType,
+			List<FieldDescriptor> descriptors, @Nullable ArraySampling arraySampling,
+			@Nullable ParallelArrayProcessing parallelArrayProcessing, JsonCodec jsonCodec) {
+		return forContentWithDescriptors(ByteBuffer.wrap(content), contentType, descriptors, arraySampling,
+				parallelArrayProcessing, jsonCodec);
+	}
+
+	/**
+	 * Create a {@link ContentHandler} for the given content type and payload, described
+	 * by the given descriptors. The payload is read without being copied into an array
+	 * and the buffer's position is not changed.
+	 * @param content the payload
+	 * @param contentType the content type
+	 * @param descriptors descriptors of the content
+	 * @param arraySampling the array sampling to apply or {@code null}
+	 * @param parallelArrayProcessing the parallel array processing to apply or
+	 * {@code null}
+	 * @param jsonCodec the codec to use for JSON content
+	 * @return the ContentHandler
+	 * @throws PayloadHandlingException if no known ContentHandler can handle the content
+	 */
+	static ContentHandler forContentWithDescriptors(ByteBuffer content, @Nullable MediaType contentType,
+			List<FieldDescriptor> descriptors, @Nullable ArraySampling arraySampling,
+			@Nullable ParallelArrayProcessing parallelArrayProcessing, JsonCodec jsonCodec) {
 		try {
-			return new JsonContentHandler(content, descriptors);
+			return new JsonContentHandler(content, descriptors, arraySampling, parallelArrayProcessing, jsonCodec);
 		}
 		catch (Exception je) {
 			try {
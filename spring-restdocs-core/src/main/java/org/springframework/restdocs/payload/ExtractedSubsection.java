@@ -0,0 +1,90 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.payload;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * A subsection of a payload that has been extracted by a
+ * {@link PayloadSubsectionExtractor}. In addition to its content, a subsection may
+ * provide its structure, allowing it to be documented without its content being parsed
+ * again.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ * @see PayloadSubsectionExtractor#extract(byte[], org.springframework.http.MediaType,
+ * List, org.springframework.restdocs.json.JsonCodec)
+ */
+public final class ExtractedSubsection {
+
+	private final Supplier<byte[]> content;
+
+	private final @Nullable Object structure;
+
+	private ExtractedSubsection(Supplier<byte[]> content, @Nullable Object structure) {
+		this.content = content;
+		this.structure = structure;
+	}
+
+	/**
+	 * Creates a new {@code ExtractedSubsection} with the given {@code content} and no
+	 * structure.
+	 * @param content the content of the subsection
+	 * @return the subsection
+	 */
+	public static ExtractedSubsection of(byte[] content) {
+		return new ExtractedSubsection(() -> content, null);
+	}
+
+	/**
+	 * Creates a new {@code ExtractedSubsection} with the given parsed JSON
+	 * {@code structure}. The content of the subsection is produced by the given
+	 * {@code content} supplier the first time that it is required.
+	 * @param structure the structure of the subsection, composed of {@link Map Maps},
+	 * {@link List Lists}, and scalar values
+	 * @param content supplier of the content of the subsection
+	 * @return the subsection
+	 */
+	public static ExtractedSubsection of(Object structure, Supplier<byte[]> content) {
+		return new ExtractedSubsection(SingletonSupplier.of(content), structure);
+	}
+
+	/**
+	 * Returns the content of the subsection.
+	 * @return the content
+	 */
+	public byte[] getContent() {
+		return this.content.get();
+	}
+
+	/**
+	 * Returns the parsed JSON structure of the subsection, composed of {@link Map Maps},
+	 * {@link List Lists}, and scalar values, or {@code null} if it is not available. The
+	 * structure must not be modified.
+	 * @return the structure or {@code null}
+	 */
+	public @Nullable Object getStructure() {
+		return this.structure;
+	}
+
+}
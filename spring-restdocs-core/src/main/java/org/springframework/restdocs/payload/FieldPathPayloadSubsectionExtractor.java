@@ -24,12 +24,10 @@ import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
-import tools.jackson.core.JacksonException;
-import tools.jackson.databind.ObjectMapper;
-import tools.jackson.databind.SerializationFeature;
-import tools.jackson.databind.json.JsonMapper;
 
 import org.springframework.http.MediaType;
+import org.springframework.restdocs.json.JsonCodec;
+import org.springframework.restdocs.json.JsonCodecException;
 import org.springframework.restdocs.payload.JsonFieldProcessor.ExtractedField;
 
 /**
@@ -43,12 +41,6 @@ import org.springframework.restdocs.payload.JsonFieldProcessor.ExtractedField;
 public class FieldPathPayloadSubsectionExtractor
 		implements PayloadSubsectionExtractor<FieldPathPayloadSubsectionExtractor> {
 
-	private static final ObjectMapper objectMapper = new ObjectMapper();
-
-	private static final ObjectMapper prettyPrintingOjectMapper = JsonMapper.builder()
-		.enable(SerializationFeature.INDENT_OUTPUT)
-		.build();
-
 	private final String fieldPath;
 
 	private final String subsectionId;
@@ -83,9 +75,15 @@ public class FieldPathPayloadSubsectionExtractor
 	@Override
 	public byte[] extractSubsection(byte[] payload, @Nullable MediaType contentType,
 			List<FieldDescriptor> descriptors) {
+		return extract(payload, contentType, descriptors, JsonCodec.jackson()).getContent();
+	}
+
+	@Override
+	public ExtractedSubsection extract(byte[] payload, @Nullable MediaType contentType,
+			List<FieldDescriptor> descriptors, JsonCodec jsonCodec) {
 		try {
-			ExtractedField extractedField = new JsonFieldProcessor().extract(this.fieldPath,
-					objectMapper.readValue(payload, Object.class));
+			Object parsedPayload = jsonCodec.read(payload);
+			ExtractedField extractedField = new JsonFieldProcessor().extract(this.fieldPath, parsedPayload);
 			Object value = extractedField.getValue();
 			if (value == ExtractedField.ABSENT) {
 				throw new PayloadHandlingException(this.fieldPath + " does not identify a section of the payload");
@@ -99,7 +97,8 @@ public class FieldPathPayloadSubsectionExtractor
 				if (extractedList.isEmpty()) {
 					throw new PayloadHandlingException(this.fieldPath + " identifies an empty section of the payload");
 				}
-				JsonContentHandler contentHandler = new JsonContentHandler(payload, descriptorsByPath.values());
+				JsonContentHandler contentHandler = JsonContentHandler.forParsedContent(parsedPayload,
+						descriptorsByPath.values(), null, null, jsonCodec);
 				Set<JsonFieldPath> uncommonPaths = JsonFieldPaths.from(extractedList)
 					.getUncommon()
 					.stream()
@@ -124,9 +123,23 @@ public class FieldPathPayloadSubsectionExtractor
 					throw new PayloadHandlingException(message);
 				}
 			}
-			return getObjectMapper(payload).writeValueAsBytes(value);
+			boolean prettyPrint = isPrettyPrinted(payload);
+			Object subsection = value;
+			if (subsection == null) {
+				return ExtractedSubsection.of(jsonCodec.write(null, prettyPrint));
+			}
+			return ExtractedSubsection.of(subsection, () -> serialize(jsonCodec, subsection, prettyPrint));
 		}
-		catch (JacksonException ex) {
+		catch (JsonCodecException ex) {
+			throw new PayloadHandlingException(ex);
+		}
+	}
+
+	private byte[] serialize(JsonCodec jsonCodec, Object subsection, boolean prettyPrint) {
+		try {
+			return jsonCodec.write(subsection, prettyPrint);
+		}
+		catch (JsonCodecException ex) {
 			throw new PayloadHandlingException(ex);
 		}
 	}
@@ -157,13 +170,6 @@ public class FieldPathPayloadSubsectionExtractor
 		return new FieldPathPayloadSubsectionExtractor(this.fieldPath, subsectionId);
 	}
 
-	private ObjectMapper getObjectMapper(byte[] payload) {
-		if (isPrettyPrinted(payload)) {
-			return prettyPrintingOjectMapper;
-		}
-		return objectMapper;
-	}
-
 	private boolean isPrettyPrinted(byte[] payload) {
 		for (byte b : payload) {
 			if (b == '\n') {
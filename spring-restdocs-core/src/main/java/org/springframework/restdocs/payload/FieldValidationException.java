@@ -0,0 +1,141 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.payload;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.restdocs.payload.UndocumentedContent.Excerpt;
+import org.springframework.restdocs.snippet.SnippetException;
+
+/**
+ * A {@link SnippetException} thrown to indicate that the fields of a payload were not
+ * documented correctly, either because some of the payload was not documented or
+ * because some documented fields were not found in the payload.
+ * <p>
+ * The undocumented content is limited in size. When it is too large to be included in
+ * full, only an excerpt of it is formatted and retained, and the exception's message
+ * contains the excerpt along with the paths of the undocumented fields.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ */
+@SuppressWarnings("serial")
+public class FieldValidationException extends SnippetException {
+
+	static final int MAX_EXCERPT_LENGTH = 4096;
+
+	static final int MAX_LISTED_PATHS = 50;
+
+	private final List<String> undocumentedPaths;
+
+	private final @Nullable String undocumentedContent;
+
+	private final boolean undocumentedContentTruncated;
+
+	private final List<String> missingPaths;
+
+	private @Nullable String message;
+
+	FieldValidationException(@Nullable UndocumentedContent undocumentedContent, List<String> missingPaths) {
+		Excerpt excerpt = (undocumentedContent != null) ? undocumentedContent.getExcerpt(MAX_EXCERPT_LENGTH) : null;
+		this.undocumentedPaths = (undocumentedContent != null) ? undocumentedContent.getPaths()
+				: Collections.emptyList();
+		this.undocumentedContent = (excerpt != null) ? excerpt.getContent() : null;
+		this.undocumentedContentTruncated = excerpt != null && excerpt.isTruncated();
+		this.missingPaths = missingPaths;
+	}
+
+	/**
+	 * Returns the paths of the fields that were present in the payload but were not
+	 * documented.
+	 * @return the paths of the undocumented fields
+	 */
+	public List<String> getUndocumentedPaths() {
+		return this.undocumentedPaths;
+	}
+
+	/**
+	 * Returns the parts of the payload that were not documented, or {@code null} if all
+	 * of the payload was documented. Content that is longer than 4096 characters is
+	 * truncated.
+	 * @return the undocumented content or {@code null}
+	 */
+	public @Nullable String getUndocumentedContent() {
+		return this.undocumentedContent;
+	}
+
+	/**
+	 * Returns the paths of the fields that were documented but were not found in the
+	 * payload.
+	 * @return the paths of the missing fields
+	 */
+	public List<String> getMissingPaths() {
+		return this.missingPaths;
+	}
+
+	@Override
+	public String getMessage() {
+		if (this.message == null) {
+			this.message = createMessage();
+		}
+		return this.message;
+	}
+
+	private String createMessage() {
+		StringBuilder message = new StringBuilder();
+		if (this.undocumentedContent != null) {
+			if (this.undocumentedContentTruncated) {
+				appendExcerpt(message, this.undocumentedContent, this.undocumentedPaths);
+			}
+			else {
+				message.append(String.format("The following parts of the payload were not documented:%n%s",
+						this.undocumentedContent));
+			}
+		}
+		if (!this.missingPaths.isEmpty()) {
+			if (message.length() > 0) {
+				message.append(String.format("%n"));
+			}
+			message.append("Fields with the following paths were not found in the payload: ")
+				.append(this.missingPaths);
+		}
+		return message.toString();
+	}
+
+	private void appendExcerpt(StringBuilder message, String excerpt, List<String> paths) {
+		message.append(String.format(
+				"The following parts of the payload were not documented (showing the first %d characters):%n",
+				excerpt.length()));
+		message.append(excerpt);
+		message.append(String.format("%n..."));
+		if (paths.isEmpty()) {
+			return;
+		}
+		message.append(String.format("%nThe undocumented content contains %d field path(s)", paths.size()));
+		if (paths.size() > MAX_LISTED_PATHS) {
+			message.append(", the first ").append(MAX_LISTED_PATHS).append(" of which are: ");
+			message.append(paths.subList(0, MAX_LISTED_PATHS));
+		}
+		else {
+			message.append(": ").append(paths);
+		}
+	}
+
+}
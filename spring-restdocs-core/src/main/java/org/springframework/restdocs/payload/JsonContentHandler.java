@@ -16,17 +16,23 @@
 
 package org.springframework.restdocs.payload;
 
+import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.jspecify.annotations.Nullable;
-import tools.jackson.core.JacksonException;
-import tools.jackson.databind.ObjectMapper;
-import tools.jackson.databind.SerializationFeature;
-import tools.jackson.databind.json.JsonMapper;
 
+import org.springframework.restdocs.json.JsonCodec;
+import org.springframework.restdocs.json.JsonCodecException;
 import org.springframework.restdocs.payload.JsonFieldProcessor.ExtractedField;
 
 /**
@@ -37,20 +43,70 @@ import org.springframework.restdocs.payload.JsonFieldProcessor.ExtractedField;
  */
 class JsonContentHandler implements ContentHandler {
 
-	private final JsonFieldProcessor fieldProcessor = new JsonFieldProcessor();
+	private final JsonFieldProcessor fieldProcessor;
 
-	private final JsonFieldTypesDiscoverer fieldTypesDiscoverer = new JsonFieldTypesDiscoverer();
+	private final JsonFieldTypesDiscoverer fieldTypesDiscoverer;
 
-	private final ObjectMapper objectMapper = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+	private final JsonCodec jsonCodec;
 
-	private final byte[] rawContent;
+	private final Object content;
 
 	private final Collection<FieldDescriptor> fieldDescriptors;
 
+	private final Map<FieldDescriptor, Boolean> missingOptionalFields = new IdentityHashMap<>();
+
+	private @Nullable OptionalDescriptorIndex optionalDescriptors;
+
+	private boolean sampled;
+
 	JsonContentHandler(byte[] content, Collection<FieldDescriptor> fieldDescriptors) {
-		this.rawContent = content;
+		this(content, fieldDescriptors, null);
+	}
+
+	JsonContentHandler(byte[] content, Collection<FieldDescriptor> fieldDescriptors,
+			@Nullable ArraySampling arraySampling) {
+		this(content, fieldDescriptors, arraySampling, null, JsonCodec.jackson());
+	}
+
+	JsonContentHandler(byte[] content, Collection<FieldDescriptor> fieldDescriptors,
+			@Nullable ArraySampling arraySampling, @Nullable ParallelArrayProcessing parallelArrayProcessing,
+			JsonCodec jsonCodec) {
+		this(ByteBuffer.wrap(content), fieldDescriptors, arraySampling, parallelArrayProcessing, jsonCodec);
+	}
+
+	JsonContentHandler(ByteBuffer content, Collection<FieldDescriptor> fieldDescriptors,
+			@Nullable ArraySampling arraySampling, @Nullable ParallelArrayProcessing parallelArrayProcessing,
+			JsonCodec jsonCodec) {
+		this(parse(content, jsonCodec), fieldDescriptors, arraySampling, parallelArrayProcessing, jsonCodec);
+	}
+
+	private JsonContentHandler(Object content, Collection<FieldDescriptor> fieldDescriptors,
+			@Nullable ArraySampling arraySampling, @Nullable ParallelArrayProcessing parallelArrayProcessing,
+			JsonCodec jsonCodec) {
+		this.jsonCodec = jsonCodec;
+		this.fieldProcessor = new JsonFieldProcessor(parallelArrayProcessing);
+		this.fieldTypesDiscoverer = new JsonFieldTypesDiscoverer(this.fieldProcessor);
 		this.fieldDescriptors = fieldDescriptors;
-		readContent();
+		this.content = (arraySampling != null) ? sample(content, arraySampling) : content;
+	}
+
+	/**
+	 * Creates a new {@code JsonContentHandler} for content that has already been parsed
+	 * into {@link Map Maps}, {@link List Lists}, and scalar values. The content is not
+	 * modified.
+	 * @param content the parsed content
+	 * @param fieldDescriptors descriptors of the content
+	 * @param arraySampling the array sampling to apply or {@code null}
+	 * @param parallelArrayProcessing the parallel array processing to apply or
+	 * {@code null}
+	 * @param jsonCodec the codec to use to write the content
+	 * @return the content handler
+	 */
+	static JsonContentHandler forParsedContent(Object content, Collection<FieldDescriptor> fieldDescriptors,
+			@Nullable ArraySampling arraySampling, @Nullable ParallelArrayProcessing parallelArrayProcessing,
+			JsonCodec jsonCodec) {
+		return new JsonContentHandler((arraySampling != null) ? copy(content) : content, fieldDescriptors,
+				arraySampling, parallelArrayProcessing, jsonCodec);
 	}
 
 	@Override
@@ -66,21 +122,20 @@ class JsonContentHandler implements ContentHandler {
 	}
 
 	boolean isMissing(FieldDescriptor descriptor) {
-		Object payload = readContent();
+		Object payload = this.content;
 		return !descriptor.isOptional() && !this.fieldProcessor.hasField(descriptor.getPath(), payload)
-				&& !isNestedBeneathMissingOptionalField(descriptor, payload);
+				&& !isNestedBeneathMissingOptionalField(descriptor);
 	}
 
-	private boolean isNestedBeneathMissingOptionalField(FieldDescriptor descriptor, Object payload) {
-		List<FieldDescriptor> candidates = new ArrayList<>(this.fieldDescriptors);
-		candidates.remove(descriptor);
-		for (FieldDescriptor candidate : candidates) {
-			if (candidate.isOptional() && descriptor.getPath().startsWith(candidate.getPath())
-					&& isMissing(candidate, payload)) {
-				return true;
-			}
+	private boolean isNestedBeneathMissingOptionalField(FieldDescriptor descriptor) {
+		if (this.optionalDescriptors == null) {
+			this.optionalDescriptors = new OptionalDescriptorIndex(this.fieldDescriptors);
 		}
-		return false;
+		return this.optionalDescriptors.anyPrefixOf(descriptor, this::isMissingOptionalField);
+	}
+
+	private boolean isMissingOptionalField(FieldDescriptor candidate) {
+		return this.missingOptionalFields.computeIfAbsent(candidate, (key) -> isMissing(key, this.content));
 	}
 
 	private boolean isMissing(FieldDescriptor candidate, Object payload) {
@@ -105,8 +160,8 @@ class JsonContentHandler implements ContentHandler {
 	}
 
 	@Override
-	public @Nullable String getUndocumentedContent() {
-		Object content = readContent();
+	public @Nullable UndocumentedContent findUndocumentedContent() {
+		Object content = copy(this.content);
 		for (FieldDescriptor fieldDescriptor : this.fieldDescriptors) {
 			if (describesSubsection(fieldDescriptor)) {
 				this.fieldProcessor.removeSubsection(fieldDescriptor.getPath(), content);
@@ -115,30 +170,100 @@ class JsonContentHandler implements ContentHandler {
 				this.fieldProcessor.remove(fieldDescriptor.getPath(), content);
 			}
 		}
-		if (!isEmpty(content)) {
-			try {
-				return this.objectMapper.writeValueAsString(content);
+		if (isEmpty(content)) {
+			return null;
+		}
+		Set<String> paths = new LinkedHashSet<>();
+		collectPaths(content, "", paths);
+		return new UndocumentedContent(new ArrayList<>(paths), (writer) -> prettyPrint(content, writer));
+	}
+
+	private void prettyPrint(Object content, Writer writer) {
+		try {
+			this.jsonCodec.write(content, true, writer);
+		}
+		catch (JsonCodecException ex) {
+			throw new PayloadHandlingException(ex);
+		}
+	}
+
+	private static void collectPaths(@Nullable Object content, String path, Set<String> paths) {
+		if (content instanceof Map && !((Map<?, ?>) content).isEmpty()) {
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) content).entrySet()) {
+				collectPaths(entry.getValue(), append(path, String.valueOf(entry.getKey())), paths);
 			}
-			catch (JacksonException ex) {
-				throw new PayloadHandlingException(ex);
+		}
+		else if (content instanceof List && !((List<?>) content).isEmpty()) {
+			for (Object item : (List<?>) content) {
+				collectPaths(item, path + "[]", paths);
 			}
 		}
-		return null;
+		else if (!path.isEmpty()) {
+			paths.add(path);
+		}
+	}
+
+	private static String append(String path, String key) {
+		if (key.contains(".")) {
+			return path + "['" + key + "']";
+		}
+		return path.isEmpty() ? key : path + "." + key;
 	}
 
 	private boolean describesSubsection(FieldDescriptor fieldDescriptor) {
 		return fieldDescriptor instanceof SubsectionDescriptor;
 	}
 
-	private Object readContent() {
+	private static Object parse(ByteBuffer content, JsonCodec jsonCodec) {
 		try {
-			return new ObjectMapper().readValue(this.rawContent, Object.class);
+			return jsonCodec.read(content);
 		}
-		catch (JacksonException ex) {
+		catch (JsonCodecException ex) {
 			throw new PayloadHandlingException(ex);
 		}
 	}
 
+	@SuppressWarnings("unchecked")
+	private static Object copy(Object content) {
+		if (content instanceof List) {
+			List<Object> copy = new ArrayList<>(((List<Object>) content).size());
+			for (Object item : (List<Object>) content) {
+				copy.add(copy(item));
+			}
+			return copy;
+		}
+		if (content instanceof Map) {
+			Map<String, Object> copy = new LinkedHashMap<>();
+			for (Map.Entry<String, Object> entry : ((Map<String, Object>) content).entrySet()) {
+				copy.put(entry.getKey(), copy(entry.getValue()));
+			}
+			return copy;
+		}
+		return content;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Object sample(Object content, ArraySampling arraySampling) {
+		if (content instanceof List) {
+			List<Object> items = (List<Object>) content;
+			List<Object> sampledItems = arraySampling.sample(items);
+			if (sampledItems != items) {
+				this.sampled = true;
+			}
+			sampledItems.replaceAll((item) -> sample(item, arraySampling));
+			return sampledItems;
+		}
+		if (content instanceof Map) {
+			((Map<String, Object>) content).replaceAll((key, value) -> sample(value, arraySampling));
+		}
+		return content;
+	}
+
+	@Override
+	public boolean isSampled() {
+		return this.sampled;
+	}
+
 	private boolean isEmpty(Object object) {
 		if (object instanceof Map) {
 			return ((Map<?, ?>) object).isEmpty();
@@ -149,7 +274,7 @@ class JsonContentHandler implements ContentHandler {
 	@Override
 	public Object resolveFieldType(FieldDescriptor fieldDescriptor) {
 		if (fieldDescriptor.getType() == null) {
-			return this.fieldTypesDiscoverer.discoverFieldTypes(fieldDescriptor.getPath(), readContent())
+			return this.fieldTypesDiscoverer.discoverFieldTypes(fieldDescriptor.getPath(), this.content)
 				.coalesce(fieldDescriptor.isOptional());
 		}
 		if (!(fieldDescriptor.getType() instanceof JsonFieldType)) {
@@ -158,11 +283,11 @@ class JsonContentHandler implements ContentHandler {
 		JsonFieldType descriptorFieldType = (JsonFieldType) fieldDescriptor.getType();
 		try {
 			JsonFieldType actualFieldType = this.fieldTypesDiscoverer
-				.discoverFieldTypes(fieldDescriptor.getPath(), readContent())
+				.discoverFieldTypes(fieldDescriptor.getPath(), this.content)
 				.coalesce(fieldDescriptor.isOptional());
 			if (descriptorFieldType == JsonFieldType.VARIES || descriptorFieldType == actualFieldType
 					|| (fieldDescriptor.isOptional() && actualFieldType == JsonFieldType.NULL)
-					|| (isNestedBeneathMissingOptionalField(fieldDescriptor, readContent())
+					|| (isNestedBeneathMissingOptionalField(fieldDescriptor)
 							&& actualFieldType == JsonFieldType.VARIES)) {
 				return descriptorFieldType;
 			}
@@ -173,4 +298,54 @@ class JsonContentHandler implements ContentHandler {
 		}
 	}
 
+	/**
+	 * An index of the optional descriptors in a collection of descriptors, allowing the
+	 * optional descriptors whose paths are a prefix of another descriptor's path to be
+	 * found in time proportional to the length of that path.
+	 */
+	private static final class OptionalDescriptorIndex {
+
+		private final Node root = new Node();
+
+		private OptionalDescriptorIndex(Collection<FieldDescriptor> descriptors) {
+			for (FieldDescriptor descriptor : descriptors) {
+				if (descriptor.isOptional()) {
+					add(descriptor);
+				}
+			}
+		}
+
+		private void add(FieldDescriptor descriptor) {
+			Node node = this.root;
+			String path = descriptor.getPath();
+			for (int i = 0; i < path.length(); i++) {
+				node = node.children.computeIfAbsent(path.charAt(i), (character) -> new Node());
+			}
+			node.descriptors.add(descriptor);
+		}
+
+		private boolean anyPrefixOf(FieldDescriptor descriptor, Predicate<FieldDescriptor> predicate) {
+			Node node = this.root;
+			String path = descriptor.getPath();
+			for (int i = 0; node != null; i++) {
+				for (FieldDescriptor candidate : node.descriptors) {
+					if (candidate != descriptor && predicate.test(candidate)) {
+						return true;
+					}
+				}
+				node = (i < path.length()) ? node.children.get(path.charAt(i)) : null;
+			}
+			return false;
+		}
+
+		private static final class Node {
+
+			private final Map<Character, Node> children = new HashMap<>();
+
+			private final List<FieldDescriptor> descriptors = new ArrayList<>(1);
+
+		}
+
+	}
+
 }
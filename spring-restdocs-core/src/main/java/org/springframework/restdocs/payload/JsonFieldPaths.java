@@ -18,7 +18,7 @@ package org.springframework.restdocs.payload;
 
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -45,53 +45,72 @@ final class JsonFieldPaths {
 	}
 
 	static JsonFieldPaths from(Collection<?> items) {
-		Set<Set<String>> itemsFieldPaths = new HashSet<>();
-		Set<String> allFieldPaths = new HashSet<>();
+		PathNode root = new PathNode();
+		int itemIndex = 0;
 		for (Object item : items) {
-			Set<String> paths = new LinkedHashSet<>();
-			from(paths, "", item);
-			itemsFieldPaths.add(paths);
-			allFieldPaths.addAll(paths);
+			root.add(item, itemIndex++);
 		}
 		Set<String> uncommonFieldPaths = new HashSet<>();
-		for (Set<String> itemFieldPaths : itemsFieldPaths) {
-			Set<String> uncommonForItem = new HashSet<>(allFieldPaths);
-			uncommonForItem.removeAll(itemFieldPaths);
-			uncommonFieldPaths.addAll(uncommonForItem);
-		}
+		root.collectUncommon("", itemIndex, uncommonFieldPaths);
 		return new JsonFieldPaths(uncommonFieldPaths);
 	}
 
-	private static void from(Set<String> paths, String parent, Object object) {
-		if (object instanceof List) {
-			String path = append(parent, "[]");
-			paths.add(path);
-			from(paths, path, (List<?>) object);
-		}
-		else if (object instanceof Map) {
-			from(paths, parent, (Map<?, ?>) object);
+	private static String append(String path, Object suffix) {
+		return (path.length() == 0) ? ("" + suffix) : (path + "." + suffix);
+	}
+
+	/**
+	 * A node in a trie of the field paths found in a collection of items. Each node
+	 * records the number of items in which its path was found, allowing the uncommon
+	 * paths to be identified in a single pass over the items.
+	 */
+	private static final class PathNode {
+
+		private final Map<Object, PathNode> children = new LinkedHashMap<>();
+
+		private int itemCount;
+
+		private int lastItemIndex = -1;
+
+		private void add(Object object, int itemIndex) {
+			if (object instanceof List) {
+				PathNode child = child("[]", itemIndex);
+				for (Object item : (List<?>) object) {
+					child.add(item, itemIndex);
+				}
+			}
+			else if (object instanceof Map) {
+				for (Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+					child(entry.getKey(), itemIndex).add(entry.getValue(), itemIndex);
+				}
+			}
+			else if (ExtractedField.ABSENT.equals(object)) {
+				found(itemIndex);
+			}
 		}
-		else if (ExtractedField.ABSENT.equals(object)) {
-			paths.add(parent);
+
+		private PathNode child(Object segment, int itemIndex) {
+			PathNode child = this.children.computeIfAbsent(segment, (key) -> new PathNode());
+			child.found(itemIndex);
+			return child;
 		}
-	}
 
-	private static void from(Set<String> paths, String parent, List<?> items) {
-		for (Object item : items) {
-			from(paths, parent, item);
+		private void found(int itemIndex) {
+			if (this.lastItemIndex != itemIndex) {
+				this.lastItemIndex = itemIndex;
+				this.itemCount++;
+			}
 		}
-	}
 
-	private static void from(Set<String> paths, String parent, Map<?, ?> map) {
-		for (Entry<?, ?> entry : map.entrySet()) {
-			String path = append(parent, entry.getKey());
-			paths.add(path);
-			from(paths, path, entry.getValue());
+		private void collectUncommon(String path, int totalItemCount, Set<String> uncommon) {
+			if (this.itemCount > 0 && this.itemCount < totalItemCount) {
+				uncommon.add(path);
+			}
+			for (Entry<Object, PathNode> entry : this.children.entrySet()) {
+				entry.getValue().collectUncommon(append(path, entry.getKey()), totalItemCount, uncommon);
+			}
 		}
-	}
 
-	private static String append(String path, Object suffix) {
-		return (path.length() == 0) ? ("" + suffix) : (path + "." + suffix);
 	}
 
 }
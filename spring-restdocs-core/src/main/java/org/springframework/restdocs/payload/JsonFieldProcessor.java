@@ -21,6 +21,9 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 import org.jspecify.annotations.Nullable;
 
@@ -35,6 +38,16 @@ import org.springframework.restdocs.payload.JsonFieldPath.PathType;
  */
 final class JsonFieldProcessor {
 
+	private final @Nullable ParallelArrayProcessing parallelArrayProcessing;
+
+	JsonFieldProcessor() {
+		this(null);
+	}
+
+	JsonFieldProcessor(@Nullable ParallelArrayProcessing parallelArrayProcessing) {
+		this.parallelArrayProcessing = parallelArrayProcessing;
+	}
+
 	boolean hasField(String path, Object payload) {
 		HasFieldMatchCallback callback = new HasFieldMatchCallback();
 		traverse(new ProcessingContext(payload, JsonFieldPath.compile(path)), callback);
@@ -43,20 +56,9 @@ final class JsonFieldProcessor {
 
 	ExtractedField extract(String path, Object payload) {
 		JsonFieldPath compiledPath = JsonFieldPath.compile(path);
-		final List<Object> values = new ArrayList<>();
-		traverse(new ProcessingContext(payload, compiledPath), new MatchCallback() {
-
-			@Override
-			public void foundMatch(Match match) {
-				values.add(match.getValue());
-			}
-
-			@Override
-			public void absent() {
-				values.add(ExtractedField.ABSENT);
-			}
-
-		});
+		ValuesMatchCallback callback = new ValuesMatchCallback();
+		traverse(new ProcessingContext(payload, compiledPath), callback);
+		List<Object> values = callback.values;
 		if (values.isEmpty()) {
 			values.add(ExtractedField.ABSENT);
 		}
@@ -107,6 +109,11 @@ final class JsonFieldProcessor {
 		if (context.isLeaf()) {
 			matchCallback.foundMatch(new LeafCollectionMatch(collection, context.getParentMatch()));
 		}
+		else if (this.parallelArrayProcessing != null && collection instanceof RandomAccess
+				&& this.parallelArrayProcessing.appliesTo(collection.size())) {
+			handleCollectionPayloadInParallel((List<?>) collection, matchCallback, context,
+					this.parallelArrayProcessing);
+		}
 		else {
 			Iterator<?> items = collection.iterator();
 			while (items.hasNext()) {
@@ -117,6 +124,20 @@ final class JsonFieldProcessor {
 		}
 	}
 
+	private void handleCollectionPayloadInParallel(List<?> items, MatchCallback matchCallback,
+			ProcessingContext context, ParallelArrayProcessing parallelArrayProcessing) {
+		DeferredRemovals removals = new DeferredRemovals(items.size());
+		CollectionItemsTask task = new CollectionItemsTask(items, 0, items.size(),
+				parallelArrayProcessing.getChunkSize(items.size()), matchCallback, context, removals);
+		if (ForkJoinTask.inForkJoinPool()) {
+			task.invoke();
+		}
+		else {
+			parallelArrayProcessing.getPool().invoke(task);
+		}
+		removals.apply(items, context.getParentMatch());
+	}
+
 	private void handleWildcardPayload(Collection<?> collection, MatchCallback matchCallback,
 			ProcessingContext context) {
 		Iterator<?> items = collection.iterator();
@@ -173,6 +194,19 @@ final class JsonFieldProcessor {
 			this.matchType = this.matchType.combinedWith(MatchType.ABSENT);
 		}
 
+		@Override
+		public MatchCallback split() {
+			return new HasFieldMatchCallback();
+		}
+
+		@Override
+		public void merge(MatchCallback other) {
+			MatchType otherMatchType = ((HasFieldMatchCallback) other).matchType;
+			if (otherMatchType != MatchType.NONE) {
+				this.matchType = this.matchType.combinedWith(otherMatchType);
+			}
+		}
+
 		boolean fieldFound() {
 			return this.matchType == MatchType.NON_NULL || this.matchType == MatchType.NULL;
 		}
@@ -192,6 +226,126 @@ final class JsonFieldProcessor {
 
 	}
 
+	/**
+	 * {@link MatchCallback} used to collect the values of the fields that match a path.
+	 */
+	private static final class ValuesMatchCallback implements MatchCallback {
+
+		private final List<Object> values = new ArrayList<>();
+
+		@Override
+		public void foundMatch(Match match) {
+			this.values.add(match.getValue());
+		}
+
+		@Override
+		public void absent() {
+			this.values.add(ExtractedField.ABSENT);
+		}
+
+		@Override
+		public MatchCallback split() {
+			return new ValuesMatchCallback();
+		}
+
+		@Override
+		public void merge(MatchCallback other) {
+			this.values.addAll(((ValuesMatchCallback) other).values);
+		}
+
+	}
+
+	/**
+	 * A {@link RecursiveAction} that traverses a range of the items in a collection,
+	 * splitting the range in two until it is no larger than the chunk size.
+	 */
+	private final class CollectionItemsTask extends RecursiveAction {
+
+		private final List<?> items;
+
+		private final int start;
+
+		private final int end;
+
+		private final int chunkSize;
+
+		private final MatchCallback matchCallback;
+
+		private final ProcessingContext context;
+
+		private final DeferredRemovals removals;
+
+		private CollectionItemsTask(List<?> items, int start, int end, int chunkSize, MatchCallback matchCallback,
+				ProcessingContext context, DeferredRemovals removals) {
+			this.items = items;
+			this.start = start;
+			this.end = end;
+			this.chunkSize = chunkSize;
+			this.matchCallback = matchCallback;
+			this.context = context;
+			this.removals = removals;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.end - this.start <= this.chunkSize) {
+				for (int i = this.start; i < this.end; i++) {
+					Object item = this.items.get(i);
+					traverse(this.context.descend(item, new DeferredCollectionMatch(i, item, this.removals)),
+							this.matchCallback);
+				}
+				return;
+			}
+			int middle = (this.start + this.end) >>> 1;
+			MatchCallback rightMatchCallback = this.matchCallback.split();
+			invokeAll(
+					new CollectionItemsTask(this.items, this.start, middle, this.chunkSize, this.matchCallback,
+							this.context, this.removals),
+					new CollectionItemsTask(this.items, middle, this.end, this.chunkSize, rightMatchCallback,
+							this.context, this.removals));
+			this.matchCallback.merge(rightMatchCallback);
+		}
+
+	}
+
+	/**
+	 * Removals of items from a collection that is being processed in parallel. Each item
+	 * is only ever processed by a single task, allowing the removals to be recorded
+	 * without synchronization and applied once processing of the collection has
+	 * completed.
+	 */
+	private static final class DeferredRemovals {
+
+		private final boolean[] removed;
+
+		private volatile boolean subsection;
+
+		private DeferredRemovals(int size) {
+			this.removed = new boolean[size];
+		}
+
+		private void remove(int index, boolean subsection) {
+			this.removed[index] = true;
+			if (subsection) {
+				this.subsection = true;
+			}
+		}
+
+		private void apply(List<?> items, @Nullable Match parent) {
+			int[] index = { 0 };
+			boolean anyRemoved = items.removeIf((item) -> this.removed[index[0]++]);
+			if (anyRemoved && items.isEmpty() && parent != null) {
+				if (this.subsection) {
+					parent.removeSubsection();
+				}
+				else {
+					parent.remove();
+				}
+			}
+		}
+
+	}
+
 	private static final class MapMatch implements Match {
 
 		private final Object item;
@@ -307,6 +461,48 @@ final class JsonFieldProcessor {
 
 	}
 
+	private static final class DeferredCollectionMatch implements Match {
+
+		private final int index;
+
+		private final Object item;
+
+		private final DeferredRemovals removals;
+
+		private DeferredCollectionMatch(int index, Object item, DeferredRemovals removals) {
+			this.index = index;
+			this.item = item;
+			this.removals = removals;
+		}
+
+		@Override
+		public Object getValue() {
+			return this.item;
+		}
+
+		@Override
+		public void remove() {
+			if (isMapWithEntries(this.item) || isCollectionWithEntries(this.item)) {
+				return;
+			}
+			this.removals.remove(this.index, false);
+		}
+
+		@Override
+		public void removeSubsection() {
+			this.removals.remove(this.index, true);
+		}
+
+		private boolean isMapWithEntries(Object object) {
+			return object instanceof Map && !((Map<?, ?>) object).isEmpty();
+		}
+
+		private boolean isCollectionWithEntries(Object object) {
+			return object instanceof Collection && !((Collection<?>) object).isEmpty();
+		}
+
+	}
+
 	private static final class LeafCollectionMatch implements Match {
 
 		private final Collection<?> collection;
@@ -359,6 +555,24 @@ final class JsonFieldProcessor {
 		default void absent() {
 		}
 
+		/**
+		 * Returns a callback that can be used to process a separate portion of the
+		 * payload in parallel with this callback. Callbacks without state can return
+		 * themselves.
+		 * @return the callback
+		 */
+		default MatchCallback split() {
+			return this;
+		}
+
+		/**
+		 * Merges the state of the given callback, previously returned from
+		 * {@link #split()}, into this callback.
+		 * @param other the callback to merge
+		 */
+		default void merge(MatchCallback other) {
+		}
+
 	}
 
 	private interface Match {
@@ -32,7 +32,15 @@ import org.springframework.restdocs.payload.JsonFieldProcessor.ExtractedField;
  */
 class JsonFieldTypesDiscoverer {
 
-	private final JsonFieldProcessor fieldProcessor = new JsonFieldProcessor();
+	private final JsonFieldProcessor fieldProcessor;
+
+	JsonFieldTypesDiscoverer() {
+		this(new JsonFieldProcessor());
+	}
+
+	JsonFieldTypesDiscoverer(JsonFieldProcessor fieldProcessor) {
+		this.fieldProcessor = fieldProcessor;
+	}
 
 	JsonFieldTypes discoverFieldTypes(String path, Object payload) {
 		ExtractedField extractedField = this.fieldProcessor.extract(path, payload);
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.payload;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.restdocs.snippet.Attributes.Attribute;
+import org.springframework.util.Assert;
+
+/**
+ * Configuration for the parallel processing of the elements of large arrays in a JSON
+ * payload. When configured, the discovery of field types and the detection of missing
+ * and undocumented fields split the elements of any array with more elements than a
+ * threshold across a {@link ForkJoinPool}. Parallel processing can be configured for all
+ * fields snippets using the snippet configuration or for an individual snippet using its
+ * {@link #asAttribute() attribute}. By default, arrays are processed sequentially.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ */
+public final class ParallelArrayProcessing {
+
+	/**
+	 * Name of the snippet or operation attribute used to hold the
+	 * {@code ParallelArrayProcessing}.
+	 */
+	public static final String ATTRIBUTE_NAME = ParallelArrayProcessing.class.getName();
+
+	private final int threshold;
+
+	private final ForkJoinPool pool;
+
+	private ParallelArrayProcessing(int threshold, ForkJoinPool pool) {
+		Assert.isTrue(threshold > 0, "threshold must be greater than zero");
+		Assert.notNull(pool, "pool must not be null");
+		this.threshold = threshold;
+		this.pool = pool;
+	}
+
+	/**
+	 * Returns a {@code ParallelArrayProcessing} that processes the elements of arrays
+	 * with more than {@code threshold} elements in parallel using the
+	 * {@link ForkJoinPool#commonPool() common pool}.
+	 * @param threshold the number of elements above which an array is processed in
+	 * parallel
+	 * @return the parallel array processing
+	 */
+	public static ParallelArrayProcessing forArraysLargerThan(int threshold) {
+		return forArraysLargerThan(threshold, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns a {@code ParallelArrayProcessing} that processes the elements of arrays
+	 * with more than {@code threshold} elements in parallel using the given
+	 * {@code pool}.
+	 * @param threshold the number of elements above which an array is processed in
+	 * parallel
+	 * @param pool the pool used to process the elements
+	 * @return the parallel array processing
+	 */
+	public static ParallelArrayProcessing forArraysLargerThan(int threshold, ForkJoinPool pool) {
+		return new ParallelArrayProcessing(threshold, pool);
+	}
+
+	/**
+	 * Returns an {@link Attribute} that can be used to configure a fields snippet to use
+	 * this parallel processing.
+	 * @return the attribute
+	 */
+	public Attribute asAttribute() {
+		return new Attribute(ATTRIBUTE_NAME, this);
+	}
+
+	boolean appliesTo(int elementCount) {
+		return elementCount > this.threshold;
+	}
+
+	ForkJoinPool getPool() {
+		return this.pool;
+	}
+
+	int getChunkSize(int elementCount) {
+		return Math.max(1, elementCount / (this.pool.getParallelism() * 4));
+	}
+
+}
@@ -21,8 +21,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
-import org.springframework.restdocs.snippet.Attributes;
-import org.springframework.restdocs.snippet.Attributes.Attribute;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Static factory methods for documenting a RESTful API's request and response payloads.
@@ -1502,25 +1501,53 @@ public abstract class PayloadDocumentation {
 	 * @return the copied descriptors with the prefix applied
 	 */
 	public static List<FieldDescriptor> applyPathPrefix(String pathPrefix, List<FieldDescriptor> descriptors) {
-		List<FieldDescriptor> prefixedDescriptors = new ArrayList<>();
+		List<FieldDescriptor> prefixedDescriptors = new ArrayList<>(descriptors.size());
 		for (FieldDescriptor descriptor : descriptors) {
-			String prefixedPath = pathPrefix + descriptor.getPath();
-			FieldDescriptor prefixedDescriptor = (descriptor instanceof SubsectionDescriptor)
-					? new SubsectionDescriptor(prefixedPath) : new FieldDescriptor(prefixedPath);
-			prefixedDescriptor.description(descriptor.getDescription())
-				.type(descriptor.getType())
-				.attributes(asArray(descriptor.getAttributes()));
-			if (descriptor.isIgnored()) {
-				prefixedDescriptor.ignored();
-			}
-			if (descriptor.isOptional()) {
-				prefixedDescriptor.optional();
-			}
-			prefixedDescriptors.add(prefixedDescriptor);
+			prefixedDescriptors.add(copy(descriptor, pathPrefix + descriptor.getPath(), descriptor.getType()));
 		}
 		return prefixedDescriptors;
 	}
 
+	/**
+	 * Combines the given {@code descriptors} with the given {@code additionalDescriptors}
+	 * to which the given {@code pathPrefix} is applied. When the prefix is empty, the
+	 * additional descriptors are used as-is rather than being copied.
+	 * @param descriptors the descriptors
+	 * @param pathPrefix the path prefix to apply to the additional descriptors
+	 * @param additionalDescriptors the additional descriptors
+	 * @return the combined descriptors
+	 */
+	static List<FieldDescriptor> combine(List<FieldDescriptor> descriptors, String pathPrefix,
+			List<FieldDescriptor> additionalDescriptors) {
+		List<FieldDescriptor> combinedDescriptors = new ArrayList<>(
+				descriptors.size() + additionalDescriptors.size());
+		combinedDescriptors.addAll(descriptors);
+		combinedDescriptors.addAll(
+				pathPrefix.isEmpty() ? additionalDescriptors : applyPathPrefix(pathPrefix, additionalDescriptors));
+		return combinedDescriptors;
+	}
+
+	/**
+	 * Creates a copy of the given {@code descriptor} with the given {@code path} and
+	 * {@code type}.
+	 * @param descriptor the descriptor to copy
+	 * @param path the path of the copy
+	 * @param type the type of the copy
+	 * @return the copy
+	 */
+	static FieldDescriptor copy(FieldDescriptor descriptor, String path, @Nullable Object type) {
+		FieldDescriptor copy = (descriptor instanceof SubsectionDescriptor) ? new SubsectionDescriptor(path)
+				: new FieldDescriptor(path);
+		copy.description(descriptor.getDescription()).type(type).getAttributes().putAll(descriptor.getAttributes());
+		if (descriptor.isIgnored()) {
+			copy.ignored();
+		}
+		if (descriptor.isOptional()) {
+			copy.optional();
+		}
+		return copy;
+	}
+
 	/**
 	 * Returns a {@link PayloadSubsectionExtractor} that will extract the subsection of
 	 * the JSON payload found beneath the given {@code path}.
@@ -1532,12 +1559,4 @@ public abstract class PayloadDocumentation {
 		return new FieldPathPayloadSubsectionExtractor(path);
 	}
 
-	private static Attribute[] asArray(Map<String, Object> attributeMap) {
-		List<Attributes.Attribute> attributes = new ArrayList<>();
-		for (Map.Entry<String, Object> attribute : attributeMap.entrySet()) {
-			attributes.add(Attributes.key(attribute.getKey()).value(attribute.getValue()));
-		}
-		return attributes.toArray(new Attribute[attributes.size()]);
-	}
-
 }
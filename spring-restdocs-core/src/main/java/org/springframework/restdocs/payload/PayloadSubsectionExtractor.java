@@ -21,6 +21,7 @@ import java.util.List;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.MediaType;
+import org.springframework.restdocs.json.JsonCodec;
 
 /**
  * Strategy interface for extracting a subsection of a payload.
@@ -54,6 +55,25 @@ public interface PayloadSubsectionExtractor<T extends PayloadSubsectionExtractor
 		return extractSubsection(payload, contentType);
 	}
 
+	/**
+	 * Extracts a subsection of the given {@code payload} that has the given
+	 * {@code contentType} and that is described by the given {@code descriptors}, using
+	 * the given {@code jsonCodec} to read and write JSON. The returned subsection may
+	 * provide its parsed structure in addition to its content, allowing it to be
+	 * documented without being parsed again. By default, the subsection only provides
+	 * the content returned from {@link #extractSubsection(byte[], MediaType, List)}.
+	 * @param payload the payload
+	 * @param contentType the content type of the payload
+	 * @param descriptors descriptors that describe the payload
+	 * @param jsonCodec the codec to use to read and write JSON
+	 * @return the subsection of the payload
+	 * @since 4.1.0
+	 */
+	default ExtractedSubsection extract(byte[] payload, @Nullable MediaType contentType,
+			List<FieldDescriptor> descriptors, JsonCodec jsonCodec) {
+		return ExtractedSubsection.of(extractSubsection(payload, contentType, descriptors));
+	}
+
 	/**
 	 * Returns an identifier for the subsection that this extractor will extract.
 	 * @return the identifier
@@ -17,7 +17,7 @@
 package org.springframework.restdocs.payload;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -162,6 +162,11 @@ public class RequestFieldsSnippet extends AbstractFieldsSnippet {
 		return operation.getRequest().getContent();
 	}
 
+	@Override
+	protected ByteBuffer getContentAsByteBuffer(Operation operation) {
+		return operation.getRequest().getContentAsByteBuffer();
+	}
+
 	/**
 	 * Returns a new {@code RequestFieldsSnippet} configured with this snippet's
 	 * attributes and its descriptors combined with the given
@@ -194,10 +199,8 @@ public class RequestFieldsSnippet extends AbstractFieldsSnippet {
 	 * @return the new snippet
 	 */
 	public final RequestFieldsSnippet andWithPrefix(String pathPrefix, FieldDescriptor... additionalDescriptors) {
-		List<FieldDescriptor> combinedDescriptors = new ArrayList<>();
-		combinedDescriptors.addAll(getFieldDescriptors());
-		combinedDescriptors
-			.addAll(PayloadDocumentation.applyPathPrefix(pathPrefix, Arrays.asList(additionalDescriptors)));
+		List<FieldDescriptor> combinedDescriptors = PayloadDocumentation.combine(getFieldDescriptors(), pathPrefix,
+				Arrays.asList(additionalDescriptors));
 		return new RequestFieldsSnippet(getSubsectionExtractor(), combinedDescriptors, getAttributes(),
 				isIgnoredUndocumentedFields());
 	}
@@ -212,8 +215,8 @@ public class RequestFieldsSnippet extends AbstractFieldsSnippet {
 	 * @return the new snippet
 	 */
 	public final RequestFieldsSnippet andWithPrefix(String pathPrefix, List<FieldDescriptor> additionalDescriptors) {
-		List<FieldDescriptor> combinedDescriptors = new ArrayList<>(getFieldDescriptors());
-		combinedDescriptors.addAll(PayloadDocumentation.applyPathPrefix(pathPrefix, additionalDescriptors));
+		List<FieldDescriptor> combinedDescriptors = PayloadDocumentation.combine(getFieldDescriptors(), pathPrefix,
+				additionalDescriptors);
 		return new RequestFieldsSnippet(getSubsectionExtractor(), combinedDescriptors, getAttributes(),
 				isIgnoredUndocumentedFields());
 	}
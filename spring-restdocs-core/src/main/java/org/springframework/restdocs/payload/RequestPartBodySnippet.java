@@ -17,6 +17,7 @@
 package org.springframework.restdocs.payload;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
@@ -92,6 +93,11 @@ public class RequestPartBodySnippet extends AbstractBodySnippet {
 		return findPart(operation).getContent();
 	}
 
+	@Override
+	protected ByteBuffer getContentAsByteBuffer(Operation operation) {
+		return findPart(operation).getContentAsByteBuffer();
+	}
+
 	@Override
 	protected @Nullable MediaType getContentType(Operation operation) {
 		return findPart(operation).getHeaders().getContentType();
@@ -17,7 +17,7 @@
 package org.springframework.restdocs.payload;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -183,6 +183,11 @@ public class RequestPartFieldsSnippet extends AbstractFieldsSnippet {
 		return findPart(operation).getContent();
 	}
 
+	@Override
+	protected ByteBuffer getContentAsByteBuffer(Operation operation) {
+		return findPart(operation).getContentAsByteBuffer();
+	}
+
 	private OperationRequestPart findPart(Operation operation) {
 		for (OperationRequestPart candidate : operation.getRequest().getParts()) {
 			if (candidate.getName().equals(this.partName)) {
@@ -224,10 +229,8 @@ public class RequestPartFieldsSnippet extends AbstractFieldsSnippet {
 	 * @return the new snippet
 	 */
 	public final RequestPartFieldsSnippet andWithPrefix(String pathPrefix, FieldDescriptor... additionalDescriptors) {
-		List<FieldDescriptor> combinedDescriptors = new ArrayList<>();
-		combinedDescriptors.addAll(getFieldDescriptors());
-		combinedDescriptors
-			.addAll(PayloadDocumentation.applyPathPrefix(pathPrefix, Arrays.asList(additionalDescriptors)));
+		List<FieldDescriptor> combinedDescriptors = PayloadDocumentation.combine(getFieldDescriptors(), pathPrefix,
+				Arrays.asList(additionalDescriptors));
 		return new RequestPartFieldsSnippet(this.partName, combinedDescriptors, this.getAttributes());
 	}
 
@@ -242,8 +245,8 @@ public class RequestPartFieldsSnippet extends AbstractFieldsSnippet {
 	 */
 	public final RequestPartFieldsSnippet andWithPrefix(String pathPrefix,
 			List<FieldDescriptor> additionalDescriptors) {
-		List<FieldDescriptor> combinedDescriptors = new ArrayList<>(getFieldDescriptors());
-		combinedDescriptors.addAll(PayloadDocumentation.applyPathPrefix(pathPrefix, additionalDescriptors));
+		List<FieldDescriptor> combinedDescriptors = PayloadDocumentation.combine(getFieldDescriptors(), pathPrefix,
+				additionalDescriptors);
 		return new RequestPartFieldsSnippet(this.partName, combinedDescriptors, this.getAttributes());
 	}
 
@@ -17,7 +17,7 @@
 package org.springframework.restdocs.payload;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -169,6 +169,11 @@ public class ResponseFieldsSnippet extends AbstractFieldsSnippet {
 		return operation.getResponse().getContent();
 	}
 
+	@Override
+	protected ByteBuffer getContentAsByteBuffer(Operation operation) {
+		return operation.getResponse().getContentAsByteBuffer();
+	}
+
 	/**
 	 * Returns a new {@code ResponseFieldsSnippet} configured with this snippet's
 	 * attributes and its descriptors combined with the given
@@ -201,10 +206,8 @@ public class ResponseFieldsSnippet extends AbstractFieldsSnippet {
 	 * @return the new snippet
 	 */
 	public final ResponseFieldsSnippet andWithPrefix(String pathPrefix, FieldDescriptor... additionalDescriptors) {
-		List<FieldDescriptor> combinedDescriptors = new ArrayList<>();
-		combinedDescriptors.addAll(getFieldDescriptors());
-		combinedDescriptors
-			.addAll(PayloadDocumentation.applyPathPrefix(pathPrefix, Arrays.asList(additionalDescriptors)));
+		List<FieldDescriptor> combinedDescriptors = PayloadDocumentation.combine(getFieldDescriptors(), pathPrefix,
+				Arrays.asList(additionalDescriptors));
 		return new ResponseFieldsSnippet(getSubsectionExtractor(), combinedDescriptors, this.getAttributes(),
 				isIgnoredUndocumentedFields());
 	}
@@ -219,8 +222,8 @@ public class ResponseFieldsSnippet extends AbstractFieldsSnippet {
 	 * @return the new snippet
 	 */
 	public final ResponseFieldsSnippet andWithPrefix(String pathPrefix, List<FieldDescriptor> additionalDescriptors) {
-		List<FieldDescriptor> combinedDescriptors = new ArrayList<>(getFieldDescriptors());
-		combinedDescriptors.addAll(PayloadDocumentation.applyPathPrefix(pathPrefix, additionalDescriptors));
+		List<FieldDescriptor> combinedDescriptors = PayloadDocumentation.combine(getFieldDescriptors(), pathPrefix,
+				additionalDescriptors);
 		return new ResponseFieldsSnippet(getSubsectionExtractor(), combinedDescriptors, this.getAttributes(),
 				isIgnoredUndocumentedFields());
 	}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.payload;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * The undocumented parts of a payload. The paths of the undocumented fields are known
+ * up front but the content is only formatted when it is needed, either in full or as an
+ * excerpt whose formatting stops once the excerpt is full.
+ *
+ * @author Andy Wilkinson
+ */
+final class UndocumentedContent {
+
+	private final List<String> paths;
+
+	private final ContentWriter content;
+
+	UndocumentedContent(List<String> paths, ContentWriter content) {
+		this.paths = paths;
+		this.content = content;
+	}
+
+	List<String> getPaths() {
+		return this.paths;
+	}
+
+	String getContent() {
+		StringWriter writer = new StringWriter();
+		try {
+			this.content.writeTo(writer);
+		}
+		catch (IOException ex) {
+			throw new PayloadHandlingException(ex);
+		}
+		return writer.toString();
+	}
+
+	/**
+	 * Returns an excerpt of the content that is at most {@code maxLength} characters
+	 * long. Formatting of the content stops as soon as the excerpt is full.
+	 * @param maxLength the maximum length of the excerpt
+	 * @return the excerpt
+	 */
+	Excerpt getExcerpt(int maxLength) {
+		ExcerptWriter writer = new ExcerptWriter(maxLength);
+		try {
+			this.content.writeTo(writer);
+		}
+		catch (IOException | RuntimeException ex) {
+			if (!writer.truncated) {
+				throw (ex instanceof RuntimeException) ? (RuntimeException) ex : new PayloadHandlingException(ex);
+			}
+		}
+		return new Excerpt(writer.excerpt.toString(), writer.truncated);
+	}
+
+	/**
+	 * Writes formatted undocumented content.
+	 */
+	@FunctionalInterface
+	interface ContentWriter {
+
+		/**
+		 * Writes the content to the given {@code writer}.
+		 * @param writer the writer
+		 * @throws IOException if writing fails
+		 */
+		void writeTo(Writer writer) throws IOException;
+
+	}
+
+	/**
+	 * An excerpt of the undocumented content.
+	 */
+	static final class Excerpt {
+
+		private final String content;
+
+		private final boolean truncated;
+
+		private Excerpt(String content, boolean truncated) {
+			this.content = content;
+			this.truncated = truncated;
+		}
+
+		String getContent() {
+			return this.content;
+		}
+
+		boolean isTruncated() {
+			return this.truncated;
+		}
+
+	}
+
+	/**
+	 * A {@link Writer} that captures at most a fixed number of characters, failing the
+	 * write that would exceed it so that formatting of the content stops.
+	 */
+	private static final class ExcerptWriter extends Writer {
+
+		private final StringBuilder excerpt = new StringBuilder();
+
+		private final int maxLength;
+
+		private boolean truncated;
+
+		private ExcerptWriter(int maxLength) {
+			this.maxLength = maxLength;
+		}
+
+		@Override
+		public void write(char[] buffer, int offset, int length) throws IOException {
+			int remaining = this.maxLength - this.excerpt.length();
+			this.excerpt.append(buffer, offset, Math.min(length, remaining));
+			checkFull(length, remaining);
+		}
+
+		@Override
+		public void write(String string, int offset, int length) throws IOException {
+			int remaining = this.maxLength - this.excerpt.length();
+			this.excerpt.append(string, offset, offset + Math.min(length, remaining));
+			checkFull(length, remaining);
+		}
+
+		private void checkFull(int length, int remaining) throws IOException {
+			if (length > remaining) {
+				this.truncated = true;
+				throw new IOException("Excerpt is full");
+			}
+		}
+
+		@Override
+		public void flush() {
+
+		}
+
+		@Override
+		public void close() {
+
+		}
+
+	}
+
+}
@@ -16,11 +16,13 @@
 
 package org.springframework.restdocs.payload;
 
-import java.io.ByteArrayInputStream;
-import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -39,10 +41,13 @@ import org.jspecify.annotations.Nullable;
 import org.w3c.dom.Attr;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
 
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
 /**
  * A {@link ContentHandler} for XML content.
  *
@@ -52,11 +57,15 @@ class XmlContentHandler implements ContentHandler {
 
 	private final DocumentBuilder documentBuilder;
 
-	private final byte[] rawContent;
+	private final ByteBuffer rawContent;
 
 	private final List<FieldDescriptor> fieldDescriptors;
 
 	XmlContentHandler(byte[] rawContent, List<FieldDescriptor> fieldDescriptors) {
+		this(ByteBuffer.wrap(rawContent), fieldDescriptors);
+	}
+
+	XmlContentHandler(ByteBuffer rawContent, List<FieldDescriptor> fieldDescriptors) {
 		try {
 			this.documentBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
 		}
@@ -95,7 +104,8 @@ class XmlContentHandler implements ContentHandler {
 
 	private Document readPayload() {
 		try {
-			return this.documentBuilder.parse(new InputSource(new ByteArrayInputStream(this.rawContent)));
+			return this.documentBuilder
+				.parse(new InputSource(DefaultDataBufferFactory.sharedInstance.wrap(this.rawContent).asInputStream()));
 		}
 		catch (Exception ex) {
 			throw new PayloadHandlingException(ex);
@@ -107,7 +117,7 @@ class XmlContentHandler implements ContentHandler {
 	}
 
 	@Override
-	public @Nullable String getUndocumentedContent() {
+	public @Nullable UndocumentedContent findUndocumentedContent() {
 		Document payload = readPayload();
 		List<Node> matchedButNotRemoved = new ArrayList<>();
 		for (FieldDescriptor fieldDescriptor : this.fieldDescriptors) {
@@ -138,11 +148,32 @@ class XmlContentHandler implements ContentHandler {
 		}
 		removeLeafNodes(matchedButNotRemoved);
 		if (payload.getChildNodes().getLength() > 0) {
-			return prettyPrint(payload);
+			Set<String> paths = new LinkedHashSet<>();
+			collectPaths(payload, "", paths);
+			return new UndocumentedContent(new ArrayList<>(paths), (writer) -> prettyPrint(payload, writer));
 		}
 		return null;
 	}
 
+	private void collectPaths(Node node, String path, Set<String> paths) {
+		if (node instanceof Element && isLeafNode(node)) {
+			paths.add(path);
+		}
+		NamedNodeMap attributes = node.getAttributes();
+		if (attributes != null) {
+			for (int i = 0; i < attributes.getLength(); i++) {
+				paths.add(path + "/@" + attributes.item(i).getNodeName());
+			}
+		}
+		NodeList childNodes = node.getChildNodes();
+		for (int i = 0; i < childNodes.getLength(); i++) {
+			Node child = childNodes.item(i);
+			if (child instanceof Element) {
+				collectPaths(child, path + "/" + child.getNodeName(), paths);
+			}
+		}
+	}
+
 	private void removeLeafNodes(List<Node> candidates) {
 		boolean changed = true;
 		while (changed) {
@@ -169,17 +200,14 @@ class XmlContentHandler implements ContentHandler {
 		return true;
 	}
 
-	private String prettyPrint(Document document) {
+	private void prettyPrint(Document document, Writer writer) {
 		try {
-			StringWriter stringWriter = new StringWriter();
-			StreamResult xmlOutput = new StreamResult(stringWriter);
 			TransformerFactory transformerFactory = TransformerFactory.newInstance();
 			Transformer transformer = transformerFactory.newTransformer();
 			transformer.setOutputProperty(OutputKeys.INDENT, "yes");
 			transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
 			transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "4");
-			transformer.transform(new DOMSource(document), xmlOutput);
-			return xmlOutput.getWriter().toString();
+			transformer.transform(new DOMSource(document), new StreamResult(writer));
 		}
 		catch (Exception ex) {
 			throw new PayloadHandlingException(ex);
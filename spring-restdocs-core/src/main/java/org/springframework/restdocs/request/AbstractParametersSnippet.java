@@ -41,7 +41,7 @@ import org.springframework.util.Assert;
  */
 public abstract class AbstractParametersSnippet extends TemplatedSnippet {
 
-	private final Map<String, ParameterDescriptor> descriptorsByName = new LinkedHashMap<>();
+	private final Map<String, ParameterDescriptor> descriptorsByName;
 
 	private final boolean ignoreUndocumentedParameters;
 
@@ -60,6 +60,30 @@ public abstract class AbstractParametersSnippet extends TemplatedSnippet {
 	protected AbstractParametersSnippet(String snippetName, List<ParameterDescriptor> descriptors,
 			@Nullable Map<String, Object> attributes, boolean ignoreUndocumentedParameters) {
 		super(snippetName, attributes);
+		this.descriptorsByName = new LinkedHashMap<>();
+		addDescriptors(descriptors);
+		this.ignoreUndocumentedParameters = ignoreUndocumentedParameters;
+	}
+
+	/**
+	 * Creates a new {@code AbstractParametersSnippet} with the same name, attributes, and
+	 * handling of undocumented parameters as the given {@code snippet} that will
+	 * document parameters using the snippet's descriptors combined with the given
+	 * {@code additionalDescriptors}. The snippet's descriptors have already been
+	 * validated so only the additional descriptors are checked.
+	 * @param snippet the snippet to combine with the additional descriptors
+	 * @param additionalDescriptors the additional descriptors
+	 * @since 4.1.0
+	 */
+	protected AbstractParametersSnippet(AbstractParametersSnippet snippet,
+			List<ParameterDescriptor> additionalDescriptors) {
+		super(snippet.getSnippetName(), snippet.getAttributes());
+		this.descriptorsByName = new LinkedHashMap<>(snippet.descriptorsByName);
+		addDescriptors(additionalDescriptors);
+		this.ignoreUndocumentedParameters = snippet.ignoreUndocumentedParameters;
+	}
+
+	private void addDescriptors(List<ParameterDescriptor> descriptors) {
 		for (ParameterDescriptor descriptor : descriptors) {
 			Assert.notNull(descriptor.getName(), "Parameter descriptors must have a name");
 			if (!descriptor.isIgnored()) {
@@ -68,7 +92,6 @@ public abstract class AbstractParametersSnippet extends TemplatedSnippet {
 			}
 			this.descriptorsByName.put(descriptor.getName(), descriptor);
 		}
-		this.ignoreUndocumentedParameters = ignoreUndocumentedParameters;
 	}
 
 	@Override
@@ -16,7 +16,6 @@
 
 package org.springframework.restdocs.request;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -24,8 +23,8 @@ import java.util.Set;
 
 import org.jspecify.annotations.Nullable;
 
-import org.springframework.restdocs.operation.FormParameters;
 import org.springframework.restdocs.operation.Operation;
+import org.springframework.restdocs.operation.SerializedOperationRequest;
 import org.springframework.restdocs.snippet.Snippet;
 import org.springframework.restdocs.snippet.SnippetException;
 
@@ -90,6 +89,10 @@ public class FormParametersSnippet extends AbstractParametersSnippet {
 		super("form-parameters", descriptors, attributes, ignoreUndocumentedParameters);
 	}
 
+	private FormParametersSnippet(FormParametersSnippet snippet, List<ParameterDescriptor> additionalDescriptors) {
+		super(snippet, additionalDescriptors);
+	}
+
 	@Override
 	protected void verificationFailed(Set<String> undocumentedParameters, Set<String> missingParameters) {
 		String message = "";
@@ -107,7 +110,7 @@ public class FormParametersSnippet extends AbstractParametersSnippet {
 
 	@Override
 	protected Set<String> extractActualParameters(Operation operation) {
-		return FormParameters.from(operation.getRequest()).keySet();
+		return SerializedOperationRequest.of(operation).getFormParameters().keySet();
 	}
 
 	/**
@@ -129,10 +132,7 @@ public class FormParametersSnippet extends AbstractParametersSnippet {
 	 * @return the new snippet
 	 */
 	public FormParametersSnippet and(List<ParameterDescriptor> additionalDescriptors) {
-		List<ParameterDescriptor> combinedDescriptors = new ArrayList<>(getParameterDescriptors().values());
-		combinedDescriptors.addAll(additionalDescriptors);
-		return new FormParametersSnippet(combinedDescriptors, this.getAttributes(),
-				this.isIgnoreUndocumentedParameters());
+		return new FormParametersSnippet(this, additionalDescriptors);
 	}
 
 }
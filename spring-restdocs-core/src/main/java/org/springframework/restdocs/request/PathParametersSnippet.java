@@ -16,7 +16,6 @@
 
 package org.springframework.restdocs.request;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -95,6 +94,10 @@ public class PathParametersSnippet extends AbstractParametersSnippet {
 		super("path-parameters", descriptors, attributes, ignoreUndocumentedParameters);
 	}
 
+	private PathParametersSnippet(PathParametersSnippet snippet, List<ParameterDescriptor> additionalDescriptors) {
+		super(snippet, additionalDescriptors);
+	}
+
 	@Override
 	protected Map<String, Object> createModel(Operation operation) {
 		Map<String, Object> model = super.createModel(operation);
@@ -170,9 +173,7 @@ public class PathParametersSnippet extends AbstractParametersSnippet {
 	 * @return the new snippet
 	 */
 	public final PathParametersSnippet and(List<ParameterDescriptor> additionalDescriptors) {
-		List<ParameterDescriptor> combinedDescriptors = new ArrayList<>(getParameterDescriptors().values());
-		combinedDescriptors.addAll(additionalDescriptors);
-		return new PathParametersSnippet(combinedDescriptors, this.getAttributes(), isIgnoreUndocumentedParameters());
+		return new PathParametersSnippet(this, additionalDescriptors);
 	}
 
 }
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.snippet;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.operation.Operation;
+import org.springframework.restdocs.snippet.Attributes.Attribute;
+import org.springframework.util.Assert;
+
+/**
+ * A policy that determines whether the body of a request or response is binary and, if
+ * so, how it is summarized. A binary body is not decoded into a {@code String}. Instead,
+ * the body snippets and the HTTP response snippet render a compact summary of its size
+ * and SHA-256 hash, optionally followed by a hexadecimal preview of its first bytes. A
+ * policy can be configured for all snippets using the snippet configuration or for an
+ * individual snippet using its {@link #asAttribute() attribute}.
+ * <p>
+ * A body is considered to be binary if its media type is one of the policy's binary
+ * media types. A body whose media type is one of the policy's text media types, or that
+ * declares a charset, is considered to be text. A body that starts with a UTF-16 byte
+ * order mark is also considered to be text. Otherwise, the first {@value #SNIFF_LENGTH}
+ * bytes of the body are inspected and it is considered to be binary if they contain a
+ * {@code NUL} byte. As a result, UTF-16 text without a byte order mark is considered to
+ * be binary unless its media type declares a charset or is configured as a text media
+ * type.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ */
+public final class BinaryContentPolicy {
+
+	/**
+	 * Name of the snippet or operation attribute used to hold the
+	 * {@code BinaryContentPolicy}.
+	 */
+	public static final String ATTRIBUTE_NAME = BinaryContentPolicy.class.getName();
+
+	/**
+	 * The number of bytes at the start of a body that are inspected when determining
+	 * whether it is binary.
+	 */
+	public static final int SNIFF_LENGTH = 512;
+
+	private static final BinaryContentPolicy DEFAULT = new BinaryContentPolicy(Collections.emptyList(), 0)
+		.withBinaryMediaTypes(MediaType.APPLICATION_OCTET_STREAM, MediaType.APPLICATION_PDF,
+				MediaType.parseMediaType("application/protobuf"), MediaType.parseMediaType("application/x-protobuf"),
+				MediaType.parseMediaType("image/*"), MediaType.parseMediaType("audio/*"),
+				MediaType.parseMediaType("video/*"))
+		.withTextMediaTypes(MediaType.parseMediaType("image/svg+xml"));
+
+	private final List<Rule> rules;
+
+	private final int previewLength;
+
+	private BinaryContentPolicy(List<Rule> rules, int previewLength) {
+		this.rules = rules;
+		this.previewLength = previewLength;
+	}
+
+	/**
+	 * Returns the default {@code BinaryContentPolicy}. It treats
+	 * {@code application/octet-stream}, {@code application/pdf},
+	 * {@code application/protobuf}, {@code application/x-protobuf}, {@code image/*},
+	 * {@code audio/*}, and {@code video/*} as binary media types and
+	 * {@code image/svg+xml} as a text media type. Bodies with any other media type are
+	 * inspected. The default policy does not include a preview in its summaries.
+	 * @return the default policy
+	 */
+	public static BinaryContentPolicy defaultPolicy() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Returns a new {@code BinaryContentPolicy} that, in addition to the media types of
+	 * this policy, treats bodies with a media type that is included by any of the given
+	 * {@code mediaTypes} as binary. Wildcard media types, such as {@code image/*}, are
+	 * supported. Media types that are configured later take precedence over those that
+	 * were configured earlier.
+	 * @param mediaTypes the binary media types
+	 * @return the new policy
+	 */
+	public BinaryContentPolicy withBinaryMediaTypes(MediaType... mediaTypes) {
+		return withRules(true, mediaTypes);
+	}
+
+	/**
+	 * Returns a new {@code BinaryContentPolicy} that, in addition to the media types of
+	 * this policy, treats bodies with a media type that is included by any of the given
+	 * {@code mediaTypes} as text. Wildcard media types, such as {@code text/*}, are
+	 * supported. Media types that are configured later take precedence over those that
+	 * were configured earlier.
+	 * @param mediaTypes the text media types
+	 * @return the new policy
+	 */
+	public BinaryContentPolicy withTextMediaTypes(MediaType... mediaTypes) {
+		return withRules(false, mediaTypes);
+	}
+
+	/**
+	 * Returns a new {@code BinaryContentPolicy} that includes a hexadecimal preview of up
+	 * to the first {@code length} bytes of a binary body in its summary. A length of zero
+	 * disables the preview.
+	 * @param length the maximum number of bytes to preview
+	 * @return the new policy
+	 */
+	public BinaryContentPolicy withPreview(int length) {
+		Assert.isTrue(length >= 0, "length must not be negative");
+		return new BinaryContentPolicy(this.rules, length);
+	}
+
+	/**
+	 * Resolves the policy to use when documenting the given {@code operation}. A policy
+	 * in the given {@code snippetAttributes} takes precedence over one in the operation's
+	 * attributes. If neither contains a policy, the {@link #defaultPolicy() default
+	 * policy} is used.
+	 * @param snippetAttributes the attributes of the snippet
+	 * @param operation the operation
+	 * @return the policy to use
+	 */
+	public static BinaryContentPolicy resolve(Map<String, Object> snippetAttributes, Operation operation) {
+		Object policy = snippetAttributes.get(ATTRIBUTE_NAME);
+		if (policy == null) {
+			policy = operation.getAttributes().get(ATTRIBUTE_NAME);
+		}
+		return (policy != null) ? (BinaryContentPolicy) policy : DEFAULT;
+	}
+
+	/**
+	 * Returns an {@link Attribute} that can be used to configure a snippet to use this
+	 * policy.
+	 * @return the attribute
+	 */
+	public Attribute asAttribute() {
+		return new Attribute(ATTRIBUTE_NAME, this);
+	}
+
+	/**
+	 * Returns whether the given {@code content} with the given {@code contentType} is
+	 * binary.
+	 * @param content the content
+	 * @param contentType the content type or {@code null}
+	 * @return {@code true} if the content is binary, otherwise {@code false}
+	 */
+	public boolean isBinary(byte[] content, @Nullable MediaType contentType) {
+		return isBinary(ByteBuffer.wrap(content), contentType);
+	}
+
+	/**
+	 * Returns whether the remaining {@code content} with the given {@code contentType}
+	 * is binary. The buffer's position is not changed and, at most, only its first
+	 * {@value #SNIFF_LENGTH} bytes are read.
+	 * @param content the content
+	 * @param contentType the content type or {@code null}
+	 * @return {@code true} if the content is binary, otherwise {@code false}
+	 */
+	public boolean isBinary(ByteBuffer content, @Nullable MediaType contentType) {
+		if (!content.hasRemaining()) {
+			return false;
+		}
+		if (contentType != null) {
+			for (int i = this.rules.size() - 1; i >= 0; i--) {
+				Rule rule = this.rules.get(i);
+				if (rule.mediaType.includes(contentType)) {
+					return rule.binary;
+				}
+			}
+			if (contentType.getCharset() != null) {
+				return false;
+			}
+		}
+		return !hasUtf16ByteOrderMark(content) && containsNul(content);
+	}
+
+	/**
+	 * Returns a summary of the given binary {@code content}.
+	 * @param content the content
+	 * @return the summary
+	 */
+	public String summarize(byte[] content) {
+		return summarize(ByteBuffer.wrap(content));
+	}
+
+	/**
+	 * Returns a summary of the remaining binary {@code content}. The buffer's position
+	 * is not changed.
+	 * @param content the content
+	 * @return the summary
+	 */
+	public String summarize(ByteBuffer content) {
+		int contentLength = content.remaining();
+		StringBuilder summary = new StringBuilder("<binary content: ").append(contentLength)
+			.append((contentLength == 1) ? " byte" : " bytes")
+			.append(", SHA-256 ")
+			.append(HexFormat.of().formatHex(sha256(content)))
+			.append(">");
+		int length = Math.min(this.previewLength, contentLength);
+		if (length > 0) {
+			byte[] preview = new byte[length];
+			content.duplicate().get(preview);
+			summary.append(System.lineSeparator()).append(HexFormat.ofDelimiter(" ").formatHex(preview));
+			if (length < contentLength) {
+				summary.append(" ...");
+			}
+		}
+		return summary.toString();
+	}
+
+	private BinaryContentPolicy withRules(boolean binary, MediaType... mediaTypes) {
+		List<Rule> rules = new ArrayList<>(this.rules);
+		for (MediaType mediaType : mediaTypes) {
+			rules.add(new Rule(mediaType, binary));
+		}
+		return new BinaryContentPolicy(Collections.unmodifiableList(rules), this.previewLength);
+	}
+
+	private static boolean hasUtf16ByteOrderMark(ByteBuffer content) {
+		if (content.remaining() < 2) {
+			return false;
+		}
+		int first = content.get(content.position()) & 0xFF;
+		int second = content.get(content.position() + 1) & 0xFF;
+		return (first == 0xFE && second == 0xFF) || (first == 0xFF && second == 0xFE);
+	}
+
+	private static boolean containsNul(ByteBuffer content) {
+		int end = content.position() + Math.min(content.remaining(), SNIFF_LENGTH);
+		for (int i = content.position(); i < end; i++) {
+			if (content.get(i) == 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static byte[] sha256(ByteBuffer content) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(content.duplicate());
+			return digest.digest();
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder description = new StringBuilder();
+		for (Rule rule : this.rules) {
+			description.append((description.length() > 0) ? ", " : "")
+				.append(rule.mediaType)
+				.append((rule.binary) ? " binary" : " text");
+		}
+		return "[" + description + "] preview " + this.previewLength;
+	}
+
+	private static final class Rule {
+
+		private final MediaType mediaType;
+
+		private final boolean binary;
+
+		private Rule(MediaType mediaType, boolean binary) {
+			this.mediaType = mediaType;
+			this.binary = binary;
+		}
+
+	}
+
+}
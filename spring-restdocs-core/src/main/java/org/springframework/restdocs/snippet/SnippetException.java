@@ -25,6 +25,15 @@ package org.springframework.restdocs.snippet;
 @SuppressWarnings("serial")
 public class SnippetException extends RuntimeException {
 
+	/**
+	 * Creates a new {@code SnippetException} without a message. Subclasses using this
+	 * constructor should override {@link #getMessage()} to describe the problem.
+	 * @since 4.1.0
+	 */
+	protected SnippetException() {
+
+	}
+
 	/**
 	 * Creates a new {@code SnippetException} described by the given {@code message}.
 	 * @param message the message that describes the problem
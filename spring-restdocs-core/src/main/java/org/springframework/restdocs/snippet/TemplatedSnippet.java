@@ -17,13 +17,17 @@
 package org.springframework.restdocs.snippet;
 
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.generate.RestDocumentationGenerator;
 import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.templates.Template;
 import org.springframework.restdocs.templates.TemplateEngine;
@@ -73,14 +77,61 @@ public abstract class TemplatedSnippet implements Snippet {
 
 	@Override
 	public void document(Operation operation) throws IOException {
+		if (isValidationOnly(operation)) {
+			if (performsValidation()) {
+				createModel(operation);
+			}
+			return;
+		}
 		RestDocumentationContext context = getRequiredAttribute(operation, RestDocumentationContext.class);
 		WriterResolver writerResolver = getRequiredAttribute(operation, WriterResolver.class);
 		Map<String, Object> model = createModel(operation);
 		model.putAll(this.attributes);
+		TemplateEngine templateEngine = getRequiredAttribute(operation, TemplateEngine.class);
+		String snippet = render(operation.getName(), templateEngine, model);
+		SnippetWritingEvent event = new SnippetWritingEvent(operation.getName(), this.snippetName);
+		event.begin();
 		try (Writer writer = writerResolver.resolve(operation.getName(), this.snippetName, context)) {
-			TemplateEngine templateEngine = getRequiredAttribute(operation, TemplateEngine.class);
-			writer.append(templateEngine.compileTemplate(this.templateName).render(model));
+			writer.append(snippet);
+			if (event.isEnabled()) {
+				event.bytesWritten = bytesWritten(writer, snippet);
+			}
 		}
+		event.commit();
+	}
+
+	private String render(String operationName, TemplateEngine templateEngine, Map<String, Object> model)
+			throws IOException {
+		TemplateCompilationEvent compilation = new TemplateCompilationEvent(operationName, this.snippetName,
+				this.templateName);
+		compilation.begin();
+		Template template = templateEngine.compileTemplate(this.templateName);
+		compilation.commit();
+		TemplateRenderingEvent rendering = new TemplateRenderingEvent(operationName, this.snippetName,
+				this.templateName);
+		rendering.begin();
+		String rendered = template.render(model);
+		rendering.end();
+		if (rendering.shouldCommit()) {
+			rendering.characters = rendered.length();
+			rendering.commit();
+		}
+		return rendered;
+	}
+
+	private long bytesWritten(Writer writer, String snippet) {
+		if (writer instanceof OutputStreamWriter) {
+			String encoding = ((OutputStreamWriter) writer).getEncoding();
+			if (encoding != null && Charset.isSupported(encoding)) {
+				return snippet.getBytes(Charset.forName(encoding)).length;
+			}
+		}
+		return snippet.getBytes(StandardCharsets.UTF_8).length;
+	}
+
+	private boolean isValidationOnly(Operation operation) {
+		return Boolean.TRUE
+			.equals(operation.getAttributes().get(RestDocumentationGenerator.ATTRIBUTE_NAME_VALIDATION_ONLY));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -103,6 +154,19 @@ public abstract class TemplatedSnippet implements Snippet {
 	 */
 	protected abstract Map<String, Object> createModel(Operation operation);
 
+	/**
+	 * Returns whether this snippet verifies the operation that it documents, for example
+	 * by checking that everything in the operation has been documented. When only
+	 * validation has been configured, a snippet that performs validation has its model
+	 * created, without rendering or writing it, and a snippet that does not is skipped
+	 * entirely. The default implementation returns {@code true}.
+	 * @return {@code true} if the snippet performs validation, otherwise {@code false}
+	 * @since 4.1.0
+	 */
+	protected boolean performsValidation() {
+		return true;
+	}
+
 	/**
 	 * Returns the additional attributes that will be included in the model during
 	 * template rendering.
@@ -120,4 +184,9 @@ public abstract class TemplatedSnippet implements Snippet {
 		return this.snippetName;
 	}
 
+	@Override
+	public String toString() {
+		return this.snippetName;
+	}
+
 }
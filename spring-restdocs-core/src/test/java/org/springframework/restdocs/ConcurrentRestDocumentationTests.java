@@ -0,0 +1,158 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link ConcurrentRestDocumentation}.
+ *
+ * @author Andy Wilkinson
+ */
+class ConcurrentRestDocumentationTests {
+
+	private final ConcurrentRestDocumentation documentation = new ConcurrentRestDocumentation("build");
+
+	@Test
+	void beforeOperationWithoutActiveTestFails() {
+		assertThatIllegalStateException().isThrownBy(this.documentation::beforeOperation)
+			.withMessage("No test is active on this thread. Did you forget to call beforeTest(Class, String)?");
+	}
+
+	@Test
+	void beforeTestWhenTestIsAlreadyActiveFails() {
+		this.documentation.beforeTest(getClass(), "one");
+		try {
+			assertThatIllegalStateException().isThrownBy(() -> this.documentation.beforeTest(getClass(), "two"))
+				.withMessage("A test is already active on this thread. Did you forget to call afterTest()?");
+		}
+		finally {
+			this.documentation.afterTest();
+		}
+	}
+
+	@Test
+	void contextsOfConcurrentTestsAreIsolated() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			CompletableFuture<RestDocumentationContext> one = CompletableFuture.supplyAsync(() -> runTest("one"),
+					executor);
+			CompletableFuture<RestDocumentationContext> two = CompletableFuture.supplyAsync(() -> runTest("two"),
+					executor);
+			assertThat(one.get().getTestMethodName()).isEqualTo("one");
+			assertThat(one.get().getStepCount()).isEqualTo(2);
+			assertThat(two.get().getTestMethodName()).isEqualTo("two");
+			assertThat(two.get().getStepCount()).isEqualTo(2);
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void contextIsInheritedByThreadsCreatedDuringTest() throws Exception {
+		this.documentation.beforeTest(getClass(), "test");
+		try {
+			AtomicReference<RestDocumentationContext> context = new AtomicReference<>();
+			Thread thread = new Thread(() -> context.set(this.documentation.beforeOperation()));
+			thread.start();
+			thread.join();
+			assertThat(context.get().getTestMethodName()).isEqualTo("test");
+		}
+		finally {
+			this.documentation.afterTest();
+		}
+	}
+
+	@Test
+	void inheritedContextIsReplacedWhenThreadBeginsItsOwnTest() throws Exception {
+		this.documentation.beforeTest(getClass(), "parent");
+		try {
+			AtomicReference<RestDocumentationContext> context = new AtomicReference<>();
+			Thread thread = new Thread(() -> context.set(runTest("child")));
+			thread.start();
+			thread.join();
+			assertThat(context.get().getTestMethodName()).isEqualTo("child");
+			assertThat(this.documentation.beforeOperation().getTestMethodName()).isEqualTo("parent");
+		}
+		finally {
+			this.documentation.afterTest();
+		}
+	}
+
+	@Test
+	void inheritedContextIsInactiveOnceTestHasCompleted() throws Exception {
+		this.documentation.beforeTest(getClass(), "test");
+		CountDownLatch completed = new CountDownLatch(1);
+		AtomicBoolean active = new AtomicBoolean(true);
+		Thread thread = new Thread(() -> {
+			try {
+				completed.await();
+				active.set(this.documentation.isTestActive());
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		thread.start();
+		this.documentation.afterTest();
+		completed.countDown();
+		thread.join();
+		assertThat(active).isFalse();
+	}
+
+	@Test
+	void providerForTestCanBeUsedOnAnyThread() throws Exception {
+		RestDocumentationContextProvider provider = this.documentation.beforeTest(getClass(), "test");
+		try {
+			ExecutorService executor = Executors.newSingleThreadExecutor();
+			try {
+				assertThat(executor.submit(provider::beforeOperation).get().getTestMethodName()).isEqualTo("test");
+			}
+			finally {
+				executor.shutdown();
+			}
+		}
+		finally {
+			this.documentation.afterTest();
+		}
+		assertThatIllegalStateException().isThrownBy(provider::beforeOperation)
+			.withMessageEndingWith("has completed");
+	}
+
+	private RestDocumentationContext runTest(String name) {
+		this.documentation.beforeTest(getClass(), name);
+		try {
+			this.documentation.beforeOperation();
+			return this.documentation.beforeOperation();
+		}
+		finally {
+			this.documentation.afterTest();
+		}
+	}
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RestDocumentationExtension}.
+ *
+ * @author Andy Wilkinson
+ */
+class RestDocumentationExtensionTests {
+
+	private static volatile boolean launched;
+
+	private static ExecutorService executor;
+
+	@Test
+	void providersUseTheContextOfTheirTestWhenTestsOfAPerClassInstanceRunConcurrently() throws Exception {
+		executor = Executors.newSingleThreadExecutor();
+		launched = true;
+		try {
+			executor.submit(() -> {
+			}).get();
+			EngineTestKit.engine("junit-jupiter")
+				.configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+				.configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+				.configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "2")
+				.selectors(DiscoverySelectors.selectClass(ConcurrentPerClassTestCase.class))
+				.execute()
+				.testEvents()
+				.assertStatistics((stats) -> stats.started(2).succeeded(2));
+		}
+		finally {
+			launched = false;
+			executor.shutdown();
+		}
+	}
+
+	@TestInstance(Lifecycle.PER_CLASS)
+	@Execution(ExecutionMode.CONCURRENT)
+	@ExtendWith(RestDocumentationExtension.class)
+	@EnabledIf("launched")
+	static class ConcurrentPerClassTestCase {
+
+		private final CountDownLatch running = new CountDownLatch(2);
+
+		private final RestDocumentationContextProvider sharedProvider;
+
+		ConcurrentPerClassTestCase(RestDocumentationContextProvider sharedProvider) {
+			this.sharedProvider = sharedProvider;
+		}
+
+		static boolean launched() {
+			return launched;
+		}
+
+		@Test
+		void one(RestDocumentationContextProvider provider) throws Exception {
+			assertProvidersUseContextOf("one", provider);
+		}
+
+		@Test
+		void two(RestDocumentationContextProvider provider) throws Exception {
+			assertProvidersUseContextOf("two", provider);
+		}
+
+		private void assertProvidersUseContextOf(String testMethodName, RestDocumentationContextProvider provider)
+				throws Exception {
+			this.running.countDown();
+			assertThat(this.running.await(30, TimeUnit.SECONDS)).isTrue();
+			assertThat(this.sharedProvider.beforeOperation().getTestMethodName()).isEqualTo(testMethodName);
+			RestDocumentationContext context = CompletableFuture.supplyAsync(provider::beforeOperation, executor)
+				.get();
+			assertThat(context.getTestMethodName()).isEqualTo(testMethodName);
+			assertThat(context.getStepCount()).isEqualTo(2);
+		}
+
+	}
+
+}
@@ -18,18 +18,31 @@ package org.springframework.restdocs;
 
 import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.restdocs.generate.RestDocumentationGenerator;
+import org.springframework.restdocs.json.JsonCodec;
+import org.springframework.restdocs.operation.ContentStorage;
 import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.operation.OperationRequest;
 import org.springframework.restdocs.operation.OperationRequestFactory;
@@ -42,8 +55,11 @@ import org.springframework.restdocs.operation.preprocess.OperationRequestPreproc
 import org.springframework.restdocs.operation.preprocess.OperationResponsePreprocessor;
 import org.springframework.restdocs.operation.preprocess.Preprocessors;
 import org.springframework.restdocs.snippet.Snippet;
+import org.springframework.restdocs.snippet.TemplatedSnippet;
+import org.springframework.util.ClassUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -58,10 +74,11 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 class RestDocumentationGeneratorTests {
 
 	@SuppressWarnings("unchecked")
-	private final RequestConverter<Object> requestConverter = mock(RequestConverter.class);
+	private final RequestConverter<Object> requestConverter = mock(RequestConverter.class, Mockito.CALLS_REAL_METHODS);
 
 	@SuppressWarnings("unchecked")
-	private final ResponseConverter<Object> responseConverter = mock(ResponseConverter.class);
+	private final ResponseConverter<Object> responseConverter = mock(ResponseConverter.class,
+			Mockito.CALLS_REAL_METHODS);
 
 	private final Object request = new Object();
 
@@ -89,6 +106,21 @@ class RestDocumentationGeneratorTests {
 		verifySnippetInvocation(this.snippet, configuration);
 	}
 
+	@Test
+	void configuredJsonCodecIsAvailableAsAnOperationAttribute() {
+		given(this.requestConverter.convert(this.request)).willReturn(this.operationRequest);
+		given(this.responseConverter.convert(this.response)).willReturn(this.operationResponse);
+		HashMap<String, Object> configuration = new HashMap<>();
+		JsonCodec jsonCodec = mock(JsonCodec.class);
+		configuration.put(JsonCodec.class.getName(), jsonCodec);
+		List<JsonCodec> codecsInUse = new ArrayList<>();
+		Snippet snippet = (operation) -> codecsInUse
+			.add((JsonCodec) operation.getAttributes().get(JsonCodec.class.getName()));
+		new RestDocumentationGenerator<>("id", this.requestConverter, this.responseConverter, snippet)
+			.handle(this.request, this.response, configuration);
+		assertThat(codecsInUse).containsExactly(jsonCodec);
+	}
+
 	@Test
 	void defaultSnippetsAreCalled() throws IOException {
 		given(this.requestConverter.convert(this.request)).willReturn(this.operationRequest);
@@ -154,8 +186,8 @@ class RestDocumentationGeneratorTests {
 		OperationResponsePreprocessor responsePreprocessor = mock(OperationResponsePreprocessor.class);
 		given(this.requestConverter.convert(this.request)).willReturn(this.operationRequest);
 		given(this.responseConverter.convert(this.response)).willReturn(this.operationResponse);
-		given(requestPreprocessor.preprocess(this.operationRequest)).willReturn(this.operationRequest);
-		given(responsePreprocessor.preprocess(this.operationResponse)).willReturn(this.operationResponse);
+		given(requestPreprocessor.preprocess("id", this.operationRequest)).willReturn(this.operationRequest);
+		given(responsePreprocessor.preprocess("id", this.operationResponse)).willReturn(this.operationResponse);
 		Snippet additionalSnippet1 = mock(Snippet.class);
 		Snippet additionalSnippet2 = mock(Snippet.class);
 		RestDocumentationGenerator<Object, Object> generator = new RestDocumentationGenerator<>("id",
@@ -168,6 +200,93 @@ class RestDocumentationGeneratorTests {
 		verifySnippetInvocation(additionalSnippet2, configuration);
 	}
 
+	@Test
+	void contentStoredOnDiskIsDeletedOnceTheOperationHasBeenDocumented(@TempDir Path temp) throws IOException {
+		RequestConverter<Object> requestConverter = new RequestConverter<>() {
+
+			@Override
+			public OperationRequest convert(Object request) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public OperationRequest convert(Object request, ContentStorage.Session contentStorage) {
+				return new OperationRequestFactory().createFromBuffer(URI.create("http://localhost:8080"),
+						HttpMethod.POST, contentStorage.store("request".getBytes()), new HttpHeaders(), null,
+						Collections.emptyList());
+			}
+
+		};
+		ResponseConverter<Object> responseConverter = (response) -> new OperationResponseFactory()
+			.create(HttpStatus.OK, new HttpHeaders(), "response".getBytes());
+		List<Path> storedFiles = new ArrayList<>();
+		Snippet snippet = (operation) -> {
+			assertThat(operation.getRequest().getContentAsString()).isEqualTo("request");
+			assertThat(operation.getResponse().getContentAsString()).isEqualTo("response");
+			try (Stream<Path> files = Files.list(temp)) {
+				files.forEach(storedFiles::add);
+			}
+		};
+		Map<String, Object> configuration = new HashMap<>();
+		configuration.put(ContentStorage.ATTRIBUTE_NAME, ContentStorage.spillToDisk(0, temp));
+		new RestDocumentationGenerator<>("id", requestConverter, responseConverter, snippet).handle(this.request,
+				this.response, configuration);
+		assertThat(storedFiles).hasSize(2);
+		try (Stream<Path> files = Files.list(temp)) {
+			assertThat(files).isEmpty();
+		}
+	}
+
+	@Test
+	void flightRecorderEventsAreRecordedForConversionPreprocessingAndSnippetsWhenEnabled(@TempDir Path temp)
+			throws IOException {
+		given(this.requestConverter.convert(this.request))
+			.willReturn(new OperationRequestFactory().create(URI.create("http://localhost:8080"), HttpMethod.POST,
+					"request".getBytes(), new HttpHeaders(), null, Collections.emptyList()));
+		given(this.responseConverter.convert(this.response)).willReturn(this.operationResponse);
+		Snippet templatedSnippet = new TemplatedSnippet("templated", null) {
+
+			@Override
+			public void document(Operation operation) {
+
+			}
+
+			@Override
+			protected Map<String, Object> createModel(Operation operation) {
+				return Collections.emptyMap();
+			}
+
+		};
+		Path dump = temp.resolve("recording.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("org.springframework.restdocs.OperationConversion");
+			recording.enable("org.springframework.restdocs.OperationPreprocessing");
+			recording.enable("org.springframework.restdocs.SnippetDocumentation");
+			recording.start();
+			new RestDocumentationGenerator<>("id", this.requestConverter, this.responseConverter,
+					Preprocessors.preprocessRequest(Preprocessors.modifyUris().port(8081)), templatedSnippet,
+					new NoOpSnippet())
+				.handle(this.request, this.response, new HashMap<>());
+			recording.stop();
+			recording.dump(dump);
+		}
+		List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+		assertThat(events).allSatisfy((event) -> assertThat(event.getString("operation")).isEqualTo("id"));
+		assertThat(events).filteredOn(
+				(event) -> event.getEventType().getName().equals("org.springframework.restdocs.OperationConversion"))
+			.extracting((event) -> event.getString("message"), (event) -> event.getLong("contentLength"))
+			.containsExactly(tuple("request", 7L), tuple("response", 0L));
+		assertThat(events).filteredOn(
+				(event) -> event.getEventType().getName().equals("org.springframework.restdocs.OperationPreprocessing"))
+			.extracting((event) -> event.getString("message"),
+					(event) -> ClassUtils.getShortName(event.getClass("preprocessor").getName()))
+			.containsExactly(tuple("request", "UriModifyingOperationPreprocessor"));
+		assertThat(events).filteredOn(
+				(event) -> event.getEventType().getName().equals("org.springframework.restdocs.SnippetDocumentation"))
+			.extracting((event) -> event.getString("snippet"))
+			.containsExactly("templated", "NoOpSnippet");
+	}
+
 	private void verifySnippetInvocation(Snippet snippet, Map<String, Object> attributes) throws IOException {
 		ArgumentCaptor<Operation> operation = ArgumentCaptor.forClass(Operation.class);
 		verify(snippet).document(operation.capture());
@@ -202,4 +321,13 @@ class RestDocumentationGeneratorTests {
 		return new OperationResponseFactory().create(HttpStatus.OK, null, null);
 	}
 
+	private static final class NoOpSnippet implements Snippet {
+
+		@Override
+		public void document(Operation operation) {
+
+		}
+
+	}
+
 }
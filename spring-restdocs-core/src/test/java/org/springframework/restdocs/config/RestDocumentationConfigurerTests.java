@@ -36,6 +36,7 @@ import org.springframework.restdocs.cli.HttpieRequestSnippet;
 import org.springframework.restdocs.generate.RestDocumentationGenerator;
 import org.springframework.restdocs.http.HttpRequestSnippet;
 import org.springframework.restdocs.http.HttpResponseSnippet;
+import org.springframework.restdocs.json.JsonCodec;
 import org.springframework.restdocs.operation.OperationRequest;
 import org.springframework.restdocs.operation.OperationRequestFactory;
 import org.springframework.restdocs.operation.OperationResponse;
@@ -117,6 +118,21 @@ class RestDocumentationConfigurerTests {
 		assertThat(configuration).containsEntry(WriterResolver.class.getName(), writerResolver);
 	}
 
+	@Test
+	void defaultJsonCodec() {
+		Map<String, Object> configuration = new HashMap<>();
+		this.configurer.apply(configuration, createContext());
+		assertThat(configuration).containsEntry(JsonCodec.class.getName(), JsonCodec.jackson());
+	}
+
+	@Test
+	void customJsonCodec() {
+		Map<String, Object> configuration = new HashMap<>();
+		JsonCodec jsonCodec = mock(JsonCodec.class);
+		this.configurer.jsonCodec(jsonCodec).apply(configuration, createContext());
+		assertThat(configuration).containsEntry(JsonCodec.class.getName(), jsonCodec);
+	}
+
 	@Test
 	void customDefaultSnippets() {
 		Map<String, Object> configuration = new HashMap<>();
@@ -172,6 +188,20 @@ class RestDocumentationConfigurerTests {
 		assertThat(snippetConfiguration.getTemplateFormat().getId()).isEqualTo(TemplateFormats.markdown().getId());
 	}
 
+	@Test
+	void validationOnlyIsNotConfiguredByDefault() {
+		Map<String, Object> configuration = new HashMap<>();
+		this.configurer.apply(configuration, createContext());
+		assertThat(configuration).doesNotContainKey(RestDocumentationGenerator.ATTRIBUTE_NAME_VALIDATION_ONLY);
+	}
+
+	@Test
+	void customValidationOnly() {
+		Map<String, Object> configuration = new HashMap<>();
+		this.configurer.snippets().withValidationOnly(true).apply(configuration, createContext());
+		assertThat(configuration).containsEntry(RestDocumentationGenerator.ATTRIBUTE_NAME_VALIDATION_ONLY, true);
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	void asciidoctorTableCellContentLambaIsInstalledWhenUsingAsciidoctorTemplateFormat() {
@@ -18,12 +18,17 @@ package org.springframework.restdocs.constraints;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 /**
  * Tests for {@link ConstraintDescriptions}.
@@ -58,8 +63,91 @@ class ConstraintDescriptionsTests {
 		assertThat(this.constraintDescriptions.descriptionsForProperty("foo").size()).isEqualTo(0);
 	}
 
+	@Test
+	void descriptionsForPropertyAreResolvedOnce() {
+		Constraint constraint = new Constraint("constraint", Collections.<String, Object>emptyMap());
+		given(this.constraintResolver.resolveForProperty("foo", Constrained.class)).willReturn(List.of(constraint));
+		given(this.constraintDescriptionResolver.resolveDescription(constraint)).willReturn("Alpha");
+		assertThat(this.constraintDescriptions.descriptionsForProperty("foo")).containsExactly("Alpha");
+		assertThat(this.constraintDescriptions.descriptionsForProperty("foo")).containsExactly("Alpha");
+		then(this.constraintResolver).should(times(1)).resolveForProperty("foo", Constrained.class);
+		then(this.constraintDescriptionResolver).should(times(1)).resolveDescription(constraint);
+	}
+
+	@Test
+	void descriptionsForAllProperties() {
+		Constraint constraint1 = new Constraint("constraint1", Collections.<String, Object>emptyMap());
+		Constraint constraint2 = new Constraint("constraint2", Collections.<String, Object>emptyMap());
+		Constraint constraint3 = new Constraint("constraint3", Collections.<String, Object>emptyMap());
+		given(this.constraintResolver.resolveForAllProperties(Constrained.class))
+			.willReturn(Map.of("foo", List.of(constraint1, constraint2), "bar", List.of(constraint3)));
+		given(this.constraintDescriptionResolver.resolveDescription(constraint1)).willReturn("Bravo");
+		given(this.constraintDescriptionResolver.resolveDescription(constraint2)).willReturn("Alpha");
+		given(this.constraintDescriptionResolver.resolveDescription(constraint3)).willReturn("Charlie");
+		Map<String, List<String>> descriptions = this.constraintDescriptions.descriptionsForAllProperties();
+		assertThat(descriptions).containsOnlyKeys("bar", "foo");
+		assertThat(descriptions.get("foo")).containsExactly("Alpha", "Bravo");
+		assertThat(descriptions.get("bar")).containsExactly("Charlie");
+		assertThat(this.constraintDescriptions.descriptionsForProperty("foo")).containsExactly("Alpha", "Bravo");
+		then(this.constraintResolver).should(never()).resolveForProperty("foo", Constrained.class);
+	}
+
+	@Test
+	void descriptionsAreSharedByInstancesWithTheSameResolvers() {
+		Constraint constraint = new Constraint("constraint", Collections.<String, Object>emptyMap());
+		given(this.constraintResolver.resolveForProperty("foo", Constrained.class)).willReturn(List.of(constraint));
+		given(this.constraintDescriptionResolver.resolveDescription(constraint)).willReturn("Alpha");
+		assertThat(this.constraintDescriptions.descriptionsForProperty("foo")).containsExactly("Alpha");
+		assertThat(new ConstraintDescriptions(Constrained.class, this.constraintResolver,
+				this.constraintDescriptionResolver)
+			.descriptionsForProperty("foo")).containsExactly("Alpha");
+		then(this.constraintResolver).should(times(1)).resolveForProperty("foo", Constrained.class);
+	}
+
+	@Test
+	void descriptionsForAllPropertiesWithResolverThatOnlyResolvesIndividualProperties() {
+		Constraint constraint1 = new Constraint("constraint1", Collections.<String, Object>emptyMap());
+		Constraint constraint2 = new Constraint("constraint2", Collections.<String, Object>emptyMap());
+		Map<String, List<Constraint>> constraints = Map.of("alpha", List.of(constraint1), "charlie",
+				List.of(constraint2));
+		ConstraintResolver resolver = (property, clazz) -> constraints.getOrDefault(property,
+				Collections.emptyList());
+		given(this.constraintDescriptionResolver.resolveDescription(constraint1)).willReturn("Alpha");
+		given(this.constraintDescriptionResolver.resolveDescription(constraint2)).willReturn("Charlie");
+		Map<String, List<String>> descriptions = new ConstraintDescriptions(Bean.class, resolver,
+				this.constraintDescriptionResolver)
+			.descriptionsForAllProperties();
+		assertThat(descriptions).containsOnlyKeys("alpha", "charlie");
+		assertThat(descriptions.get("alpha")).containsExactly("Alpha");
+		assertThat(descriptions.get("charlie")).containsExactly("Charlie");
+	}
+
+	@Test
+	void descriptionsForPropertyCanBeModifiedWithoutAffectingLaterCalls() {
+		given(this.constraintResolver.resolveForProperty("foo", Constrained.class))
+			.willReturn(Collections.<Constraint>emptyList());
+		this.constraintDescriptions.descriptionsForProperty("foo").add("Alpha");
+		assertThat(this.constraintDescriptions.descriptionsForProperty("foo")).isEmpty();
+	}
+
 	private static final class Constrained {
 
 	}
 
+	static class Bean {
+
+		private final String alpha = "a";
+
+		private String bravo;
+
+		public String getBravo() {
+			return this.bravo;
+		}
+
+		public String getCharlie() {
+			return "c";
+		}
+
+	}
+
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.constraints;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import jakarta.validation.constraints.Pattern;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.util.ObjectUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link ConstraintMetadataProcessor} and {@link MetadataConstraintResolver}.
+ *
+ * @author Andy Wilkinson
+ */
+class ConstraintMetadataProcessorTests {
+
+	@TempDir
+	Path temp;
+
+	@Test
+	void metadataProducesSameDescriptionsAsValidator() throws Exception {
+		Class<?> constrained = compileConstrained();
+		ConstraintDescriptions fromMetadata = new ConstraintDescriptions(constrained,
+				new MetadataConstraintResolver());
+		ConstraintDescriptions fromValidator = new ConstraintDescriptions(constrained,
+				new ValidatorConstraintResolver());
+		for (String property : Arrays.asList("name", "code", "amount", "repeated", "none", "range", "inherited")) {
+			assertThat(fromMetadata.descriptionsForProperty(property)).as(property)
+				.isEqualTo(fromValidator.descriptionsForProperty(property));
+		}
+		assertThat(fromMetadata.descriptionsForProperty("name")).containsExactly("Must not be null",
+				"Size must be between 2 and 16 inclusive");
+	}
+
+	@Test
+	void metadataResolvesSameConstraintsAsValidator() throws Exception {
+		Class<?> constrained = compileConstrained();
+		Map<String, List<Constraint>> fromMetadata = new MetadataConstraintResolver()
+			.resolveForAllProperties(constrained);
+		Map<String, List<Constraint>> fromValidator = new ValidatorConstraintResolver()
+			.resolveForAllProperties(constrained);
+		assertThat(fromMetadata).containsOnlyKeys(fromValidator.keySet());
+		fromValidator.forEach((property, constraints) -> assertThat(describe(fromMetadata.get(property)))
+			.as(property)
+			.containsExactlyInAnyOrderElementsOf(describe(constraints)));
+		Constraint grouped = fromMetadata.get("repeated")
+			.stream()
+			.filter((constraint) -> ((Class<?>[]) constraint.getConfiguration().get("groups")).length > 0)
+			.findFirst()
+			.get();
+		assertThat((Class<?>[]) grouped.getConfiguration().get("groups"))
+			.containsExactly(constrained.getClassLoader().loadClass("example.Constrained$Group"));
+		assertThat((Object[]) fromMetadata.get("code").get(0).getConfiguration().get("flags"))
+			.containsExactly(Pattern.Flag.CASE_INSENSITIVE);
+	}
+
+	@Test
+	void metadataIsUsedByDefaultWhenAvailable() throws Exception {
+		Class<?> constrained = compile("example.Defaulted", """
+				package example;
+
+				import jakarta.validation.constraints.NotNull;
+				import org.springframework.restdocs.constraints.GenerateConstraintMetadata;
+
+				@GenerateConstraintMetadata
+				public class Defaulted {
+
+					@NotNull
+					private String name;
+
+				}
+				""");
+		assertThat(MetadataConstraintResolver.hasMetadata(constrained)).isTrue();
+		assertThat(new ConstraintDescriptions(constrained)).extracting("constraintResolver")
+			.isInstanceOf(MetadataConstraintResolver.class);
+		assertThat(new ConstraintDescriptions(constrained).descriptionsForProperty("name"))
+			.containsExactly("Must not be null");
+	}
+
+	@Test
+	void classWithoutMetadata() {
+		assertThat(MetadataConstraintResolver.hasMetadata(Unprocessed.class)).isFalse();
+		assertThat(new ConstraintDescriptions(Unprocessed.class)).extracting("constraintResolver")
+			.isInstanceOf(ValidatorConstraintResolver.class);
+		assertThatIllegalStateException()
+			.isThrownBy(() -> new MetadataConstraintResolver().resolveForProperty("name", Unprocessed.class))
+			.withMessageContaining(Unprocessed.class.getName());
+	}
+
+	private Class<?> compileConstrained() throws IOException, ClassNotFoundException {
+		return compile("example.Constrained", """
+				package example;
+
+				import jakarta.validation.constraints.*;
+				import org.hibernate.validator.constraints.Range;
+				import org.springframework.restdocs.constraints.GenerateConstraintMetadata;
+
+				@GenerateConstraintMetadata
+				public class Constrained extends Base {
+
+					@NotNull
+					@Size(min = 2, max = 16)
+					private String name;
+
+					@Pattern(regexp = "[a-z]+, [0-9]+", flags = Pattern.Flag.CASE_INSENSITIVE)
+					private String code;
+
+					@DecimalMin(value = "1.5", inclusive = false)
+					@Digits(integer = 4, fraction = 2)
+					private java.math.BigDecimal amount;
+
+					@Min(1)
+					@Min(value = 2, groups = Group.class)
+					private int repeated;
+
+					private String none;
+
+					@Range(min = 1, max = 10)
+					public int getRange() {
+						return 5;
+					}
+
+					public interface Group {
+
+					}
+
+				}
+
+				class Base {
+
+					@NotBlank
+					String inherited;
+
+				}
+				""");
+	}
+
+	private List<String> describe(List<Constraint> constraints) {
+		return constraints.stream()
+			.map((constraint) -> constraint.getName() + new TreeMap<>(constraint.getConfiguration()).entrySet()
+				.stream()
+				.map((entry) -> entry.getKey() + "=" + entry.getValue().getClass().getName() + ":"
+						+ ObjectUtils.nullSafeToString(entry.getValue()))
+				.toList())
+			.toList();
+	}
+
+	private Class<?> compile(String className, String source) throws IOException, ClassNotFoundException {
+		Path sourceFile = this.temp.resolve("src").resolve(className.replace('.', '/') + ".java");
+		Files.createDirectories(sourceFile.getParent());
+		Files.writeString(sourceFile, source);
+		Path output = Files.createDirectories(this.temp.resolve("classes"));
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+			List<String> options = Arrays.asList("-d", output.toString(), "-classpath",
+					System.getProperty("java.class.path"));
+			CompilationTask task = compiler.getTask(null, fileManager, null, options, null,
+					fileManager.getJavaFileObjects(sourceFile));
+			task.setProcessors(List.of(new ConstraintMetadataProcessor()));
+			assertThat(task.call()).isTrue();
+		}
+		URLClassLoader classLoader = new URLClassLoader(new URL[] { output.toUri().toURL() },
+				getClass().getClassLoader());
+		return classLoader.loadClass(className);
+	}
+
+	static class Unprocessed {
+
+		@SuppressWarnings("unused")
+		private String name;
+
+	}
+
+}
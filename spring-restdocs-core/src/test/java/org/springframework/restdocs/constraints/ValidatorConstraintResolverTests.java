@@ -75,6 +75,15 @@ class ValidatorConstraintResolverTests {
 		assertThat(constraints).hasSize(1);
 	}
 
+	@Test
+	void allPropertyConstraints() {
+		Map<String, List<Constraint>> constraints = this.resolver.resolveForAllProperties(ConstrainedFields.class);
+		assertThat(constraints).containsOnlyKeys("composite", "multiple", "single");
+		assertThat(constraints.get("single")).singleElement().is(constraint(NotNull.class));
+		assertThat(constraints.get("multiple")).hasSize(2);
+		assertThat(constraints.get("composite")).hasSize(1);
+	}
+
 	private ConstraintCondition constraint(final Class<? extends Annotation> annotation) {
 		return new ConstraintCondition(annotation);
 	}
@@ -22,6 +22,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
+import org.springframework.restdocs.snippet.BinaryContentPolicy;
 import org.springframework.restdocs.testfixtures.jupiter.AssertableSnippets;
 import org.springframework.restdocs.testfixtures.jupiter.OperationBuilder;
 import org.springframework.restdocs.testfixtures.jupiter.RenderedSnippetTest;
@@ -84,6 +85,20 @@ class HttpResponseSnippetTests {
 			.header(HttpHeaders.CONTENT_LENGTH, contentBytes.length));
 	}
 
+	@RenderedSnippetTest
+	void responseWithBinaryContent(OperationBuilder operationBuilder, AssertableSnippets snippets)
+			throws IOException {
+		operationBuilder.attribute(BinaryContentPolicy.ATTRIBUTE_NAME,
+				BinaryContentPolicy.defaultPolicy().withBinaryMediaTypes(MediaType.IMAGE_PNG));
+		new HttpResponseSnippet().document(operationBuilder.response()
+			.header(HttpHeaders.CONTENT_TYPE, MediaType.IMAGE_PNG_VALUE)
+			.content("some content")
+			.build());
+		assertThat(snippets.httpResponse()).contains("<binary content: 12 bytes, SHA-256 "
+				+ "290f493c44f5d63d06b374d0a5abd292fae38b92cab2fae5efefe1b0e9347f56>")
+			.doesNotContain("some content");
+	}
+
 	@RenderedSnippetTest
 	@SnippetTemplate(snippet = "http-response", template = "http-response-with-title")
 	void responseWithCustomSnippetAttributes(OperationBuilder operationBuilder, AssertableSnippets snippets)
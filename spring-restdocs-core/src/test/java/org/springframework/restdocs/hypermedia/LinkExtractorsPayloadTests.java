@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -29,13 +30,17 @@ import org.junit.jupiter.params.ParameterizedClass;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.restdocs.operation.Operation;
+import org.springframework.restdocs.operation.OperationRequest;
 import org.springframework.restdocs.operation.OperationResponse;
 import org.springframework.restdocs.operation.OperationResponseFactory;
+import org.springframework.restdocs.operation.StandardOperation;
 import org.springframework.util.FileCopyUtils;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 
 /**
  * Tests for {@link HalLinkExtractor} and {@link AtomLinkExtractor} with various payloads.
@@ -95,6 +100,24 @@ class LinkExtractorsPayloadTests {
 		assertLinks(Collections.<Link>emptyList(), links);
 	}
 
+	@Test
+	void linksAmongOtherContent() throws IOException {
+		Map<String, List<Link>> links = this.linkExtractor.extractLinks(createResponse("links-among-other-content"));
+		assertLinks(Arrays.asList(new Link("alpha", "https://alpha.example.com", "Alpha")), links);
+	}
+
+	@Test
+	void linksAreExtractedOncePerOperation() throws IOException {
+		OperationResponse response = createResponse("single-link");
+		Operation operation = new StandardOperation("test", mock(OperationRequest.class), response, new HashMap<>());
+		Map<String, List<Link>> links = this.linkExtractor.extractLinks(operation);
+		assertThat(this.linkExtractor.extractLinks(operation)).isSameAs(links);
+		assertThat(this.linkExtractor.extractLinks(new StandardOperation("test", mock(OperationRequest.class),
+				createResponse("single-link"), new HashMap<>())))
+			.isNotSameAs(links)
+			.isEqualTo(links);
+	}
+
 	private void assertLinks(List<Link> expectedLinks, Map<String, List<Link>> actualLinks) {
 		MultiValueMap<String, Link> expectedLinksByRel = new LinkedMultiValueMap<>();
 		for (Link expectedLink : expectedLinks) {
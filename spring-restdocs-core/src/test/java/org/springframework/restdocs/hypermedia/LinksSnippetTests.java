@@ -19,6 +19,11 @@ package org.springframework.restdocs.hypermedia;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
+
+import org.springframework.restdocs.json.JsonCodec;
+import org.springframework.restdocs.json.JsonCodecException;
+import org.springframework.restdocs.snippet.ModelCreationException;
 
 import org.springframework.restdocs.snippet.SnippetException;
 import org.springframework.restdocs.testfixtures.jupiter.AssertableSnippets;
@@ -29,6 +34,8 @@ import org.springframework.restdocs.testfixtures.jupiter.SnippetTest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 import static org.springframework.restdocs.snippet.Attributes.attributes;
 import static org.springframework.restdocs.snippet.Attributes.key;
 
@@ -178,4 +185,27 @@ class LinksSnippetTests {
 					+ " from the link in the payload");
 	}
 
+	@SnippetTest
+	void malformedContentCausesModelCreationFailure(OperationBuilder operationBuilder) {
+		assertThatExceptionOfType(ModelCreationException.class)
+			.isThrownBy(() -> new LinksSnippet(new HalLinkExtractor(), Collections.<LinkDescriptor>emptyList())
+				.document(operationBuilder.response().content("{\"_links\":").build()))
+			.withCauseInstanceOf(JsonCodecException.class);
+	}
+
+	@RenderedSnippetTest
+	void configuredJsonCodecIsUsedToExtractLinks(OperationBuilder operationBuilder, AssertableSnippets snippets)
+			throws IOException {
+		JsonCodec jsonCodec = mock(JsonCodec.class);
+		byte[] content = "{}".getBytes();
+		given(jsonCodec.readField(content, "_links")).willReturn(Map.of("a", Map.of("href", "alpha")));
+		new LinksSnippet(new HalLinkExtractor(), Arrays.asList(new LinkDescriptor("a").description("Link a")))
+			.document(operationBuilder.attribute(JsonCodec.class.getName(), jsonCodec)
+				.response()
+				.content(content)
+				.build());
+		assertThat(snippets.links())
+			.isTable((table) -> table.withHeader("Relation", "Description").row("`a`", "Link a"));
+	}
+
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.json;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link JacksonJsonCodec}.
+ *
+ * @author Andy Wilkinson
+ */
+class JacksonJsonCodecTests {
+
+	private final JsonCodec codec = JsonCodec.jackson();
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void readProducesMutableMapsAndLists() {
+		Object content = this.codec.read("{\"a\":[1,{\"b\":\"c\"}]}".getBytes());
+		assertThat(content).isInstanceOf(Map.class);
+		Map<String, Object> map = (Map<String, Object>) content;
+		List<Object> list = (List<Object>) map.get("a");
+		assertThat(list).hasSize(2);
+		list.remove(0);
+		map.put("d", true);
+		assertThat(map).containsEntry("d", true);
+	}
+
+	@Test
+	void readInvalidContent() {
+		assertThatExceptionOfType(JsonCodecException.class).isThrownBy(() -> this.codec.read("{\"a\":".getBytes()));
+	}
+
+	@Test
+	void readField() {
+		Object value = this.codec.readField("{\"a\":{\"b\":[1,2]},\"c\":{\"d\":\"e\"}}".getBytes(), "c");
+		assertThat(value).isEqualTo(Map.of("d", "e"));
+	}
+
+	@Test
+	void readFieldThatIsNotPresent() {
+		assertThat(this.codec.readField("{\"a\":{\"b\":[1,2]}}".getBytes(), "c")).isNull();
+	}
+
+	@Test
+	void readFieldDoesNotReadContentThatFollowsTheField() {
+		assertThat(this.codec.readField("{\"a\":1,\"b\":".getBytes(), "a")).isEqualTo(1);
+	}
+
+	@Test
+	void readFieldFromContentThatIsNotAnObject() {
+		assertThatExceptionOfType(JsonCodecException.class)
+			.isThrownBy(() -> this.codec.readField("[{\"a\":1}]".getBytes(), "a"))
+			.withMessage("Content is not a JSON object");
+	}
+
+	@Test
+	void write() {
+		assertThat(new String(this.codec.write(Map.of("a", Arrays.asList(1, 2)), false))).isEqualTo("{\"a\":[1,2]}");
+	}
+
+	@Test
+	void writePrettyPrinted() {
+		assertThat(new String(this.codec.write(Map.of("a", 5), true))).isEqualTo(String.format("{%n  \"a\" : 5%n}"));
+	}
+
+	@Test
+	void writeNull() {
+		assertThat(new String(this.codec.write(null, false))).isEqualTo("null");
+	}
+
+	@Test
+	void prettyPrintMatchesPrettyPrintedWrite() {
+		byte[] content = "{\"a\":[1,2.5,12345678901,true,null],\"b\":{\"c\":\"d\"}}".getBytes();
+		assertThat(this.codec.prettyPrint(content)).isEqualTo(this.codec.write(this.codec.read(content), true));
+	}
+
+	@Test
+	void prettyPrintContentWithMultipleRootValues() {
+		assertThatExceptionOfType(JsonCodecException.class)
+			.isThrownBy(() -> this.codec.prettyPrint("{\"a\":1}{\"b\":2}".getBytes()));
+	}
+
+	@Test
+	void prettyPrintEmptyContent() {
+		assertThatExceptionOfType(JsonCodecException.class).isThrownBy(() -> this.codec.prettyPrint(new byte[0]));
+	}
+
+	@Test
+	void elideMatchesDefaultElision() {
+		byte[] content = "{\"a\":[1,{\"b\":\"abcdef\"},3,4],\"c\":[\"ghijkl\"],\"d\":{\"e\":[5,6]}}".getBytes();
+		JsonCodec defaultElision = new JsonCodec() {
+
+			@Override
+			public Object read(byte[] json) {
+				return JacksonJsonCodecTests.this.codec.read(json);
+			}
+
+			@Override
+			public byte[] write(Object value, boolean prettyPrint) {
+				return JacksonJsonCodecTests.this.codec.write(value, prettyPrint);
+			}
+
+		};
+		byte[] elided = this.codec.elide(content, 2, 3, "<more>", "~");
+		assertThat(new String(elided))
+			.isEqualTo("{\"a\":[1,{\"b\":\"abc~\"},\"<more>\"],\"c\":[\"ghi~\"],\"d\":{\"e\":[5,6]}}");
+		assertThat(defaultElision.elide(content, 2, 3, "<more>", "~")).isEqualTo(elided);
+	}
+
+	@Test
+	void elideContentThatDoesNotRequireElision() {
+		byte[] content = "{ \"a\" : [ 1, 2 ] }".getBytes();
+		assertThat(this.codec.elide(content, 2, 3, "...", "...")).isSameAs(content);
+	}
+
+	@Test
+	void elideContentWithMultipleRootValues() {
+		assertThatExceptionOfType(JsonCodecException.class)
+			.isThrownBy(() -> this.codec.elide("[1,2]\"abc\"".getBytes(), 1, 1, "...", "..."));
+	}
+
+	@Test
+	void customJsonMapperIsUsed() {
+		JsonMapper jsonMapper = JsonMapper.builder().enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS).build();
+		Map<String, Object> value = new LinkedHashMap<>();
+		value.put("b", 2);
+		value.put("a", 1);
+		assertThat(new String(JsonCodec.jackson(jsonMapper).write(value, false))).isEqualTo("{\"a\":1,\"b\":2}");
+		assertThat(new String(JsonCodec.jackson(jsonMapper).write(value, true)))
+			.isEqualTo(String.format("{%n  \"a\" : 1,%n  \"b\" : 2%n}"));
+	}
+
+}
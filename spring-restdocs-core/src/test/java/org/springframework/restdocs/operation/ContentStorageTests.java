@@ -0,0 +1,178 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ContentStorage}.
+ *
+ * @author Andy Wilkinson
+ */
+class ContentStorageTests {
+
+	@TempDir
+	Path temp;
+
+	@Test
+	void contentAtOrBelowThresholdIsNotStored() throws IOException {
+		OperationResponse response = response(new byte[4]);
+		try (ContentStorage.Session session = ContentStorage.spillToDisk(4, this.temp).open()) {
+			assertThat(session.store(response)).isSameAs(response);
+			assertThat(files()).isEmpty();
+		}
+	}
+
+	@Test
+	void responseContentAboveThresholdIsStoredInAFile() throws IOException {
+		byte[] content = content(16);
+		try (ContentStorage.Session session = ContentStorage.spillToDisk(4, this.temp).open()) {
+			OperationResponse stored = session.store(response(content));
+			assertThat(files()).hasSize(1);
+			assertThat(stored.getContent()).isEqualTo(content);
+			assertThat(stored.getStatus()).isEqualTo(HttpStatus.OK);
+			assertThat(stored.getHeaders().getContentLength()).isEqualTo(16);
+			ByteBuffer buffer = stored.getContentAsByteBuffer();
+			assertThat(buffer.isReadOnly()).isTrue();
+			assertThat(buffer.remaining()).isEqualTo(16);
+		}
+	}
+
+	@Test
+	void requestAndPartContentAboveThresholdIsStoredInFiles() throws IOException {
+		byte[] content = content(16);
+		OperationRequestPart smallPart = new OperationRequestPartFactory().create("small", null, new byte[2],
+				new HttpHeaders());
+		OperationRequestPart largePart = new OperationRequestPartFactory().create("large", "large.bin", content,
+				new HttpHeaders());
+		OperationRequest request = new OperationRequestFactory().create(URI.create("http://localhost"),
+				HttpMethod.POST, content, new HttpHeaders(), Arrays.asList(smallPart, largePart));
+		try (ContentStorage.Session session = ContentStorage.spillToDisk(4, this.temp).open()) {
+			OperationRequest stored = session.store(request);
+			assertThat(files()).hasSize(2);
+			assertThat(stored.getContent()).isEqualTo(content);
+			List<OperationRequestPart> parts = new ArrayList<>(stored.getParts());
+			assertThat(parts).hasSize(2);
+			assertThat(parts.get(0)).isSameAs(smallPart);
+			OperationRequestPart storedPart = parts.get(1);
+			assertThat(storedPart.getName()).isEqualTo("large");
+			assertThat(storedPart.getSubmittedFileName()).isEqualTo("large.bin");
+			assertThat(storedPart.getContent()).isEqualTo(content);
+		}
+	}
+
+	@Test
+	void filesAreDeletedWhenSessionIsClosed() throws IOException {
+		ContentStorage.Session session = ContentStorage.spillToDisk(4, this.temp).open();
+		session.store(response(content(16)));
+		assertThat(files()).hasSize(1);
+		session.close();
+		assertThat(files()).isEmpty();
+	}
+
+	@Test
+	void storedContentIsNotCopiedWhenCreatingAResponse() throws IOException {
+		byte[] content = content(16);
+		try (ContentStorage.Session session = ContentStorage.spillToDisk(4, this.temp).open()) {
+			ByteBuffer buffer = session.store(content);
+			assertThat(files()).hasSize(1);
+			OperationResponse response = new OperationResponseFactory().createFromBuffer(HttpStatus.OK,
+					new HttpHeaders(), buffer, Collections.emptyList());
+			assertThat(session.store(response)).isSameAs(response);
+			assertThat(files()).hasSize(1);
+			assertThat(response.getContent()).isEqualTo(content);
+			assertThat(response.getHeaders().getContentLength()).isEqualTo(16);
+		}
+	}
+
+	@Test
+	void contentReadFromAnInputStreamAboveThresholdIsStoredInAFile() throws IOException {
+		byte[] content = content(16);
+		try (ContentStorage.Session session = ContentStorage.spillToDisk(4, this.temp).open()) {
+			ByteBuffer buffer = session.store(new ByteArrayInputStream(content));
+			assertThat(files()).hasSize(1);
+			assertThat(buffer.isReadOnly()).isTrue();
+			byte[] stored = new byte[buffer.remaining()];
+			buffer.get(stored);
+			assertThat(stored).isEqualTo(content);
+		}
+	}
+
+	@Test
+	void contentReadFromAnInputStreamAtOrBelowThresholdIsNotStored() throws IOException {
+		byte[] content = content(4);
+		try (ContentStorage.Session session = ContentStorage.spillToDisk(4, this.temp).open()) {
+			ByteBuffer buffer = session.store(new ByteArrayInputStream(content));
+			assertThat(files()).isEmpty();
+			assertThat(buffer.array()).isEqualTo(content);
+		}
+	}
+
+	@Test
+	void contentStoredInAFileIsDecodedUsingTheContentTypeCharset() throws IOException {
+		String text = "Grüße, Straße";
+		byte[] content = text.getBytes(StandardCharsets.ISO_8859_1);
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.ISO_8859_1));
+		try (ContentStorage.Session session = ContentStorage.spillToDisk(4, this.temp).open()) {
+			OperationResponse response = new OperationResponseFactory().createFromBuffer(HttpStatus.OK, headers,
+					session.store(content), Collections.emptyList());
+			assertThat(response.getContentAsString()).isEqualTo(text);
+		}
+	}
+
+	private OperationResponse response(byte[] content) {
+		return new OperationResponseFactory().create(HttpStatus.OK, new HttpHeaders(), content,
+				Collections.emptyList());
+	}
+
+	private byte[] content(int length) {
+		byte[] content = new byte[length];
+		for (int i = 0; i < length; i++) {
+			content[i] = (byte) i;
+		}
+		return content;
+	}
+
+	private List<Path> files() throws IOException {
+		try (Stream<Path> files = Files.list(this.temp)) {
+			return files.toList();
+		}
+	}
+
+}
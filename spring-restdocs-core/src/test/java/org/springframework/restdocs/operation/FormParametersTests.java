@@ -0,0 +1,84 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link FormParameters}.
+ *
+ * @author Andy Wilkinson
+ */
+class FormParametersTests {
+
+	@Test
+	void noContent() {
+		assertThat(FormParameters.from(request(new byte[0], MediaType.APPLICATION_FORM_URLENCODED))).isEmpty();
+	}
+
+	@Test
+	void multipleParameters() {
+		FormParameters parameters = FormParameters.from(request("a=alpha&b=bravo&a=apple&c".getBytes(),
+				MediaType.APPLICATION_FORM_URLENCODED));
+		assertThat(parameters).containsOnlyKeys("a", "b", "c");
+		assertThat(parameters.get("a")).containsExactly("alpha", "apple");
+		assertThat(parameters.get("b")).containsExactly("bravo");
+		assertThat(parameters.get("c")).containsExactly("");
+	}
+
+	@Test
+	void encodedParameters() {
+		FormParameters parameters = FormParameters.from(request("a%20b=%E3%81%82+c".getBytes(),
+				MediaType.APPLICATION_FORM_URLENCODED));
+		assertThat(parameters.get("a b")).containsExactly("あ c");
+	}
+
+	@Test
+	void contentInCharsetThatIsNotCompatibleWithAscii() {
+		MediaType contentType = new MediaType(MediaType.APPLICATION_FORM_URLENCODED, StandardCharsets.UTF_16);
+		FormParameters parameters = FormParameters
+			.from(request("a=alpha&b=bravo".getBytes(StandardCharsets.UTF_16), contentType));
+		assertThat(parameters.get("a")).containsExactly("alpha");
+		assertThat(parameters.get("b")).containsExactly("bravo");
+	}
+
+	@Test
+	void malformedParameter() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> FormParameters.from(request("a=b&=".getBytes(), MediaType.APPLICATION_FORM_URLENCODED)))
+			.withMessage("The parameter '=' is malformed");
+	}
+
+	private OperationRequest request(byte[] content, MediaType contentType) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(contentType);
+		return new OperationRequestFactory().create(URI.create("http://localhost"), HttpMethod.POST, content, headers,
+				Collections.emptyList());
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation;
+
+import java.net.URI;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link QueryParameters}.
+ *
+ * @author Andy Wilkinson
+ */
+class QueryParametersTests {
+
+	@Test
+	void noQueryString() {
+		assertThat(QueryParameters.from(request("http://localhost"))).isEmpty();
+	}
+
+	@Test
+	void multipleParameters() {
+		QueryParameters parameters = QueryParameters.from(request("http://localhost?a=alpha&b=bravo&a=apple"));
+		assertThat(parameters).containsOnlyKeys("a", "b");
+		assertThat(parameters.get("a")).containsExactly("alpha", "apple");
+		assertThat(parameters.get("b")).containsExactly("bravo");
+	}
+
+	@Test
+	void parameterWithoutValue() {
+		QueryParameters parameters = QueryParameters.from(request("http://localhost?a&b=&c=="));
+		assertThat(parameters.get("a")).containsExactly("");
+		assertThat(parameters.get("b")).containsExactly("");
+		assertThat(parameters.get("c")).containsExactly("");
+	}
+
+	@Test
+	void emptyParametersAreIgnored() {
+		QueryParameters parameters = QueryParameters.from(request("http://localhost?&a=alpha&&b=bravo&"));
+		assertThat(parameters).containsOnlyKeys("a", "b");
+	}
+
+	@Test
+	void namesAndValuesAreDecoded() {
+		QueryParameters parameters = QueryParameters.from(request("http://localhost?a%5B%5D=b+c%21&d%20e"));
+		assertThat(parameters.get("a[]")).containsExactly("b c!");
+		assertThat(parameters.get("d e")).containsExactly("");
+	}
+
+	@Test
+	void malformedParameter() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> QueryParameters.from(request("http://localhost?a=alpha=apple")))
+			.withMessage("The parameter 'a=alpha=apple' is malformed");
+	}
+
+	private OperationRequest request(String uri) {
+		return new OperationRequestFactory().create(URI.create(uri), HttpMethod.GET, null, new HttpHeaders(),
+				Collections.emptyList());
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link SerializedOperationRequest}.
+ *
+ * @author Andy Wilkinson
+ */
+class SerializedOperationRequestTests {
+
+	@Test
+	void sameViewIsReturnedForTheSameOperation() {
+		Operation operation = operation(request("content"));
+		assertThat(SerializedOperationRequest.of(operation)).isSameAs(SerializedOperationRequest.of(operation));
+	}
+
+	@Test
+	void newViewIsCreatedWhenAttributesAreSharedWithAnotherRequest() {
+		Operation operation = operation(request("one"));
+		Operation other = new StandardOperation("other", request("two"), operation.getResponse(),
+				operation.getAttributes());
+		SerializedOperationRequest serialized = SerializedOperationRequest.of(operation);
+		SerializedOperationRequest otherSerialized = SerializedOperationRequest.of(other);
+		assertThat(otherSerialized).isNotSameAs(serialized);
+		assertThat(otherSerialized.getContentAsString()).isEqualTo("two");
+	}
+
+	@Test
+	void contentIsConvertedToAStringOnce() {
+		OperationRequest request = mock(OperationRequest.class);
+		given(request.getHeaders()).willReturn(new HttpHeaders());
+		given(request.getParts()).willReturn(Collections.emptyList());
+		given(request.getContentAsString()).willReturn("content");
+		SerializedOperationRequest serialized = SerializedOperationRequest.of(operation(request));
+		assertThat(serialized.getContentAsString()).isEqualTo("content");
+		assertThat(serialized.hasContent()).isTrue();
+		assertThat(serialized.getContentAsString()).isEqualTo("content");
+		verify(request, times(1)).getContentAsString();
+	}
+
+	@Test
+	void contentTypeIsParsedFromHeaders() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		OperationRequest request = new OperationRequestFactory().create(URI.create("http://localhost"),
+				HttpMethod.POST, "{}".getBytes(), headers, Collections.emptyList());
+		assertThat(SerializedOperationRequest.of(operation(request)).getContentType())
+			.isEqualTo(MediaType.APPLICATION_JSON);
+	}
+
+	@Test
+	void requestWithoutContentHasNoContent() {
+		SerializedOperationRequest serialized = SerializedOperationRequest.of(operation(request("")));
+		assertThat(serialized.hasContent()).isFalse();
+		assertThat(serialized.getContentType()).isNull();
+	}
+
+	@Test
+	void parametersAreParsedOnce() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+		OperationRequest request = new OperationRequestFactory().create(URI.create("http://localhost?a=alpha"),
+				HttpMethod.POST, "b=bravo".getBytes(), headers, Collections.emptyList());
+		SerializedOperationRequest serialized = SerializedOperationRequest.of(operation(request));
+		assertThat(serialized.getQueryParameters()).containsOnlyKeys("a")
+			.isSameAs(serialized.getQueryParameters());
+		assertThat(serialized.getFormParameters()).containsOnlyKeys("b").isSameAs(serialized.getFormParameters());
+	}
+
+	@Test
+	void parametersCannotBeModified() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+		OperationRequest request = new OperationRequestFactory().create(URI.create("http://localhost?a=alpha"),
+				HttpMethod.POST, "b=bravo".getBytes(), headers, Collections.emptyList());
+		SerializedOperationRequest serialized = SerializedOperationRequest.of(operation(request));
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+			.isThrownBy(() -> serialized.getQueryParameters().add("c", "charlie"));
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+			.isThrownBy(() -> serialized.getFormParameters().get("b").add("charlie"));
+	}
+
+	private OperationRequest request(String content) {
+		return new OperationRequestFactory().create(URI.create("http://localhost"), HttpMethod.POST,
+				content.getBytes(), new HttpHeaders(), Collections.emptyList());
+	}
+
+	private Operation operation(OperationRequest request) {
+		return new StandardOperation("test", request, new OperationResponseFactory().create(HttpStatus.OK, null, null),
+				new HashMap<>());
+	}
+
+}
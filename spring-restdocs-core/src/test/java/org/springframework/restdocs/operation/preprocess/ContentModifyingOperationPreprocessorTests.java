@@ -81,4 +81,20 @@ class ContentModifyingOperationPreprocessorTests {
 		assertThat(preprocessed.getHeaders().getContentLength()).isEqualTo(8L);
 	}
 
+	@Test
+	void requestIsUnchangedWhenContentIsNotModified() {
+		OperationRequest request = this.requestFactory.create(URI.create("http://localhost"), HttpMethod.GET,
+				"content".getBytes(), new HttpHeaders(), Collections.<OperationRequestPart>emptyList());
+		assertThat(new ContentModifyingOperationPreprocessor((content, contentType) -> content).preprocess(request))
+			.isSameAs(request);
+	}
+
+	@Test
+	void responseIsUnchangedWhenContentIsNotModified() {
+		OperationResponse response = this.responseFactory.create(HttpStatus.OK, new HttpHeaders(),
+				"content".getBytes());
+		assertThat(new ContentModifyingOperationPreprocessor((content, contentType) -> content).preprocess(response))
+			.isSameAs(response);
+	}
+
 }
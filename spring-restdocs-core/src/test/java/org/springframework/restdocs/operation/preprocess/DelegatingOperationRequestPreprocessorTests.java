@@ -16,13 +16,25 @@
 
 package org.springframework.restdocs.operation.preprocess;
 
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.regex.Pattern;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.restdocs.operation.OperationRequest;
+import org.springframework.restdocs.operation.OperationRequestFactory;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
@@ -54,4 +66,26 @@ class DelegatingOperationRequestPreprocessorTests {
 		assertThat(result).isSameAs(preprocessedRequest3);
 	}
 
+	@Test
+	void flightRecorderEventsAreRecordedForEachDelegateAfterFusionWhenEnabled(@TempDir Path temp) throws IOException {
+		OperationRequest request = new OperationRequestFactory().create(URI.create("http://localhost"),
+				HttpMethod.POST, "content".getBytes(), new HttpHeaders(), null, Collections.emptyList());
+		Path dump = temp.resolve("recording.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("org.springframework.restdocs.OperationPreprocessing");
+			recording.start();
+			new DelegatingOperationRequestPreprocessor(
+					Arrays.asList(Preprocessors.replacePattern(Pattern.compile("content"), "modified"),
+							Preprocessors.modifyHeaders().remove("X-Test"), Preprocessors.modifyUris().port(8080)))
+				.preprocess("test", request);
+			recording.stop();
+			recording.dump(dump);
+		}
+		assertThat(RecordingFile.readAllEvents(dump))
+			.extracting((event) -> event.getString("operation"), (event) -> event.getString("message"),
+					(event) -> event.getClass("preprocessor").getName(), (event) -> event.getLong("contentLength"))
+			.containsExactly(tuple("test", "request", FusedOperationPreprocessor.class.getName(), 8L),
+					tuple("test", "request", UriModifyingOperationPreprocessor.class.getName(), 8L));
+	}
+
 }
@@ -16,13 +16,23 @@
 
 package org.springframework.restdocs.operation.preprocess;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.regex.Pattern;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.restdocs.operation.OperationResponse;
+import org.springframework.restdocs.operation.OperationResponseFactory;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
@@ -54,4 +64,26 @@ class DelegatingOperationResponsePreprocessorTests {
 		assertThat(result).isSameAs(preprocessedResponse3);
 	}
 
+	@Test
+	void flightRecorderEventsAreRecordedForEachDelegateAfterFusionWhenEnabled(@TempDir Path temp) throws IOException {
+		OperationResponse response = new OperationResponseFactory().create(HttpStatus.OK, new HttpHeaders(),
+				"content".getBytes());
+		Path dump = temp.resolve("recording.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("org.springframework.restdocs.OperationPreprocessing");
+			recording.start();
+			new DelegatingOperationResponsePreprocessor(
+					Arrays.asList(Preprocessors.replacePattern(Pattern.compile("content"), "modified"),
+							Preprocessors.modifyHeaders().remove("X-Test"), Preprocessors.modifyUris().port(8080)))
+				.preprocess("test", response);
+			recording.stop();
+			recording.dump(dump);
+		}
+		assertThat(RecordingFile.readAllEvents(dump))
+			.extracting((event) -> event.getString("operation"), (event) -> event.getString("message"),
+					(event) -> event.getClass("preprocessor").getName(), (event) -> event.getLong("contentLength"))
+			.containsExactly(tuple("test", "response", FusedOperationPreprocessor.class.getName(), 8L),
+					tuple("test", "response", UriModifyingOperationPreprocessor.class.getName(), 8L));
+	}
+
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation.preprocess;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.operation.OperationRequest;
+import org.springframework.restdocs.operation.OperationRequestFactory;
+import org.springframework.restdocs.operation.OperationRequestPart;
+import org.springframework.restdocs.operation.OperationResponse;
+import org.springframework.restdocs.operation.OperationResponseFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link FusedOperationPreprocessor}.
+ *
+ * @author Andy Wilkinson
+ */
+class FusedOperationPreprocessorTests {
+
+	private final OperationRequestFactory requestFactory = new OperationRequestFactory();
+
+	private final OperationResponseFactory responseFactory = new OperationResponseFactory();
+
+	@Test
+	void adjacentContentAndHeadersModifyingPreprocessorsAreFused() {
+		OperationPreprocessor other = mock(OperationPreprocessor.class);
+		List<OperationPreprocessor> fused = FusedOperationPreprocessor.fuse(Arrays.asList(Preprocessors.prettyPrint(),
+				Preprocessors.modifyHeaders().remove("a"), Preprocessors.maskLinks(), other,
+				Preprocessors.replacePattern(Pattern.compile("a"), "b"), Preprocessors.modifyUris()));
+		assertThat(fused).hasSize(4);
+		assertThat(fused.get(0)).isInstanceOf(FusedOperationPreprocessor.class);
+		assertThat(fused.get(1)).isSameAs(other);
+		assertThat(fused.get(2)).isInstanceOf(ContentModifyingOperationPreprocessor.class);
+		assertThat(fused.get(3)).isInstanceOf(UriModifyingOperationPreprocessor.class);
+	}
+
+	@Test
+	void subclassesAreNotFused() {
+		OperationPreprocessor subclass = new ContentModifyingOperationPreprocessor(
+				(content, contentType) -> content) {
+
+		};
+		List<OperationPreprocessor> preprocessors = Arrays.asList(Preprocessors.prettyPrint(), subclass);
+		assertThat(FusedOperationPreprocessor.fuse(preprocessors)).containsExactlyElementsOf(preprocessors);
+	}
+
+	@Test
+	void fusedRequestPreprocessingMatchesSequentialPreprocessing() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		headers.add("X-Remove", "alpha");
+		headers.add("X-Keep", "bravo");
+		OperationRequest request = this.requestFactory.create(URI.create("http://localhost"), HttpMethod.POST,
+				"{\"a\":\"alpha\",\"_links\":{\"self\":{\"href\":\"https://example.com\"}}}".getBytes(), headers,
+				Collections.<OperationRequestPart>emptyList());
+		List<OperationPreprocessor> preprocessors = Arrays.asList(Preprocessors.prettyPrint(),
+				Preprocessors.maskLinks(), Preprocessors.modifyHeaders().remove("X-Remove").add("X-Add", "charlie"),
+				Preprocessors.replacePattern(Pattern.compile("alpha"), "delta"));
+		OperationRequest sequential = request;
+		for (OperationPreprocessor preprocessor : preprocessors) {
+			sequential = preprocessor.preprocess(sequential);
+		}
+		OperationRequest fused = new DelegatingOperationRequestPreprocessor(preprocessors).preprocess(request);
+		assertThat(fused.getContentAsString()).isEqualTo(sequential.getContentAsString());
+		assertThat(fused.getHeaders().headerNames()).containsExactlyElementsOf(sequential.getHeaders().headerNames());
+		assertThat(fused.getHeaders().getContentLength()).isEqualTo(sequential.getHeaders().getContentLength())
+			.isEqualTo(fused.getContent().length);
+		assertThat(fused.getHeaders().get("X-Add")).containsExactly("charlie");
+		assertThat(fused.getHeaders().get("X-Remove")).isNull();
+	}
+
+	@Test
+	void contentModifiersUseContentTypeFromPrecedingHeadersModifier() {
+		OperationResponse response = this.responseFactory.create(HttpStatus.OK, new HttpHeaders(),
+				"content".getBytes());
+		OperationResponse preprocessed = new DelegatingOperationResponsePreprocessor(
+				Arrays.asList(Preprocessors.modifyHeaders().set(HttpHeaders.CONTENT_TYPE, "application/json"),
+						new ContentModifyingOperationPreprocessor(
+								(content, contentType) -> String.valueOf(contentType).getBytes())))
+			.preprocess(response);
+		assertThat(preprocessed.getContentAsString()).isEqualTo("application/json");
+		assertThat(preprocessed.getHeaders().getContentLength()).isEqualTo(preprocessed.getContent().length);
+	}
+
+	@Test
+	void contentLengthIsUpdatedBeforeHeadersAreModified() {
+		OperationResponse response = this.responseFactory.create(HttpStatus.OK, new HttpHeaders(),
+				"content".getBytes());
+		OperationResponse preprocessed = new DelegatingOperationResponsePreprocessor(Arrays.asList(
+				Preprocessors.replacePattern(Pattern.compile("content"), "modified content"),
+				Preprocessors.modifyHeaders().remove(HttpHeaders.CONTENT_LENGTH)))
+			.preprocess(response);
+		assertThat(preprocessed.getContentAsString()).isEqualTo("modified content");
+		assertThat(preprocessed.getHeaders().headerNames()).doesNotContain(HttpHeaders.CONTENT_LENGTH);
+	}
+
+	@Test
+	void responseIsUnchangedWhenNoPreprocessorModifiesIt() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		OperationResponse response = this.responseFactory.create(HttpStatus.OK, headers, "{}".getBytes());
+		OperationResponse preprocessed = new DelegatingOperationResponsePreprocessor(
+				Arrays.asList(Preprocessors.maskLinks(), Preprocessors.modifyHeaders().remove("X-Absent"),
+						Preprocessors.replacePattern(Pattern.compile("[0-9]+"), "<<number>>")))
+			.preprocess(response);
+		assertThat(preprocessed).isSameAs(response);
+	}
+
+}
@@ -150,6 +150,38 @@ class HeadersModifyingOperationPreprocessorTests {
 			.containsOnly("bravo");
 	}
 
+	@Test
+	void removeHeadersByMultipleNamePatterns() {
+		Consumer<HttpHeaders> headersCustomizer = (headers) -> {
+			headers.add("apple", "apple");
+			headers.add("bravo", "bravo");
+			headers.add("charlie", "charlie");
+		};
+		this.preprocessor.removeMatching("^a.*").removeMatching("^c.*");
+		assertThat(this.preprocessor.preprocess(createResponse(headersCustomizer)).getHeaders().headerNames())
+			.containsOnly("bravo");
+	}
+
+	@Test
+	void requestIsUnchangedWhenNoModificationApplies() {
+		this.preprocessor.remove("a").remove("b", "bravo").removeMatching("^c.*").set("d", "delta");
+		OperationRequest request = createRequest((headers) -> {
+			headers.add("b", "banana");
+			headers.add("d", "delta");
+		});
+		assertThat(this.preprocessor.preprocess(request)).isSameAs(request);
+	}
+
+	@Test
+	void responseIsUnchangedWhenNoModificationApplies() {
+		this.preprocessor.remove("a").remove("b", "bravo").removeMatching("^c.*").set("d", "delta");
+		OperationResponse response = createResponse((headers) -> {
+			headers.add("b", "banana");
+			headers.add("d", "delta");
+		});
+		assertThat(this.preprocessor.preprocess(response)).isSameAs(response);
+	}
+
 	private OperationRequest createRequest() {
 		return createRequest(null);
 	}
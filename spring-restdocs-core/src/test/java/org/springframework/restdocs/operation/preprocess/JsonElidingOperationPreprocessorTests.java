@@ -0,0 +1,131 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation.preprocess;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.json.JsonCodec;
+import org.springframework.restdocs.operation.OperationResponse;
+import org.springframework.restdocs.operation.OperationResponseFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link JsonElidingOperationPreprocessor}.
+ *
+ * @author Andy Wilkinson
+ */
+class JsonElidingOperationPreprocessorTests {
+
+	private final OperationResponseFactory responseFactory = new OperationResponseFactory();
+
+	@Test
+	void arraysAreCutToMaximumNumberOfElements() {
+		assertThat(elide(new JsonElidingOperationPreprocessor().maxArrayElements(2), "{\"a\":[1,2,3,4]}"))
+			.isEqualTo("{\"a\":[1,2,\"...\"]}");
+	}
+
+	@Test
+	void elidedArrayElementsThatAreObjectsAreSkipped() {
+		assertThat(elide(new JsonElidingOperationPreprocessor().maxArrayElements(1),
+				"[{\"a\":[1,2]},{\"b\":{\"c\":[3]}},{\"d\":4}]"))
+			.isEqualTo("[{\"a\":[1,\"...\"]},\"...\"]");
+	}
+
+	@Test
+	void longStringsAreShortened() {
+		assertThat(elide(new JsonElidingOperationPreprocessor().maxStringLength(5),
+				"{\"a\":\"abcdefgh\",\"b\":\"abc\"}"))
+			.isEqualTo("{\"a\":\"abcde...\",\"b\":\"abc\"}");
+	}
+
+	@Test
+	void elisionMarkersCanBeCustomized() {
+		assertThat(elide(new JsonElidingOperationPreprocessor().maxArrayElements(1)
+			.maxStringLength(2)
+			.arrayElisionMarker("<more>")
+			.stringElisionMarker("~"), "[\"abc\",\"def\"]")).isEqualTo("[\"ab~\",\"<more>\"]");
+	}
+
+	@Test
+	void numbersArePreservedExactly() {
+		assertThat(elide(new JsonElidingOperationPreprocessor().maxArrayElements(2),
+				"[1.000000000000000000001,12345678901234567890,3]"))
+			.isEqualTo("[1.000000000000000000001,12345678901234567890,\"...\"]");
+	}
+
+	@Test
+	void contentThatDoesNotRequireElisionIsUnchanged() {
+		String content = "{ \"a\" : [ 1, 2 ] }";
+		assertThat(elide(new JsonElidingOperationPreprocessor(), content)).isEqualTo(content);
+	}
+
+	@Test
+	void nonJsonContentIsUnchanged() {
+		String content = "\"abc\",\"def\"";
+		assertThat(elide(new JsonElidingOperationPreprocessor().maxStringLength(1), content)).isEqualTo(content);
+	}
+
+	@Test
+	void contentWithNonJsonContentTypeIsUnchanged() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.TEXT_PLAIN);
+		OperationResponse response = this.responseFactory.create(HttpStatus.OK, headers, "[1,2,3,4]".getBytes());
+		assertThat(new JsonElidingOperationPreprocessor().maxArrayElements(1).preprocess(response).getContentAsString())
+			.isEqualTo("[1,2,3,4]");
+	}
+
+	@Test
+	void contentWithJsonSuffixContentTypeIsElided() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_PROBLEM_JSON);
+		OperationResponse response = this.responseFactory.create(HttpStatus.OK, headers, "[1,2,3,4]".getBytes());
+		assertThat(new JsonElidingOperationPreprocessor().maxArrayElements(1).preprocess(response).getContentAsString())
+			.isEqualTo("[1,\"...\"]");
+	}
+
+	@Test
+	void configuredJsonCodecIsUsed() {
+		JsonCodec jsonCodec = mock(JsonCodec.class);
+		given(jsonCodec.elide("[1,2]".getBytes(), 1, 256, "...", "...")).willReturn("[1]".getBytes());
+		assertThat(elide(new JsonElidingOperationPreprocessor(jsonCodec).maxArrayElements(1), "[1,2]"))
+			.isEqualTo("[1]");
+	}
+
+	@Test
+	void contentLengthIsUpdated() {
+		OperationResponse response = this.responseFactory.create(HttpStatus.OK, new HttpHeaders(),
+				"[1,2,3,4,5,6,7]".getBytes());
+		assertThat(response.getHeaders().getContentLength()).isEqualTo(15L);
+		OperationResponse preprocessed = new JsonElidingOperationPreprocessor().maxArrayElements(1)
+			.preprocess(response);
+		assertThat(preprocessed.getContent()).isEqualTo("[1,\"...\"]".getBytes());
+		assertThat(preprocessed.getHeaders().getContentLength()).isEqualTo(9L);
+	}
+
+	private String elide(JsonElidingOperationPreprocessor preprocessor, String content) {
+		OperationResponse response = this.responseFactory.create(HttpStatus.OK, new HttpHeaders(),
+				content.getBytes());
+		return preprocessor.preprocess(response).getContentAsString();
+	}
+
+}
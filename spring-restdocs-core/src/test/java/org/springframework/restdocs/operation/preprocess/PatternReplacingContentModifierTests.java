@@ -18,6 +18,8 @@ package org.springframework.restdocs.operation.preprocess;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Test;
@@ -72,4 +74,62 @@ class PatternReplacingContentModifierTests {
 			.isEqualTo((japaneseContent + " <<number>>").getBytes());
 	}
 
+	@Test
+	void multiplePatternsAreReplaced() {
+		PatternReplacingContentModifier contentModifier = new PatternReplacingContentModifier(
+				replacements(Pattern.compile("[0-9]+"), "<<number>>", Pattern.compile("token-[a-z]+"), "<<token>>"),
+				StandardCharsets.UTF_8);
+		assertThat(contentModifier.modifyContent("{\"id\":123,\"token\":\"token-abc\",\"count\":4}".getBytes(),
+				null))
+			.isEqualTo("{\"id\":<<number>>,\"token\":\"<<token>>\",\"count\":<<number>>}".getBytes());
+	}
+
+	@Test
+	void whenMultiplePatternsMatchAtTheSamePositionTheFirstIsReplaced() {
+		PatternReplacingContentModifier contentModifier = new PatternReplacingContentModifier(
+				replacements(Pattern.compile("ab"), "first", Pattern.compile("abc"), "second"), StandardCharsets.UTF_8);
+		assertThat(contentModifier.modifyContent("abcd".getBytes(), null)).isEqualTo("firstcd".getBytes());
+	}
+
+	@Test
+	void earliestMatchIsReplacedWhenPatternsOverlap() {
+		PatternReplacingContentModifier contentModifier = new PatternReplacingContentModifier(
+				replacements(Pattern.compile("bcd"), "first", Pattern.compile("abc"), "second"),
+				StandardCharsets.UTF_8);
+		assertThat(contentModifier.modifyContent("abcde".getBytes(), null)).isEqualTo("secondde".getBytes());
+	}
+
+	@Test
+	void replacementsAreNotMatchedAgain() {
+		PatternReplacingContentModifier contentModifier = new PatternReplacingContentModifier(
+				replacements(Pattern.compile("a"), "b", Pattern.compile("b"), "c"), StandardCharsets.UTF_8);
+		assertThat(contentModifier.modifyContent("ab".getBytes(), null)).isEqualTo("bc".getBytes());
+	}
+
+	@Test
+	void firstGroupOfEachPatternIsReplaced() {
+		PatternReplacingContentModifier contentModifier = new PatternReplacingContentModifier(
+				replacements(Pattern.compile("\"id\":\"([^\"]*)\""), "<<id>>", Pattern.compile("[0-9]+"), "<<number>>"),
+				StandardCharsets.UTF_8);
+		assertThat(contentModifier.modifyContent("{\"id\":\"a1\",\"count\":4}".getBytes(), null))
+			.isEqualTo("{\"id\":\"<<id>>\",\"count\":<<number>>}".getBytes());
+	}
+
+	@Test
+	void contentIsReturnedAsIsWhenNoPatternMatches() {
+		PatternReplacingContentModifier contentModifier = new PatternReplacingContentModifier(
+				replacements(Pattern.compile("[0-9]+"), "<<number>>", Pattern.compile("x"), "y"),
+				StandardCharsets.UTF_8);
+		byte[] content = "{\"id\":\"abc\"}".getBytes();
+		assertThat(contentModifier.modifyContent(content, null)).isSameAs(content);
+	}
+
+	private Map<Pattern, String> replacements(Pattern pattern1, String replacement1, Pattern pattern2,
+			String replacement2) {
+		Map<Pattern, String> replacements = new LinkedHashMap<>();
+		replacements.put(pattern1, replacement1);
+		replacements.put(pattern2, replacement2);
+		return replacements;
+	}
+
 }
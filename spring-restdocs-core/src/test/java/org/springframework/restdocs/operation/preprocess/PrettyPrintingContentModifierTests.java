@@ -22,11 +22,16 @@ import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
 
+import org.springframework.restdocs.json.JsonCodec;
 import org.springframework.restdocs.testfixtures.jupiter.CapturedOutput;
 import org.springframework.restdocs.testfixtures.jupiter.OutputCaptureExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 /**
  * Tests for {@link PrettyPrintingContentModifier}.
@@ -43,6 +48,15 @@ class PrettyPrintingContentModifierTests {
 			.isEqualTo(String.format("{%n  \"a\" : 5%n}").getBytes());
 	}
 
+	@Test
+	void prettyPrintJsonUsesGivenJsonCodec() {
+		JsonCodec jsonCodec = mock(JsonCodec.class);
+		byte[] content = "{\"a\":5}".getBytes();
+		given(jsonCodec.prettyPrint(content)).willReturn("pretty".getBytes());
+		assertThat(new PrettyPrintingContentModifier(jsonCodec).modifyContent(content, null))
+			.isEqualTo("pretty".getBytes());
+	}
+
 	@Test
 	void prettyPrintXml() {
 		assertThat(new PrettyPrintingContentModifier()
@@ -86,4 +100,22 @@ class PrettyPrintingContentModifierTests {
 		assertThat(output).isEqualTo(input);
 	}
 
+	@Test
+	void jsonOutputIsIdenticalToThatOfPrettyPrintingATree() {
+		String content = "{\"a\":[1,-0,2147483648,123456789012345678901234567890,1.5,1e3,-2.50E-3],"
+				+ "\"b\":{\"c\":null,\"d\":true,\"e\":false,\"f\":[],\"g\":{}},"
+				+ "\"h\":\"\\u30b3\\\"quoted\\\"\\n\",\"i\":[[{}],[[1]]]}";
+		ObjectMapper objectMapper = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+		byte[] expected = objectMapper.writeValueAsBytes(objectMapper.readTree(content.getBytes()));
+		assertThat(new PrettyPrintingContentModifier().modifyContent(content.getBytes(), null)).isEqualTo(expected);
+	}
+
+	@Test
+	void jsonWithMultipleRootValuesIsHandledGracefully(CapturedOutput output) {
+		String content = "{\"a\":1} {\"b\":2}";
+		assertThat(new PrettyPrintingContentModifier().modifyContent(content.getBytes(), null))
+			.isEqualTo(content.getBytes());
+		assertThat(output).isEmpty();
+	}
+
 }
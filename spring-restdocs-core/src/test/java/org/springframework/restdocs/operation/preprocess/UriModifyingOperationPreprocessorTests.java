@@ -292,6 +292,28 @@ class UriModifyingOperationPreprocessorTests {
 			.isEqualTo("The uri 'https://api.example.com:12345' should be used");
 	}
 
+	@Test
+	void requestPartWithoutUrisIsUnchanged() {
+		OperationRequest request = createRequestWithPartWithContent("No uri here");
+		OperationRequestPart part = request.getParts().iterator().next();
+		OperationRequest processed = this.preprocessor.host("api.example.com").preprocess(request);
+		assertThat(processed.getParts()).containsExactly(part);
+	}
+
+	@Test
+	void orderOfHeadersIsPreservedWhenOnlySomeContainUris() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("Alpha", "a");
+		headers.add("Bravo", "b1");
+		headers.add("Bravo", "https://localhost:12345");
+		headers.add("Bravo", "b3");
+		headers.add("Charlie", "c");
+		OperationResponse processed = this.preprocessor.host("api.example.com")
+			.preprocess(this.responseFactory.create(HttpStatus.OK, headers, new byte[0]));
+		assertThat(processed.getHeaders().headerNames()).containsExactly("Alpha", "Bravo", "Charlie");
+		assertThat(processed.getHeaders().get("Bravo")).containsExactly("b1", "https://api.example.com:12345", "b3");
+	}
+
 	@Test
 	void modifiedUriDoesNotGetDoubleEncoded() {
 		this.preprocessor.scheme("https");
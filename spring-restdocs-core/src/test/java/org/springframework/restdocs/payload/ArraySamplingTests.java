@@ -0,0 +1,64 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.payload;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link ArraySampling}.
+ *
+ * @author Andy Wilkinson
+ */
+class ArraySamplingTests {
+
+	private final List<Integer> items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+	@Test
+	void firstSamplesLeadingElements() {
+		assertThat(ArraySampling.first(3).sample(this.items)).containsExactly(0, 1, 2);
+	}
+
+	@Test
+	void lastSamplesTrailingElements() {
+		assertThat(ArraySampling.last(3).sample(this.items)).containsExactly(97, 98, 99);
+	}
+
+	@Test
+	void randomSamplesTheSameOrderedElementsForTheSameSeed() {
+		List<Integer> sample = ArraySampling.random(10, 42).sample(this.items);
+		assertThat(sample).hasSize(10).isSorted().doesNotHaveDuplicates();
+		assertThat(ArraySampling.random(10, 42).sample(this.items)).isEqualTo(sample);
+	}
+
+	@Test
+	void listThatIsNoLargerThanSampleIsReturnedUnchanged() {
+		assertThat(ArraySampling.first(100).sample(this.items)).isSameAs(this.items);
+	}
+
+	@Test
+	void sizeMustBePositive() {
+		assertThatIllegalArgumentException().isThrownBy(() -> ArraySampling.first(0));
+	}
+
+}
@@ -17,6 +17,7 @@
 package org.springframework.restdocs.payload;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
@@ -26,6 +27,7 @@ import tools.jackson.databind.SerializationFeature;
 import tools.jackson.databind.json.JsonMapper;
 
 import org.springframework.http.MediaType;
+import org.springframework.restdocs.json.JsonCodec;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -176,4 +178,21 @@ class FieldPathPayloadSubsectionExtractorTests {
 			.hasMessage("a identifies an empty section of the payload");
 	}
 
+	@Test
+	void extractProvidesStructureOfSubsection() {
+		ExtractedSubsection subsection = new FieldPathPayloadSubsectionExtractor("a.b").extract(
+				"{\"a\":{\"b\":{\"c\":5}}}".getBytes(), MediaType.APPLICATION_JSON, Collections.emptyList(),
+				JsonCodec.jackson());
+		assertThat(subsection.getStructure()).isEqualTo(Collections.singletonMap("c", 5));
+		assertThat(subsection.getContent()).isEqualTo("{\"c\":5}".getBytes());
+	}
+
+	@Test
+	void extractProvidesStructureOfFirstElementOfArraySubsectionWithCommonStructure() {
+		ExtractedSubsection subsection = new FieldPathPayloadSubsectionExtractor("a.[].b").extract(
+				"{\"a\":[{\"b\":{\"c\":5}},{\"b\":{\"c\":6}}]}".getBytes(), MediaType.APPLICATION_JSON,
+				Collections.emptyList(), JsonCodec.jackson());
+		assertThat(subsection.getStructure()).isEqualTo(Collections.singletonMap("c", 5));
+	}
+
 }
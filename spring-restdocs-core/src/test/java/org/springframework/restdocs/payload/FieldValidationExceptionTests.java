@@ -0,0 +1,111 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.payload;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FieldValidationException}.
+ *
+ * @author Andy Wilkinson
+ */
+class FieldValidationExceptionTests {
+
+	@Test
+	void messageForUndocumentedContent() {
+		FieldValidationException exception = new FieldValidationException(
+				new UndocumentedContent(Arrays.asList("a"), (writer) -> writer.write("{\"a\":1}")),
+				Collections.emptyList());
+		assertThat(exception.getMessage())
+			.isEqualTo(String.format("The following parts of the payload were not documented:%n{\"a\":1}"));
+	}
+
+	@Test
+	void messageForMissingFields() {
+		FieldValidationException exception = new FieldValidationException(null, Arrays.asList("a", "b"));
+		assertThat(exception.getMessage())
+			.isEqualTo("Fields with the following paths were not found in the payload: [a, b]");
+	}
+
+	@Test
+	void messageForUndocumentedContentAndMissingFields() {
+		FieldValidationException exception = new FieldValidationException(
+				new UndocumentedContent(Arrays.asList("a"), (writer) -> writer.write("{\"a\":1}")), Arrays.asList("b"));
+		assertThat(exception.getMessage())
+			.isEqualTo(String.format("The following parts of the payload were not documented:%n{\"a\":1}%n"
+					+ "Fields with the following paths were not found in the payload: [b]"));
+	}
+
+	@Test
+	void undocumentedContentIsFormattedOnce() {
+		AtomicInteger formatted = new AtomicInteger();
+		FieldValidationException exception = new FieldValidationException(
+				new UndocumentedContent(Arrays.asList("a"), (writer) -> {
+					formatted.incrementAndGet();
+					writer.write("{\"a\":1}");
+				}), Collections.emptyList());
+		exception.getMessage();
+		exception.getMessage();
+		exception.getUndocumentedContent();
+		assertThat(formatted).hasValue(1);
+	}
+
+	@Test
+	void formattingOfLargeUndocumentedContentStopsOnceTheExcerptIsFull() {
+		AtomicInteger chunks = new AtomicInteger();
+		FieldValidationException exception = new FieldValidationException(
+				new UndocumentedContent(Arrays.asList("a"), (writer) -> {
+					for (int i = 0; i < 1000; i++) {
+						chunks.incrementAndGet();
+						writer.write("x".repeat(100));
+					}
+				}), Collections.emptyList());
+		assertThat(chunks).hasValue(FieldValidationException.MAX_EXCERPT_LENGTH / 100 + 1);
+		assertThat(exception.getUndocumentedContent()).hasSize(FieldValidationException.MAX_EXCERPT_LENGTH);
+	}
+
+	@Test
+	void messageForLargeUndocumentedContentIsTruncated() {
+		List<String> paths = new ArrayList<>();
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 1000; i++) {
+			paths.add("field" + i);
+			content.append("\"field").append(i).append("\":\"").append("x".repeat(100)).append("\",");
+		}
+		FieldValidationException exception = new FieldValidationException(
+				new UndocumentedContent(paths, (writer) -> writer.write(content.toString())), Arrays.asList("missing"));
+		String message = exception.getMessage();
+		assertThat(message).startsWith(String.format("The following parts of the payload were not documented "
+				+ "(showing the first %d characters):%n", FieldValidationException.MAX_EXCERPT_LENGTH));
+		assertThat(message).contains("The undocumented content contains 1000 field path(s), the first 50 of which are: "
+				+ paths.subList(0, 50));
+		assertThat(message).doesNotContain("field50,");
+		assertThat(message).endsWith("Fields with the following paths were not found in the payload: [missing]");
+		assertThat(message.length()).isLessThan(FieldValidationException.MAX_EXCERPT_LENGTH * 2);
+		assertThat(exception.getUndocumentedContent())
+			.isEqualTo(content.substring(0, FieldValidationException.MAX_EXCERPT_LENGTH));
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package org.springframework.restdocs.payload;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -158,6 +159,18 @@ class JsonContentHandlerTests {
 		assertThat(missingFields.size()).isEqualTo(0);
 	}
 
+	@Test
+	void describedFieldsThatAreNotPresentNestedBeneathManyOptionalFieldsAreOnlyMissingWhenAncestorIsPresent() {
+		List<FieldDescriptor> descriptors = new ArrayList<>();
+		for (int i = 0; i < 250; i++) {
+			descriptors.add(new FieldDescriptor("a" + i + "x").optional());
+			descriptors.add(new FieldDescriptor("a" + i + "x.b"));
+		}
+		List<FieldDescriptor> missingFields = new JsonContentHandler("{\"a42x\":{}}".getBytes(), descriptors)
+			.findMissingFields();
+		assertThat(missingFields).extracting(FieldDescriptor::getPath).containsExactly("a42x.b");
+	}
+
 	@Test
 	void describedFieldThatIsNotPresentNestedBeneathOptionalArrayThatIsEmptyIsNotConsideredMissing() {
 		List<FieldDescriptor> descriptors = Arrays.asList(new FieldDescriptor("outer"),
@@ -205,4 +218,65 @@ class JsonContentHandlerTests {
 		assertThat(missingFields.size()).isEqualTo(0);
 	}
 
+	@Test
+	void typeOfFieldInSampledArrayElementsIsResolvedFromTheSample() {
+		FieldDescriptor descriptor = new FieldDescriptor("a[].id");
+		JsonContentHandler handler = new JsonContentHandler(
+				"{\"a\":[{\"id\":1},{\"id\":2},{\"id\":\"three\"}]}".getBytes(), Arrays.asList(descriptor),
+				ArraySampling.first(2));
+		assertThat((JsonFieldType) handler.resolveFieldType(descriptor)).isEqualTo(JsonFieldType.NUMBER);
+		assertThat(handler.isSampled()).isTrue();
+	}
+
+	@Test
+	void undocumentedFieldsOutsideOfSampleAreNotReported() {
+		FieldDescriptor descriptor = new FieldDescriptor("a[].id");
+		JsonContentHandler handler = new JsonContentHandler(
+				"{\"a\":[{\"id\":1},{\"id\":2,\"b\":true}]}".getBytes(), Arrays.asList(descriptor),
+				ArraySampling.first(1));
+		assertThat(handler.getUndocumentedContent()).isNull();
+	}
+
+	@Test
+	void arrayWithNoMoreElementsThanSampleSizeIsNotSampled() {
+		FieldDescriptor descriptor = new FieldDescriptor("a[].id");
+		JsonContentHandler handler = new JsonContentHandler("{\"a\":[{\"id\":1},{\"id\":2}]}".getBytes(),
+				Arrays.asList(descriptor), ArraySampling.last(2));
+		assertThat(handler.findMissingFields()).isEmpty();
+		assertThat(handler.isSampled()).isFalse();
+	}
+
+	@Test
+	void undocumentedContentReportsPathsOfUndocumentedFields() {
+		FieldDescriptor descriptor = new FieldDescriptor("a[].id");
+		JsonContentHandler handler = new JsonContentHandler(
+				"{\"a\":[{\"id\":1,\"b\":true},{\"id\":2,\"b\":false,\"c\":[]}],\"d.e\":{\"f\":1}}".getBytes(),
+				Arrays.asList(descriptor));
+		UndocumentedContent undocumentedContent = handler.findUndocumentedContent();
+		assertThat(undocumentedContent).isNotNull();
+		assertThat(undocumentedContent.getPaths()).containsExactly("a[].b", "a[].c", "['d.e'].f");
+	}
+
+	@Test
+	void excerptOfLargeUndocumentedContentIsTruncated() {
+		StringBuilder content = new StringBuilder("{");
+		for (int i = 0; i < 1000; i++) {
+			content.append((i > 0) ? "," : "").append("\"field").append(i).append("\":").append(i);
+		}
+		JsonContentHandler handler = new JsonContentHandler(content.append("}").toString().getBytes(),
+				Collections.emptyList());
+		UndocumentedContent undocumentedContent = handler.findUndocumentedContent();
+		assertThat(undocumentedContent).isNotNull();
+		UndocumentedContent.Excerpt excerpt = undocumentedContent.getExcerpt(100);
+		assertThat(excerpt.isTruncated()).isTrue();
+		assertThat(excerpt.getContent()).hasSize(100).isEqualTo(undocumentedContent.getContent().substring(0, 100));
+	}
+
+	@Test
+	void fullyDocumentedContentHasNoUndocumentedContent() {
+		JsonContentHandler handler = new JsonContentHandler("{\"a\":{\"b\":1}}".getBytes(),
+				Arrays.asList(new FieldDescriptor("a.b")));
+		assertThat(handler.findUndocumentedContent()).isNull();
+	}
+
 }
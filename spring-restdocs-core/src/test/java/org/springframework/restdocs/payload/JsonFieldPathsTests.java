@@ -97,6 +97,20 @@ class JsonFieldPathsTests {
 			.getUncommon()).containsExactly("a.[].c");
 	}
 
+	@Test
+	void entryPresentInEveryItemButNotInEveryElementOfNestedArrayIsCommon() {
+		assertThat(JsonFieldPaths.from(Arrays.asList(json("{\"a\": [{\"b\": 1}, {\"c\": 2}]}"),
+				json("{\"a\": [{\"c\": 3}, {\"b\": 4}]}")))
+			.getUncommon()).isEmpty();
+	}
+
+	@Test
+	void entryRepeatedWithinOneItemIsIdentifiedAsUncommon() {
+		assertThat(JsonFieldPaths.from(Arrays.asList(json("{\"a\": [{\"b\": 1}, {\"b\": 2}]}"),
+				json("{\"a\": [{\"c\": 3}]}")))
+			.getUncommon()).containsExactlyInAnyOrder("a.[].b", "a.[].c");
+	}
+
 	private Object json(String json) {
 		return new ObjectMapper().readValue(json, Object.class);
 	}
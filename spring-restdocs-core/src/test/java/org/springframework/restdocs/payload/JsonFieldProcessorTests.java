@@ -23,6 +23,9 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import tools.jackson.databind.ObjectMapper;
@@ -473,6 +476,53 @@ class JsonFieldProcessorTests {
 		assertThat(this.fieldProcessor.hasField("a.[].b", payload)).isFalse();
 	}
 
+	@Test
+	void hasFieldIsTrueForFieldPresentInEveryElementOfArrayProcessedInParallel() {
+		Map<String, Object> payload = createEntry("a", createItems(1000, (i) -> createEntry("b", i)));
+		assertThat(parallelFieldProcessor().hasField("a[].b", payload)).isTrue();
+	}
+
+	@Test
+	void hasFieldIsFalseForFieldAbsentFromOneElementOfArrayProcessedInParallel() {
+		Map<String, Object> payload = createEntry("a",
+				createItems(1000, (i) -> (i == 999) ? createEntry("c", i) : createEntry("b", i)));
+		assertThat(parallelFieldProcessor().hasField("a[].b", payload)).isFalse();
+	}
+
+	@Test
+	void extractFromArrayProcessedInParallelPreservesOrder() {
+		Map<String, Object> payload = createEntry("a", createItems(1000, (i) -> createEntry("b", i)));
+		assertThat(parallelFieldProcessor().extract("a[].b", payload).getValue())
+			.isEqualTo(IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+	}
+
+	@Test
+	void removeFromArrayProcessedInParallelRemovesOnlyEmptiedElements() {
+		Map<String, Object> payload = createEntry("a",
+				createItems(1000, (i) -> (i % 2 == 0) ? createEntry("b", i) : createEntry("c", i)));
+		parallelFieldProcessor().remove("a[].b", payload);
+		assertThat((List<?>) payload.get("a")).hasSize(500).allMatch((item) -> ((Map<?, ?>) item).containsKey("c"));
+	}
+
+	@Test
+	void removeOfEveryElementOfArrayProcessedInParallelRemovesArray() {
+		Map<String, Object> payload = createEntry("a", createItems(1000, (i) -> createEntry("b", i)));
+		parallelFieldProcessor().remove("a[].b", payload);
+		assertThat(payload).isEmpty();
+	}
+
+	private JsonFieldProcessor parallelFieldProcessor() {
+		return new JsonFieldProcessor(ParallelArrayProcessing.forArraysLargerThan(10));
+	}
+
+	private List<Object> createItems(int count, IntFunction<Object> factory) {
+		List<Object> items = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			items.add(factory.apply(i));
+		}
+		return items;
+	}
+
 	private Map<String, String> createEntry(String... pairs) {
 		Map<String, String> entry = new HashMap<>();
 		for (String pair : pairs) {
@@ -81,4 +81,23 @@ class PayloadDocumentationTests {
 		assertThat(descriptors.get(0).getAttributes().get("b")).isEqualTo("bravo");
 	}
 
+	@Test
+	void combineWithEmptyPrefixDoesNotCopyAdditionalDescriptors() {
+		FieldDescriptor alpha = fieldWithPath("alpha");
+		FieldDescriptor bravo = fieldWithPath("bravo");
+		List<FieldDescriptor> descriptors = PayloadDocumentation.combine(Arrays.asList(alpha), "",
+				Arrays.asList(bravo));
+		assertThat(descriptors).containsExactly(alpha, bravo);
+	}
+
+	@Test
+	void combineWithPrefixAppliesPrefixToAdditionalDescriptors() {
+		FieldDescriptor alpha = fieldWithPath("alpha");
+		List<FieldDescriptor> descriptors = PayloadDocumentation.combine(Arrays.asList(alpha), "alpha.",
+				Arrays.asList(fieldWithPath("bravo")));
+		assertThat(descriptors).hasSize(2);
+		assertThat(descriptors.get(0)).isSameAs(alpha);
+		assertThat(descriptors.get(1).getPath()).isEqualTo("alpha.bravo");
+	}
+
 }
@@ -20,6 +20,7 @@ import java.io.IOException;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.restdocs.snippet.BinaryContentPolicy;
 import org.springframework.restdocs.testfixtures.jupiter.AssertableSnippets;
 import org.springframework.restdocs.testfixtures.jupiter.OperationBuilder;
 import org.springframework.restdocs.testfixtures.jupiter.RenderedSnippetTest;
@@ -45,6 +46,29 @@ class ResponseBodySnippetTests {
 			.isCodeBlock((codeBlock) -> codeBlock.withOptions("nowrap").content("some content"));
 	}
 
+	@RenderedSnippetTest
+	void responseWithBinaryBody(OperationBuilder operationBuilder, AssertableSnippets snippets) throws IOException {
+		new ResponseBodySnippet().document(operationBuilder.response().content(new byte[] { 0, 1, 2, 3 }).build());
+		assertThat(snippets.responseBody()).isCodeBlock((codeBlock) -> codeBlock.withOptions("nowrap")
+			.content("<binary content: 4 bytes, SHA-256 "
+					+ "054edec1d0211f624fed0cbca9d4f9400b0e491c43742af2c5b0abebf0c990d8>"));
+	}
+
+	@RenderedSnippetTest
+	void responseWithBinaryMediaType(OperationBuilder operationBuilder, AssertableSnippets snippets)
+			throws IOException {
+		new ResponseBodySnippet(attributes(BinaryContentPolicy.defaultPolicy()
+			.withBinaryMediaTypes(MediaType.IMAGE_PNG)
+			.withPreview(2)
+			.asAttribute()))
+			.document(operationBuilder.response()
+				.header(HttpHeaders.CONTENT_TYPE, MediaType.IMAGE_PNG_VALUE)
+				.content("some content")
+				.build());
+		assertThat(snippets.responseBody()).contains("<binary content: 12 bytes, SHA-256 "
+				+ "290f493c44f5d63d06b374d0a5abd292fae38b92cab2fae5efefe1b0e9347f56>", "73 6f ...");
+	}
+
 	@RenderedSnippetTest
 	void responseWithNoBody(OperationBuilder operationBuilder, AssertableSnippets snippets) throws IOException {
 		new ResponseBodySnippet().document(operationBuilder.response().build());
@@ -78,6 +78,15 @@ public class XmlContentHandlerTests {
 		assertThat(undocumentedContent).isNull();
 	}
 
+	@Test
+	public void undocumentedContentReportsPathsOfUndocumentedElementsAndAttributes() {
+		List<FieldDescriptor> descriptors = Arrays.asList(fieldWithPath("a/b").type("b").description("description"));
+		XmlContentHandler handler = createHandler("<a><b>5</b><c d=\"e\"><f>6</f></c></a>", descriptors);
+		UndocumentedContent undocumentedContent = handler.findUndocumentedContent();
+		assertThat(undocumentedContent).isNotNull();
+		assertThat(undocumentedContent.getPaths()).containsExactly("/a/c/@d", "/a/c/f");
+	}
+
 	@Test
 	public void failsFastWithNonXmlContent() {
 		assertThatExceptionOfType(PayloadHandlingException.class)
@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 
+import org.junit.jupiter.api.Test;
+
 import org.springframework.restdocs.generate.RestDocumentationGenerator;
 import org.springframework.restdocs.snippet.SnippetException;
 import org.springframework.restdocs.templates.TemplateFormat;
@@ -182,6 +184,17 @@ class PathParametersSnippetTests {
 			.row("`b`", "two"));
 	}
 
+	@Test
+	void additionalDescriptorsAreCombinedWithTheSnippetsExistingDescriptors() {
+		ParameterDescriptor a = parameterWithName("a").description("one");
+		ParameterDescriptor b = parameterWithName("b").description("two");
+		PathParametersSnippet snippet = RequestDocumentation.relaxedPathParameters(a);
+		PathParametersSnippet combined = snippet.and(b);
+		assertThat(combined.getParameterDescriptors().values()).containsExactly(a, b);
+		assertThat(combined.isIgnoreUndocumentedParameters()).isTrue();
+		assertThat(snippet.getParameterDescriptors().values()).containsExactly(a);
+	}
+
 	@RenderedSnippetTest
 	void pathParametersWithEscapedContent(OperationBuilder operationBuilder, AssertableSnippets snippets,
 			TemplateFormat templateFormat) throws IOException {
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.snippet;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.operation.Operation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link BinaryContentPolicy}.
+ *
+ * @author Andy Wilkinson
+ */
+class BinaryContentPolicyTests {
+
+	private static final byte[] BINARY = new byte[] { 0, 1, 2, 3 };
+
+	private static final byte[] TEXT = "some content".getBytes(StandardCharsets.UTF_8);
+
+	@Test
+	void contentWithNulByteIsBinaryByDefault() {
+		assertThat(BinaryContentPolicy.defaultPolicy().isBinary(BINARY, null)).isTrue();
+	}
+
+	@Test
+	void contentWithoutNulByteIsTextByDefault() {
+		assertThat(BinaryContentPolicy.defaultPolicy().isBinary(TEXT, MediaType.APPLICATION_JSON)).isFalse();
+	}
+
+	@Test
+	void contentWithCommonBinaryMediaTypeIsBinaryByDefault() {
+		BinaryContentPolicy policy = BinaryContentPolicy.defaultPolicy();
+		assertThat(policy.isBinary(TEXT, MediaType.APPLICATION_OCTET_STREAM)).isTrue();
+		assertThat(policy.isBinary(TEXT, MediaType.APPLICATION_PDF)).isTrue();
+		assertThat(policy.isBinary(TEXT, MediaType.parseMediaType("application/protobuf"))).isTrue();
+		assertThat(policy.isBinary(TEXT, MediaType.parseMediaType("application/x-protobuf"))).isTrue();
+		assertThat(policy.isBinary(TEXT, MediaType.IMAGE_PNG)).isTrue();
+		assertThat(policy.isBinary(TEXT, MediaType.parseMediaType("audio/mpeg"))).isTrue();
+		assertThat(policy.isBinary(TEXT, MediaType.parseMediaType("video/mp4"))).isTrue();
+	}
+
+	@Test
+	void svgContentIsTextByDefault() {
+		assertThat(BinaryContentPolicy.defaultPolicy().isBinary(TEXT, MediaType.parseMediaType("image/svg+xml")))
+			.isFalse();
+	}
+
+	@Test
+	void emptyContentIsNotBinary() {
+		BinaryContentPolicy policy = BinaryContentPolicy.defaultPolicy().withBinaryMediaTypes(MediaType.IMAGE_PNG);
+		assertThat(policy.isBinary(new byte[0], MediaType.IMAGE_PNG)).isFalse();
+	}
+
+	@Test
+	void nulByteBeyondSniffLengthIsNotDetected() {
+		byte[] content = new byte[BinaryContentPolicy.SNIFF_LENGTH + 1];
+		Arrays.fill(content, (byte) 'a');
+		content[BinaryContentPolicy.SNIFF_LENGTH] = 0;
+		assertThat(BinaryContentPolicy.defaultPolicy().isBinary(content, null)).isFalse();
+	}
+
+	@Test
+	void contentWithCharsetIsText() {
+		MediaType contentType = MediaType.parseMediaType("text/plain;charset=UTF-16");
+		assertThat(BinaryContentPolicy.defaultPolicy().isBinary(BINARY, contentType)).isFalse();
+	}
+
+	@Test
+	void utf16ContentWithByteOrderMarkIsText() {
+		byte[] content = "some content".getBytes(StandardCharsets.UTF_16);
+		assertThat(BinaryContentPolicy.defaultPolicy().isBinary(content, MediaType.TEXT_PLAIN)).isFalse();
+	}
+
+	@Test
+	void utf16ContentWithoutByteOrderMarkOrCharsetIsBinary() {
+		byte[] content = "some content".getBytes(StandardCharsets.UTF_16LE);
+		assertThat(BinaryContentPolicy.defaultPolicy().isBinary(content, MediaType.TEXT_PLAIN)).isTrue();
+		assertThat(BinaryContentPolicy.defaultPolicy()
+			.isBinary(content, MediaType.parseMediaType("text/plain;charset=UTF-16LE"))).isFalse();
+	}
+
+	@Test
+	void contentWithBinaryMediaTypeIsBinary() {
+		BinaryContentPolicy policy = BinaryContentPolicy.defaultPolicy()
+			.withBinaryMediaTypes(MediaType.parseMediaType("image/*"));
+		assertThat(policy.isBinary(TEXT, MediaType.IMAGE_PNG)).isTrue();
+		assertThat(policy.isBinary(TEXT, MediaType.APPLICATION_JSON)).isFalse();
+	}
+
+	@Test
+	void contentWithTextMediaTypeIsText() {
+		BinaryContentPolicy policy = BinaryContentPolicy.defaultPolicy()
+			.withTextMediaTypes(MediaType.APPLICATION_OCTET_STREAM);
+		assertThat(policy.isBinary(BINARY, MediaType.APPLICATION_OCTET_STREAM)).isFalse();
+	}
+
+	@Test
+	void laterMediaTypesTakePrecedence() {
+		BinaryContentPolicy policy = BinaryContentPolicy.defaultPolicy()
+			.withBinaryMediaTypes(MediaType.parseMediaType("image/*"))
+			.withTextMediaTypes(MediaType.parseMediaType("image/svg+xml"));
+		assertThat(policy.isBinary(BINARY, MediaType.IMAGE_PNG)).isTrue();
+		assertThat(policy.isBinary(BINARY, MediaType.parseMediaType("image/svg+xml"))).isFalse();
+	}
+
+	@Test
+	void resolveUsesPolicyInSnippetAttributes() {
+		BinaryContentPolicy snippetPolicy = BinaryContentPolicy.defaultPolicy().withPreview(1);
+		Operation operation = operationWithAttributes(
+				Map.of(BinaryContentPolicy.ATTRIBUTE_NAME, BinaryContentPolicy.defaultPolicy().withPreview(2)));
+		assertThat(BinaryContentPolicy.resolve(Map.of(BinaryContentPolicy.ATTRIBUTE_NAME, snippetPolicy), operation))
+			.isSameAs(snippetPolicy);
+	}
+
+	@Test
+	void resolveUsesPolicyInOperationAttributesWhenSnippetHasNoPolicy() {
+		BinaryContentPolicy operationPolicy = BinaryContentPolicy.defaultPolicy().withPreview(2);
+		Operation operation = operationWithAttributes(Map.of(BinaryContentPolicy.ATTRIBUTE_NAME, operationPolicy));
+		assertThat(BinaryContentPolicy.resolve(Collections.emptyMap(), operation)).isSameAs(operationPolicy);
+	}
+
+	@Test
+	void resolveUsesDefaultPolicyWhenNoPolicyIsConfigured() {
+		assertThat(BinaryContentPolicy.resolve(Collections.emptyMap(), operationWithAttributes(Collections.emptyMap())))
+			.isSameAs(BinaryContentPolicy.defaultPolicy());
+	}
+
+	@Test
+	void summaryIncludesSizeAndHash() {
+		assertThat(BinaryContentPolicy.defaultPolicy().summarize(BINARY)).isEqualTo(
+				"<binary content: 4 bytes, SHA-256 054edec1d0211f624fed0cbca9d4f9400b0e491c43742af2c5b0abebf0c990d8>");
+	}
+
+	@Test
+	void summaryWithPreviewOfPartOfContent() {
+		assertThat(BinaryContentPolicy.defaultPolicy().withPreview(2).summarize(BINARY))
+			.endsWith(String.format(">%n00 01 ..."));
+	}
+
+	@Test
+	void summaryWithPreviewOfAllContent() {
+		assertThat(BinaryContentPolicy.defaultPolicy().withPreview(8).summarize(BINARY))
+			.endsWith(String.format(">%n00 01 02 03"));
+	}
+
+	@Test
+	void negativePreviewLengthIsRejected() {
+		assertThatIllegalArgumentException().isThrownBy(() -> BinaryContentPolicy.defaultPolicy().withPreview(-1))
+			.withMessage("length must not be negative");
+	}
+
+	private Operation operationWithAttributes(Map<String, Object> attributes) {
+		Operation operation = mock(Operation.class);
+		given(operation.getAttributes()).willReturn(attributes);
+		return operation;
+	}
+
+}
@@ -17,13 +17,27 @@
 package org.springframework.restdocs.snippet;
 
 import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.restdocs.generate.RestDocumentationGenerator;
 import org.springframework.restdocs.operation.Operation;
+import org.springframework.restdocs.operation.OperationRequestFactory;
+import org.springframework.restdocs.operation.OperationResponseFactory;
+import org.springframework.restdocs.operation.StandardOperation;
 import org.springframework.restdocs.testfixtures.jupiter.AssertableSnippets;
 import org.springframework.restdocs.testfixtures.jupiter.OperationBuilder;
 import org.springframework.restdocs.testfixtures.jupiter.RenderedSnippetTest;
@@ -58,6 +72,11 @@ class TemplatedSnippetTests {
 		assertThat(new TestTemplatedSnippet(Collections.<String, Object>emptyMap()).getSnippetName()).isEqualTo("test");
 	}
 
+	@Test
+	void toStringIsSnippetName() {
+		assertThat(new TestTemplatedSnippet(Collections.<String, Object>emptyMap())).hasToString("test");
+	}
+
 	@RenderedSnippetTest
 	void multipleSnippetsCanBeProducedFromTheSameTemplate(OperationBuilder operationBuilder, AssertableSnippets snippet)
 			throws IOException {
@@ -67,8 +86,56 @@ class TemplatedSnippetTests {
 		assertThat(snippet.named("multiple-snippets-two")).exists();
 	}
 
+	@RenderedSnippetTest
+	void flightRecorderEventsAreRecordedWhenEnabled(OperationBuilder operationBuilder, @TempDir Path temp)
+			throws IOException {
+		Path dump = temp.resolve("recording.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("org.springframework.restdocs.TemplateCompilation");
+			recording.enable("org.springframework.restdocs.TemplateRendering");
+			recording.enable("org.springframework.restdocs.SnippetWriting");
+			recording.start();
+			new TestTemplatedSnippet("one", "multiple-snippets").document(operationBuilder.build());
+			recording.stop();
+			recording.dump(dump);
+		}
+		List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+		assertThat(events).extracting((event) -> event.getEventType().getName())
+			.containsExactly("org.springframework.restdocs.TemplateCompilation",
+					"org.springframework.restdocs.TemplateRendering", "org.springframework.restdocs.SnippetWriting");
+		assertThat(events).allSatisfy((event) -> {
+			assertThat(event.getString("operation")).isEqualTo(operationBuilder.build().getName());
+			assertThat(event.getString("snippet")).isEqualTo("multiple-snippets-one");
+		});
+	}
+
+	@Test
+	void whenValidationOnlyModelIsCreatedWithoutWritingSnippet() throws IOException {
+		TestTemplatedSnippet snippet = new TestTemplatedSnippet(null);
+		snippet.document(validationOnlyOperation());
+		assertThat(snippet.modelsCreated).hasValue(1);
+	}
+
+	@Test
+	void whenValidationOnlySnippetThatDoesNotPerformValidationIsSkipped() throws IOException {
+		TestTemplatedSnippet snippet = new NonValidatingTestTemplatedSnippet();
+		snippet.document(validationOnlyOperation());
+		assertThat(snippet.modelsCreated).hasValue(0);
+	}
+
+	private Operation validationOnlyOperation() {
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put(RestDocumentationGenerator.ATTRIBUTE_NAME_VALIDATION_ONLY, true);
+		return new StandardOperation("validation-only",
+				new OperationRequestFactory().create(URI.create("http://localhost"), null, null, new HttpHeaders(),
+						null, null),
+				new OperationResponseFactory().create(HttpStatus.OK, null, null), attributes);
+	}
+
 	private static class TestTemplatedSnippet extends TemplatedSnippet {
 
+		private final AtomicInteger modelsCreated = new AtomicInteger();
+
 		protected TestTemplatedSnippet(String snippetName, String templateName) {
 			super(templateName + "-" + snippetName, templateName, Collections.<String, Object>emptyMap());
 		}
@@ -79,9 +146,23 @@ class TemplatedSnippetTests {
 
 		@Override
 		protected Map<String, Object> createModel(Operation operation) {
+			this.modelsCreated.incrementAndGet();
 			return new HashMap<>();
 		}
 
 	}
 
+	private static final class NonValidatingTestTemplatedSnippet extends TestTemplatedSnippet {
+
+		private NonValidatingTestTemplatedSnippet() {
+			super(null);
+		}
+
+		@Override
+		protected boolean performsValidation() {
+			return false;
+		}
+
+	}
+
 }
@@ -17,6 +17,7 @@
 package org.springframework.restdocs.mockmvc;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
@@ -39,6 +40,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockMultipartHttpServletRequest;
+import org.springframework.restdocs.operation.ContentStorage;
 import org.springframework.restdocs.operation.ConversionException;
 import org.springframework.restdocs.operation.OperationRequest;
 import org.springframework.restdocs.operation.OperationRequestFactory;
@@ -46,7 +48,6 @@ import org.springframework.restdocs.operation.OperationRequestPart;
 import org.springframework.restdocs.operation.OperationRequestPartFactory;
 import org.springframework.restdocs.operation.RequestConverter;
 import org.springframework.restdocs.operation.RequestCookie;
-import org.springframework.util.FileCopyUtils;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.StringUtils;
@@ -63,16 +64,22 @@ class MockMvcRequestConverter implements RequestConverter<MockHttpServletRequest
 
 	@Override
 	public OperationRequest convert(MockHttpServletRequest mockRequest) {
+		return convert(mockRequest, ContentStorage.inMemory().open());
+	}
+
+	@Override
+	public OperationRequest convert(MockHttpServletRequest mockRequest, ContentStorage.Session contentStorage) {
 		try {
 			HttpHeaders headers = extractHeaders(mockRequest);
-			List<OperationRequestPart> parts = extractParts(mockRequest);
+			List<OperationRequestPart> parts = extractParts(mockRequest, contentStorage);
 			Collection<RequestCookie> cookies = extractCookies(mockRequest, headers);
 			String requestMethod = mockRequest.getMethod();
 			if (requestMethod == null) {
 				throw new IllegalStateException("MockHttpServletRequest cannot be converted as its method is null");
 			}
-			return new OperationRequestFactory().create(getRequestUri(mockRequest), HttpMethod.valueOf(requestMethod),
-					getRequestContent(mockRequest, headers), headers, parts, cookies);
+			return new OperationRequestFactory().createFromBuffer(getRequestUri(mockRequest),
+					HttpMethod.valueOf(requestMethod), contentStorage.store(getRequestContent(mockRequest, headers)),
+					headers, parts, cookies);
 		}
 		catch (Exception ex) {
 			throw new ConversionException(ex);
@@ -113,15 +120,18 @@ class MockMvcRequestConverter implements RequestConverter<MockHttpServletRequest
 		return parameters.toString();
 	}
 
-	private byte @Nullable [] getRequestContent(MockHttpServletRequest mockRequest, HttpHeaders headers) {
+	private byte[] getRequestContent(MockHttpServletRequest mockRequest, HttpHeaders headers) {
 		byte[] content = mockRequest.getContentAsByteArray();
+		if (content == null) {
+			content = new byte[0];
+		}
 		if ("GET".equals(mockRequest.getMethod())) {
 			return content;
 		}
 		MediaType contentType = headers.getContentType();
 		if (contentType == null || MediaType.APPLICATION_FORM_URLENCODED.includes(contentType)) {
 			Map<String, String[]> parameters = mockRequest.getParameterMap();
-			if (!parameters.isEmpty() && (content == null || content.length == 0)) {
+			if (!parameters.isEmpty() && content.length == 0) {
 				StringBuilder contentBuilder = new StringBuilder();
 				headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
 				MultiValueMap<String, String> queryParameters = parse(mockRequest.getQueryString());
@@ -158,55 +168,62 @@ class MockMvcRequestConverter implements RequestConverter<MockHttpServletRequest
 		return cookies;
 	}
 
-	private List<OperationRequestPart> extractParts(MockHttpServletRequest servletRequest)
-			throws IOException, ServletException {
+	private List<OperationRequestPart> extractParts(MockHttpServletRequest servletRequest,
+			ContentStorage.Session contentStorage) throws IOException, ServletException {
 		List<OperationRequestPart> parts = new ArrayList<>();
-		parts.addAll(extractServletRequestParts(servletRequest));
+		parts.addAll(extractServletRequestParts(servletRequest, contentStorage));
 		if (servletRequest instanceof MockMultipartHttpServletRequest) {
-			parts.addAll(extractMultipartRequestParts((MockMultipartHttpServletRequest) servletRequest));
+			parts.addAll(
+					extractMultipartRequestParts((MockMultipartHttpServletRequest) servletRequest, contentStorage));
 		}
 		return parts;
 	}
 
-	private List<OperationRequestPart> extractServletRequestParts(MockHttpServletRequest servletRequest)
-			throws IOException, ServletException {
+	private List<OperationRequestPart> extractServletRequestParts(MockHttpServletRequest servletRequest,
+			ContentStorage.Session contentStorage) throws IOException, ServletException {
 		List<OperationRequestPart> parts = new ArrayList<>();
 		for (Part part : servletRequest.getParts()) {
-			parts.add(createOperationRequestPart(part));
+			parts.add(createOperationRequestPart(part, contentStorage));
 		}
 		return parts;
 	}
 
-	private OperationRequestPart createOperationRequestPart(Part part) throws IOException {
+	private OperationRequestPart createOperationRequestPart(Part part, ContentStorage.Session contentStorage)
+			throws IOException {
 		HttpHeaders partHeaders = extractHeaders(part);
 		List<String> contentTypeHeader = partHeaders.get(HttpHeaders.CONTENT_TYPE);
 		if (part.getContentType() != null && contentTypeHeader == null) {
 			partHeaders.setContentType(MediaType.parseMediaType(part.getContentType()));
 		}
-		return new OperationRequestPartFactory().create(part.getName(),
-				StringUtils.hasText(part.getSubmittedFileName()) ? part.getSubmittedFileName() : null,
-				FileCopyUtils.copyToByteArray(part.getInputStream()), partHeaders);
+		try (InputStream content = part.getInputStream()) {
+			return new OperationRequestPartFactory().createFromBuffer(part.getName(),
+					StringUtils.hasText(part.getSubmittedFileName()) ? part.getSubmittedFileName() : null,
+					contentStorage.store(content), partHeaders);
+		}
 	}
 
-	private List<OperationRequestPart> extractMultipartRequestParts(MockMultipartHttpServletRequest multipartRequest)
-			throws IOException {
+	private List<OperationRequestPart> extractMultipartRequestParts(MockMultipartHttpServletRequest multipartRequest,
+			ContentStorage.Session contentStorage) throws IOException {
 		List<OperationRequestPart> parts = new ArrayList<>();
 		for (Entry<String, List<MultipartFile>> entry : multipartRequest.getMultiFileMap().entrySet()) {
 			for (MultipartFile file : entry.getValue()) {
-				parts.add(createOperationRequestPart(file));
+				parts.add(createOperationRequestPart(file, contentStorage));
 			}
 		}
 		return parts;
 	}
 
-	private OperationRequestPart createOperationRequestPart(MultipartFile file) throws IOException {
+	private OperationRequestPart createOperationRequestPart(MultipartFile file, ContentStorage.Session contentStorage)
+			throws IOException {
 		HttpHeaders partHeaders = new HttpHeaders();
 		if (StringUtils.hasText(file.getContentType())) {
 			partHeaders.setContentType(MediaType.parseMediaType(file.getContentType()));
 		}
-		return new OperationRequestPartFactory().create(file.getName(),
-				StringUtils.hasText(file.getOriginalFilename()) ? file.getOriginalFilename() : null, file.getBytes(),
-				partHeaders);
+		try (InputStream content = file.getInputStream()) {
+			return new OperationRequestPartFactory().createFromBuffer(file.getName(),
+					StringUtils.hasText(file.getOriginalFilename()) ? file.getOriginalFilename() : null,
+					contentStorage.store(content), partHeaders);
+		}
 	}
 
 	private HttpHeaders extractHeaders(Part part) {
@@ -26,6 +26,7 @@ import jakarta.servlet.http.Cookie;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.restdocs.operation.ContentStorage;
 import org.springframework.restdocs.operation.OperationResponse;
 import org.springframework.restdocs.operation.OperationResponseFactory;
 import org.springframework.restdocs.operation.ResponseConverter;
@@ -43,10 +44,15 @@ class MockMvcResponseConverter implements ResponseConverter<MockHttpServletRespo
 
 	@Override
 	public OperationResponse convert(MockHttpServletResponse mockResponse) {
+		return convert(mockResponse, ContentStorage.inMemory().open());
+	}
+
+	@Override
+	public OperationResponse convert(MockHttpServletResponse mockResponse, ContentStorage.Session contentStorage) {
 		HttpHeaders headers = extractHeaders(mockResponse);
 		Collection<ResponseCookie> cookies = extractCookies(mockResponse);
-		return new OperationResponseFactory().create(HttpStatusCode.valueOf(mockResponse.getStatus()), headers,
-				mockResponse.getContentAsByteArray(), cookies);
+		return new OperationResponseFactory().createFromBuffer(HttpStatusCode.valueOf(mockResponse.getStatus()),
+				headers, contentStorage.store(mockResponse.getContentAsByteArray()), cookies);
 	}
 
 	private Collection<ResponseCookie> extractCookies(MockHttpServletResponse mockResponse) {
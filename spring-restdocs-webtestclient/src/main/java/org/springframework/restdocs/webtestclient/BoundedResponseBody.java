@@ -0,0 +1,161 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.webtestclient;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+/**
+ * The bounded capture of the body of a streaming response. Only the first events or
+ * bytes of the body, or those that are received within a time limit, are consumed after
+ * which the body is cancelled, keeping the amount of content that is buffered bounded
+ * however large the stream may be.
+ *
+ * @author Andy Wilkinson
+ */
+final class BoundedResponseBody {
+
+	private final int maxEvents;
+
+	private final long maxBytes;
+
+	private final @Nullable Duration maxDuration;
+
+	private final String truncationMarker;
+
+	private final boolean newlineDelimited;
+
+	private volatile long capturedBytes;
+
+	private volatile boolean truncated;
+
+	private int events;
+
+	private boolean lineHasContent;
+
+	private boolean eventHasContent;
+
+	BoundedResponseBody(int maxEvents, long maxBytes, @Nullable Duration maxDuration, String truncationMarker,
+			boolean newlineDelimited) {
+		this.maxEvents = maxEvents;
+		this.maxBytes = maxBytes;
+		this.maxDuration = maxDuration;
+		this.truncationMarker = truncationMarker;
+		this.newlineDelimited = newlineDelimited;
+	}
+
+	Flux<DataBuffer> limit(Flux<DataBuffer> body) {
+		Flux<DataBuffer> limited = body.handle(this::capture);
+		if (this.maxDuration != null) {
+			limited = limited.takeUntilOther(Mono.delay(this.maxDuration).doOnNext((tick) -> this.truncated = true));
+		}
+		return limited;
+	}
+
+	private void capture(DataBuffer buffer, SynchronousSink<DataBuffer> sink) {
+		int start = buffer.readPosition();
+		int end = findEnd(buffer);
+		if (end == -1 || end == buffer.writePosition()) {
+			this.capturedBytes += buffer.readableByteCount();
+			sink.next(buffer);
+			if (end != -1) {
+				this.truncated = true;
+				sink.complete();
+			}
+			return;
+		}
+		this.truncated = true;
+		if (end > start) {
+			byte[] bytes = new byte[end - start];
+			buffer.read(bytes);
+			this.capturedBytes += bytes.length;
+			sink.next(buffer.factory().wrap(bytes));
+		}
+		DataBufferUtils.release(buffer);
+		sink.complete();
+	}
+
+	private int findEnd(DataBuffer buffer) {
+		int start = buffer.readPosition();
+		int end = buffer.writePosition();
+		for (int i = start; i < end; i++) {
+			if (this.capturedBytes + (i - start) >= this.maxBytes) {
+				return i;
+			}
+			if (endsEvent(buffer.getByte(i)) && ++this.events >= this.maxEvents) {
+				return i + 1;
+			}
+		}
+		return (this.capturedBytes + (end - start) >= this.maxBytes) ? end : -1;
+	}
+
+	private boolean endsEvent(byte b) {
+		if (b == '\r') {
+			return false;
+		}
+		if (b != '\n') {
+			this.lineHasContent = true;
+			return false;
+		}
+		boolean blankLine = !this.lineHasContent;
+		this.lineHasContent = false;
+		if (this.newlineDelimited) {
+			return !blankLine;
+		}
+		if (!blankLine) {
+			this.eventHasContent = true;
+			return false;
+		}
+		boolean endOfEvent = this.eventHasContent;
+		this.eventHasContent = false;
+		return endOfEvent;
+	}
+
+	/**
+	 * Applies the bounds of this capture to the given recorded {@code content}, removing
+	 * anything beyond the bounds and, if the body was truncated, appending the truncation
+	 * marker.
+	 * @param content the recorded content
+	 * @return the bounded content
+	 */
+	byte[] apply(byte[] content) {
+		int length = (int) Math.min(content.length, this.capturedBytes);
+		if (!this.truncated && length == content.length) {
+			return content;
+		}
+		ByteArrayOutputStream bounded = new ByteArrayOutputStream(length + this.truncationMarker.length() + 2);
+		bounded.write(content, 0, length);
+		if (this.truncated) {
+			if (length > 0 && content[length - 1] != '\n') {
+				bounded.write('\n');
+			}
+			bounded.writeBytes(this.truncationMarker.getBytes(StandardCharsets.UTF_8));
+			bounded.write('\n');
+		}
+		return bounded.toByteArray();
+	}
+
+}
@@ -37,6 +37,7 @@ import org.springframework.http.codec.multipart.DefaultPartHttpMessageReader;
 import org.springframework.http.codec.multipart.FilePart;
 import org.springframework.http.codec.multipart.MultipartHttpMessageReader;
 import org.springframework.http.codec.multipart.Part;
+import org.springframework.restdocs.operation.ContentStorage;
 import org.springframework.restdocs.operation.OperationRequest;
 import org.springframework.restdocs.operation.OperationRequestFactory;
 import org.springframework.restdocs.operation.OperationRequestPart;
@@ -57,9 +58,16 @@ class WebTestClientRequestConverter implements RequestConverter<ExchangeResult>
 
 	@Override
 	public OperationRequest convert(ExchangeResult result) {
+		return convert(result, ContentStorage.inMemory().open());
+	}
+
+	@Override
+	public OperationRequest convert(ExchangeResult result, ContentStorage.Session contentStorage) {
 		HttpHeaders headers = extractRequestHeaders(result);
-		return new OperationRequestFactory().create(result.getUrl(), result.getMethod(), result.getRequestBodyContent(),
-				headers, extractRequestParts(result), extractCookies(headers));
+		byte[] content = result.getRequestBodyContent();
+		return new OperationRequestFactory().createFromBuffer(result.getUrl(), result.getMethod(),
+				contentStorage.store((content != null) ? content : new byte[0]), headers,
+				extractRequestParts(result, contentStorage), extractCookies(headers));
 	}
 
 	private HttpHeaders extractRequestHeaders(ExchangeResult result) {
@@ -69,7 +77,8 @@ class WebTestClientRequestConverter implements RequestConverter<ExchangeResult>
 		return extracted;
 	}
 
-	private @Nullable List<OperationRequestPart> extractRequestParts(ExchangeResult result) {
+	private @Nullable List<OperationRequestPart> extractRequestParts(ExchangeResult result,
+			ContentStorage.Session contentStorage) {
 		HttpMessageReader<Part> partHttpMessageReader = new DefaultPartHttpMessageReader();
 		return new MultipartHttpMessageReader(partHttpMessageReader)
 			.readMono(ResolvableType.forClass(Part.class), new ExchangeResultReactiveHttpInputMessage(result),
@@ -77,16 +86,16 @@ class WebTestClientRequestConverter implements RequestConverter<ExchangeResult>
 			.onErrorReturn(new LinkedMultiValueMap<>())
 			.map((partsMap) -> partsMap.values()
 				.stream()
-				.flatMap((parts) -> parts.stream().map(this::createOperationRequestPart))
+				.flatMap((parts) -> parts.stream().map((part) -> createOperationRequestPart(part, contentStorage)))
 				.collect(Collectors.toList()))
 			.block();
 	}
 
-	private OperationRequestPart createOperationRequestPart(Part part) {
+	private OperationRequestPart createOperationRequestPart(Part part, ContentStorage.Session contentStorage) {
 		ByteArrayOutputStream content = readPartBodyContent(part);
-		return new OperationRequestPartFactory().create(part.name(),
-				(part instanceof FilePart) ? ((FilePart) part).filename() : null, content.toByteArray(),
-				part.headers());
+		return new OperationRequestPartFactory().createFromBuffer(part.name(),
+				(part instanceof FilePart) ? ((FilePart) part).filename() : null,
+				contentStorage.store(content.toByteArray()), part.headers());
 	}
 
 	private ByteArrayOutputStream readPartBodyContent(Part part) {
@@ -23,6 +23,7 @@ import java.util.stream.Collectors;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.HttpHeaders;
+import org.springframework.restdocs.operation.ContentStorage;
 import org.springframework.restdocs.operation.OperationResponse;
 import org.springframework.restdocs.operation.OperationResponseFactory;
 import org.springframework.restdocs.operation.ResponseConverter;
@@ -39,11 +40,34 @@ import org.springframework.util.StringUtils;
  */
 class WebTestClientResponseConverter implements ResponseConverter<ExchangeResult> {
 
+	private final @Nullable BoundedResponseBody boundedBody;
+
+	WebTestClientResponseConverter() {
+		this(null);
+	}
+
+	WebTestClientResponseConverter(@Nullable BoundedResponseBody boundedBody) {
+		this.boundedBody = boundedBody;
+	}
+
 	@Override
 	public OperationResponse convert(ExchangeResult result) {
+		return convert(result, ContentStorage.inMemory().open());
+	}
+
+	@Override
+	public OperationResponse convert(ExchangeResult result, ContentStorage.Session contentStorage) {
 		Collection<ResponseCookie> cookies = extractCookies(result);
-		return new OperationResponseFactory().create(result.getStatus(), extractHeaders(result),
-				result.getResponseBodyContent(), cookies);
+		return new OperationResponseFactory().createFromBuffer(result.getStatus(), extractHeaders(result),
+				contentStorage.store(extractContent(result)), cookies);
+	}
+
+	private byte[] extractContent(ExchangeResult result) {
+		byte[] content = result.getResponseBodyContent();
+		if (content == null) {
+			return new byte[0];
+		}
+		return (this.boundedBody != null) ? this.boundedBody.apply(content) : content;
 	}
 
 	private HttpHeaders extractHeaders(ExchangeResult result) {
@@ -73,8 +73,11 @@ public abstract class WebTestClientRestDocumentation {
 	 * @see BodyContentSpec#consumeWith(Consumer)
 	 */
 	public static <T extends ExchangeResult> Consumer<T> document(String identifier, Snippet... snippets) {
-		return (result) -> new RestDocumentationGenerator<>(identifier, REQUEST_CONVERTER, RESPONSE_CONVERTER, snippets)
-			.handle(result, result, retrieveConfiguration(result));
+		return (result) -> {
+			Map<String, Object> configuration = retrieveConfiguration(result);
+			new RestDocumentationGenerator<>(identifier, REQUEST_CONVERTER, responseConverter(configuration), snippets)
+				.handle(result, result, configuration);
+		};
 	}
 
 	/**
@@ -90,9 +93,12 @@ public abstract class WebTestClientRestDocumentation {
 	 */
 	public static <T extends ExchangeResult> Consumer<T> document(String identifier,
 			OperationRequestPreprocessor requestPreprocessor, Snippet... snippets) {
-		return (result) -> new RestDocumentationGenerator<>(identifier, REQUEST_CONVERTER, RESPONSE_CONVERTER,
-				requestPreprocessor, snippets)
-			.handle(result, result, retrieveConfiguration(result));
+		return (result) -> {
+			Map<String, Object> configuration = retrieveConfiguration(result);
+			new RestDocumentationGenerator<>(identifier, REQUEST_CONVERTER, responseConverter(configuration),
+					requestPreprocessor, snippets)
+				.handle(result, result, configuration);
+		};
 	}
 
 	/**
@@ -108,9 +114,12 @@ public abstract class WebTestClientRestDocumentation {
 	 */
 	public static <T extends ExchangeResult> Consumer<T> document(String identifier,
 			OperationResponsePreprocessor responsePreprocessor, Snippet... snippets) {
-		return (result) -> new RestDocumentationGenerator<>(identifier, REQUEST_CONVERTER, RESPONSE_CONVERTER,
-				responsePreprocessor, snippets)
-			.handle(result, result, retrieveConfiguration(result));
+		return (result) -> {
+			Map<String, Object> configuration = retrieveConfiguration(result);
+			new RestDocumentationGenerator<>(identifier, REQUEST_CONVERTER, responseConverter(configuration),
+					responsePreprocessor, snippets)
+				.handle(result, result, configuration);
+		};
 	}
 
 	/**
@@ -129,9 +138,18 @@ public abstract class WebTestClientRestDocumentation {
 	public static <T extends ExchangeResult> Consumer<T> document(String identifier,
 			OperationRequestPreprocessor requestPreprocessor, OperationResponsePreprocessor responsePreprocessor,
 			Snippet... snippets) {
-		return (result) -> new RestDocumentationGenerator<>(identifier, REQUEST_CONVERTER, RESPONSE_CONVERTER,
-				requestPreprocessor, responsePreprocessor, snippets)
-			.handle(result, result, retrieveConfiguration(result));
+		return (result) -> {
+			Map<String, Object> configuration = retrieveConfiguration(result);
+			new RestDocumentationGenerator<>(identifier, REQUEST_CONVERTER, responseConverter(configuration),
+					requestPreprocessor, responsePreprocessor, snippets)
+				.handle(result, result, configuration);
+		};
+	}
+
+	private static WebTestClientResponseConverter responseConverter(Map<String, Object> configuration) {
+		BoundedResponseBody boundedBody = (BoundedResponseBody) configuration
+			.remove(BoundedResponseBody.class.getName());
+		return (boundedBody != null) ? new WebTestClientResponseConverter(boundedBody) : RESPONSE_CONVERTER;
 	}
 
 	private static Map<String, Object> retrieveConfiguration(ExchangeResult result) {
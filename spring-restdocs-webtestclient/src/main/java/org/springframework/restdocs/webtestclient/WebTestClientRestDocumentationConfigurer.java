@@ -53,6 +53,9 @@ public class WebTestClientRestDocumentationConfigurer extends
 	private final WebTestClientOperationPreprocessorsConfigurer operationPreprocessorsConfigurer = new WebTestClientOperationPreprocessorsConfigurer(
 			this);
 
+	private final WebTestClientStreamingResponseConfigurer streamingResponseConfigurer = new WebTestClientStreamingResponseConfigurer(
+			this);
+
 	private final RestDocumentationContextProvider contextProvider;
 
 	WebTestClientRestDocumentationConfigurer(RestDocumentationContextProvider contextProvider) {
@@ -69,6 +72,16 @@ public class WebTestClientRestDocumentationConfigurer extends
 		return this.operationPreprocessorsConfigurer;
 	}
 
+	/**
+	 * Returns a {@link WebTestClientStreamingResponseConfigurer} that can be used to
+	 * configure the capture of streaming responses.
+	 * @return the streaming response configurer
+	 * @since 4.1.0
+	 */
+	public WebTestClientStreamingResponseConfigurer streamingResponses() {
+		return this.streamingResponseConfigurer;
+	}
+
 	private Map<String, Object> createConfiguration() {
 		RestDocumentationContext context = this.contextProvider.beforeOperation();
 		Map<String, Object> configuration = new HashMap<>();
@@ -88,8 +101,23 @@ public class WebTestClientRestDocumentationConfigurer extends
 	@Override
 	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
 		String index = request.headers().getFirst(WebTestClient.WEBTESTCLIENT_REQUEST_ID);
-		configurations.put(index, createConfiguration());
-		return next.exchange(applyUriDefaults(request));
+		Map<String, Object> configuration = createConfiguration();
+		configurations.put(index, configuration);
+		Mono<ClientResponse> response = next.exchange(applyUriDefaults(request));
+		if (!this.streamingResponseConfigurer.isBounded()) {
+			return response;
+		}
+		return response.map((clientResponse) -> boundStreamingBody(configuration, clientResponse));
+	}
+
+	private ClientResponse boundStreamingBody(Map<String, Object> configuration, ClientResponse response) {
+		BoundedResponseBody body = this.streamingResponseConfigurer
+			.createBoundedBody(response.headers().contentType().orElse(null));
+		if (body == null) {
+			return response;
+		}
+		configuration.put(BoundedResponseBody.class.getName(), body);
+		return response.mutate().body(body::limit).build();
 	}
 
 	private ClientRequest applyUriDefaults(ClientRequest request) {
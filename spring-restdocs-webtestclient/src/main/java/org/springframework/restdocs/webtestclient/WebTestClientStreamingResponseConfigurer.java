@@ -0,0 +1,146 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.webtestclient;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.config.AbstractNestedConfigurer;
+import org.springframework.util.Assert;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+/**
+ * A configurer that can be used to configure the capture of streaming
+ * ({@code text/event-stream} and {@code application/x-ndjson}) responses. By default, the
+ * entire body of a streaming response is captured. When a limit is configured, only the
+ * first events or bytes of the body, or those that are received within a time limit, are
+ * captured and documented, followed by a marker indicating that the body was truncated.
+ * Capture stops as soon as a limit is reached, so the marker is added whenever a limit is
+ * reached, even if the body would have ended at that point.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ */
+public class WebTestClientStreamingResponseConfigurer extends
+		AbstractNestedConfigurer<WebTestClientRestDocumentationConfigurer> implements ExchangeFilterFunction {
+
+	/**
+	 * The default marker that is appended to a truncated body.
+	 *
+	 * @see #truncationMarker(String)
+	 */
+	public static final String DEFAULT_TRUNCATION_MARKER = "...";
+
+	private int maxEvents = Integer.MAX_VALUE;
+
+	private long maxBytes = Long.MAX_VALUE;
+
+	private @Nullable Duration maxDuration;
+
+	private String truncationMarker = DEFAULT_TRUNCATION_MARKER;
+
+	WebTestClientStreamingResponseConfigurer(WebTestClientRestDocumentationConfigurer parent) {
+		super(parent);
+	}
+
+	/**
+	 * Configures the maximum number of events of a streaming response that will be
+	 * captured.
+	 * @param maxEvents the maximum number of events
+	 * @return {@code this}
+	 */
+	public WebTestClientStreamingResponseConfigurer maxEvents(int maxEvents) {
+		Assert.isTrue(maxEvents > 0, "maxEvents must be greater than zero");
+		this.maxEvents = maxEvents;
+		return this;
+	}
+
+	/**
+	 * Configures the maximum number of bytes of a streaming response that will be
+	 * captured.
+	 * @param maxBytes the maximum number of bytes
+	 * @return {@code this}
+	 */
+	public WebTestClientStreamingResponseConfigurer maxBytes(long maxBytes) {
+		Assert.isTrue(maxBytes > 0, "maxBytes must be greater than zero");
+		this.maxBytes = maxBytes;
+		return this;
+	}
+
+	/**
+	 * Configures the maximum duration for which a streaming response will be captured.
+	 * @param maxDuration the maximum duration
+	 * @return {@code this}
+	 */
+	public WebTestClientStreamingResponseConfigurer maxDuration(Duration maxDuration) {
+		Assert.notNull(maxDuration, "maxDuration must not be null");
+		Assert.isTrue(!maxDuration.isNegative() && !maxDuration.isZero(), "maxDuration must be positive");
+		this.maxDuration = maxDuration;
+		return this;
+	}
+
+	/**
+	 * Configures the marker that is appended, on its own line, to the body of a
+	 * streaming response that was truncated. The default is
+	 * {@value #DEFAULT_TRUNCATION_MARKER}.
+	 * @param truncationMarker the truncation marker
+	 * @return {@code this}
+	 */
+	public WebTestClientStreamingResponseConfigurer truncationMarker(String truncationMarker) {
+		Assert.notNull(truncationMarker, "truncationMarker must not be null");
+		this.truncationMarker = truncationMarker;
+		return this;
+	}
+
+	@Override
+	public void apply(Map<String, Object> configuration, RestDocumentationContext context) {
+		// Limits are applied as each response is received
+	}
+
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+		return and().filter(request, next);
+	}
+
+	boolean isBounded() {
+		return this.maxEvents != Integer.MAX_VALUE || this.maxBytes != Long.MAX_VALUE || this.maxDuration != null;
+	}
+
+	@Nullable BoundedResponseBody createBoundedBody(@Nullable MediaType contentType) {
+		if (contentType == null) {
+			return null;
+		}
+		if (MediaType.TEXT_EVENT_STREAM.isCompatibleWith(contentType)) {
+			return new BoundedResponseBody(this.maxEvents, this.maxBytes, this.maxDuration, this.truncationMarker,
+					false);
+		}
+		if (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+			return new BoundedResponseBody(this.maxEvents, this.maxBytes, this.maxDuration, this.truncationMarker,
+					true);
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.webtestclient;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BoundedResponseBody}.
+ *
+ * @author Andy Wilkinson
+ */
+class BoundedResponseBodyTests {
+
+	@Test
+	void serverSentEventsAreLimitedToMaxEvents() {
+		BoundedResponseBody body = new BoundedResponseBody(2, Long.MAX_VALUE, null, "...", false);
+		String captured = capture(body, "data:a\n", "\ndata:b\n\nda", "ta:c\n\n");
+		assertThat(captured).isEqualTo("data:a\n\ndata:b\n\n");
+		assertThat(applied(body, "data:a\n\ndata:b\n\ndata:c\n\n")).isEqualTo("data:a\n\ndata:b\n\n...\n");
+	}
+
+	@Test
+	void newlineDelimitedJsonIsLimitedToMaxEvents() {
+		BoundedResponseBody body = new BoundedResponseBody(1, Long.MAX_VALUE, null, "...", true);
+		String captured = capture(body, "{\"a\":1}\n{\"b\":2}\n");
+		assertThat(captured).isEqualTo("{\"a\":1}\n");
+		assertThat(applied(body, "{\"a\":1}\n{\"b\":2}\n")).isEqualTo("{\"a\":1}\n...\n");
+	}
+
+	@Test
+	void bodyIsLimitedToMaxBytes() {
+		BoundedResponseBody body = new BoundedResponseBody(Integer.MAX_VALUE, 5, null, "[truncated]", true);
+		String captured = capture(body, "{\"a\":", "1}\n");
+		assertThat(captured).isEqualTo("{\"a\":");
+		assertThat(applied(body, "{\"a\":1}\n")).isEqualTo("{\"a\":\n[truncated]\n");
+	}
+
+	@Test
+	void bodyThatEndsWithinLimitsIsNotTruncated() {
+		BoundedResponseBody body = new BoundedResponseBody(2, Long.MAX_VALUE, null, "...", true);
+		String captured = capture(body, "{\"a\":1}\n");
+		assertThat(captured).isEqualTo("{\"a\":1}\n");
+		assertThat(applied(body, "{\"a\":1}\n")).isEqualTo("{\"a\":1}\n");
+	}
+
+	@Test
+	void captureCompletesWhenMaxEventsIsReachedAtTheEndOfABuffer() {
+		BoundedResponseBody body = new BoundedResponseBody(2, Long.MAX_VALUE, null, "...", false);
+		String captured = capture(body, buffers("data:a\n\n", "data:b\n\n").concatWith(Flux.never()));
+		assertThat(captured).isEqualTo("data:a\n\ndata:b\n\n");
+		assertThat(applied(body, "data:a\n\ndata:b\n\n")).isEqualTo("data:a\n\ndata:b\n\n...\n");
+	}
+
+	@Test
+	void captureCompletesWhenMaxBytesIsReachedAtTheEndOfABuffer() {
+		BoundedResponseBody body = new BoundedResponseBody(Integer.MAX_VALUE, 8, null, "...", true);
+		String captured = capture(body, buffers("{\"a\":1}\n", "{\"b\"").concatWith(Flux.never()));
+		assertThat(captured).isEqualTo("{\"a\":1}\n");
+		assertThat(applied(body, "{\"a\":1}\n")).isEqualTo("{\"a\":1}\n...\n");
+	}
+
+	private String capture(BoundedResponseBody body, String... chunks) {
+		return capture(body, buffers(chunks));
+	}
+
+	private String capture(BoundedResponseBody body, Flux<DataBuffer> buffers) {
+		List<DataBuffer> captured = body.limit(buffers).collectList().block(Duration.ofSeconds(30));
+		StringBuilder content = new StringBuilder();
+		for (DataBuffer buffer : captured) {
+			content.append(buffer.toString(StandardCharsets.UTF_8));
+			DataBufferUtils.release(buffer);
+		}
+		return content.toString();
+	}
+
+	private Flux<DataBuffer> buffers(String... chunks) {
+		return Flux.fromArray(chunks)
+			.map((chunk) -> DefaultDataBufferFactory.sharedInstance.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private String applied(BoundedResponseBody body, String recorded) {
+		return new String(body.apply(recorded.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+	}
+
+}
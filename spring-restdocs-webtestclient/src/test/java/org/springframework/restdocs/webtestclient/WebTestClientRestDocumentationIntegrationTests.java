@@ -21,6 +21,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -33,11 +34,13 @@ import org.assertj.core.api.Condition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import reactor.core.publisher.Flux;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseCookie;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.RestDocumentationExtension;
 import org.springframework.restdocs.templates.TemplateFormat;
@@ -94,7 +97,11 @@ public class WebTestClientRestDocumentationIntegrationTests {
 			.andRoute(RequestPredicates.GET("/set-cookie"),
 					(request) -> ServerResponse.ok()
 						.cookie(ResponseCookie.from("name", "value").domain("localhost").httpOnly(true).build())
-						.build());
+						.build())
+			.andRoute(RequestPredicates.GET("/events"),
+					(request) -> ServerResponse.ok()
+						.body(BodyInserters.fromServerSentEvents(Flux.interval(Duration.ofMillis(10))
+							.map((index) -> ServerSentEvent.builder("event " + index).build()))));
 		this.webTestClient = WebTestClient.bindToRouterFunction(route)
 			.configureClient()
 			.baseUrl("https://api.example.com")
@@ -235,6 +242,28 @@ public class WebTestClientRestDocumentationIntegrationTests {
 						+ "    'Accept:application/json' \\%n" + "    'Cookie:cookieName=cookieVal'"))));
 	}
 
+	@Test
+	void streamingResponseWithBoundedCapture(RestDocumentationContextProvider restDocumentation) throws IOException {
+		File outputDir = new File("build/generated-snippets/bounded-streaming-response");
+		FileSystemUtils.deleteRecursively(outputDir);
+		this.webTestClient.mutate()
+			.filters(List::clear)
+			.filter(documentationConfiguration(restDocumentation).streamingResponses().maxEvents(3))
+			.build()
+			.get()
+			.uri("/events")
+			.exchange()
+			.expectStatus()
+			.isOk()
+			.expectBody()
+			.consumeWith(document("bounded-streaming-response"));
+		String responseBody = FileCopyUtils.copyToString(
+				new InputStreamReader(new FileInputStream(new File(outputDir, "response-body.adoc")),
+						StandardCharsets.UTF_8));
+		assertThat(responseBody).contains("data:event 0", "data:event 1", "data:event 2", "...")
+			.doesNotContain("data:event 3");
+	}
+
 	@Test
 	void illegalStateExceptionShouldBeThrownWhenCallDocumentWebClientNotConfigured() {
 		assertThatThrownBy(() -> this.webTestClient